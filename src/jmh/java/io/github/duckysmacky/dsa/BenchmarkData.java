@@ -0,0 +1,69 @@
+package io.github.duckysmacky.dsa;
+
+import java.util.SplittableRandom;
+
+/// Shared input generation for the JMH benchmarks. All the data is generated from a fixed seed, so that every run of a
+/// benchmark works with exactly the same elements and access patterns and the results can be compared between runs
+public final class BenchmarkData {
+    /// Seed used for every generated sequence
+    public static final long SEED = 0x5EED_D5A_2025L;
+    /// Amount of precomputed indices used by the access pattern benchmarks. Must be a power of two
+    public static final int ACCESS_COUNT = 1 << 12;
+
+    private BenchmarkData() {}
+
+    /// Generates `size` distinct elements of the given type. Supported types are `Integer`, `Long` and `String`.
+    /// Elements are distinct and non-negative (in case of numbers), but are not generated in a sorted order
+    public static Object[] elements(String type, int size) {
+        Object[] elements = new Object[size];
+        int[] order = permutation(size);
+
+        for (int i = 0; i < size; i++) {
+            int value = order[i];
+
+            elements[i] = switch (type) {
+                case "Integer" -> value;
+                case "Long" -> (long) value;
+                case "String" -> "element-" + value;
+                default -> throw new IllegalArgumentException("Unknown element type: " + type);
+            };
+        }
+
+        return elements;
+    }
+
+    /// Generates `ACCESS_COUNT` indices in range `[0, size)` following the given access pattern. Supported patterns
+    /// are `sequential` (`0, 1, 2, ...` wrapping around at `size`) and `random` (uniformly distributed)
+    public static int[] indices(String pattern, int size) {
+        int[] indices = new int[ACCESS_COUNT];
+        SplittableRandom random = new SplittableRandom(SEED);
+
+        for (int i = 0; i < ACCESS_COUNT; i++) {
+            indices[i] = switch (pattern) {
+                case "sequential" -> i % size;
+                case "random" -> random.nextInt(size);
+                default -> throw new IllegalArgumentException("Unknown access pattern: " + pattern);
+            };
+        }
+
+        return indices;
+    }
+
+    /// Generates a random permutation of numbers in range `[0, size)`
+    public static int[] permutation(int size) {
+        int[] permutation = new int[size];
+        SplittableRandom random = new SplittableRandom(SEED);
+
+        for (int i = 0; i < size; i++)
+            permutation[i] = i;
+
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = permutation[i];
+            permutation[i] = permutation[j];
+            permutation[j] = temp;
+        }
+
+        return permutation;
+    }
+}
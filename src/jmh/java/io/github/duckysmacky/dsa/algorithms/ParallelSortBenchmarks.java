@@ -0,0 +1,83 @@
+package io.github.duckysmacky.dsa.algorithms;
+
+import io.github.duckysmacky.dsa.BenchmarkData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/// Benchmarks for `ParallelMergeSort` with a different amount of threads, to show the speedup per core. The sort runs
+/// on a dedicated `ForkJoinPool` of the benchmarked parallelism, and the single-threaded `MergeSort` and
+/// `DualPivotQuickSort` are measured as the baselines. Sizes of `100000000` and more can be passed with `-p size=...`,
+/// but need a bigger heap
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class ParallelSortBenchmarks {
+    @Param({"sequential", "1", "2", "4", "8"})
+    private String threads;
+    @Param({"1000000", "10000000"})
+    private int size;
+    @Param({"int", "Integer"})
+    private String elementType;
+
+    private int[] sourceInts;
+    private int[] ints;
+    private Integer[] sourceObjects;
+    private Integer[] objects;
+    private ForkJoinPool pool;
+    private ParallelMergeSort sort;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        sourceInts = BenchmarkData.permutation(size);
+        ints = sourceInts.clone();
+
+        if (elementType.equals("Integer")) {
+            sourceObjects = new Integer[size];
+            for (int i = 0; i < size; i++)
+                sourceObjects[i] = sourceInts[i];
+            objects = sourceObjects.clone();
+        }
+
+        if (!threads.equals("sequential")) {
+            pool = new ForkJoinPool(Integer.parseInt(threads));
+            sort = new ParallelMergeSort(pool, ParallelMergeSort.DEFAULT_THRESHOLD);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (pool != null)
+            pool.shutdown();
+    }
+
+    @Setup(Level.Invocation)
+    public void restore() {
+        if (elementType.equals("int"))
+            System.arraycopy(sourceInts, 0, ints, 0, size);
+        else
+            System.arraycopy(sourceObjects, 0, objects, 0, size);
+    }
+
+    @Benchmark
+    public Object sort() {
+        if (elementType.equals("int")) {
+            if (sort == null)
+                DualPivotQuickSort.sort(ints);
+            else
+                sort.sort(ints);
+            return ints;
+        }
+
+        if (sort == null)
+            MergeSort.sort(objects, Comparator.naturalOrder());
+        else
+            sort.sort(objects, Comparator.naturalOrder());
+        return objects;
+    }
+}
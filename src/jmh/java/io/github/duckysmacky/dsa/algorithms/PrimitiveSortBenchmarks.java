@@ -0,0 +1,56 @@
+package io.github.duckysmacky.dsa.algorithms;
+
+import io.github.duckysmacky.dsa.BenchmarkData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/// Benchmarks for the primitive sorts over `int[]` arrays, compared against `Arrays.sort()`. The input is restored
+/// before each invocation, so the sizes are kept large enough for that to not skew the results
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PrimitiveSortBenchmarks {
+    @Param({"DualPivotQuickSort", "RadixSort", "HeapSort", "Arrays"})
+    private String algorithm;
+    @Param({"10000", "1000000", "10000000"})
+    private int size;
+    @Param({"random", "fewUnique"})
+    private String input;
+
+    private int[] source;
+    private int[] array;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        source = BenchmarkData.permutation(size);
+
+        if (input.equals("fewUnique")) {
+            for (int i = 0; i < size; i++)
+                source[i] %= 16;
+        }
+
+        array = source.clone();
+    }
+
+    @Setup(Level.Invocation)
+    public void restore() {
+        System.arraycopy(source, 0, array, 0, size);
+    }
+
+    @Benchmark
+    public int[] sort() {
+        switch (algorithm) {
+            case "DualPivotQuickSort" -> DualPivotQuickSort.sort(array);
+            case "RadixSort" -> RadixSort.sort(array);
+            case "HeapSort" -> HeapSort.sort(array);
+            case "Arrays" -> Arrays.sort(array);
+            default -> throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.duckysmacky.dsa.algorithms;
+
+import io.github.duckysmacky.dsa.BenchmarkData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/// Benchmarks for the comparison sorts over arrays of boxed `Integer` elements, compared against `Arrays.sort()`.
+/// The input is restored before each invocation, so the sizes are kept large enough for that to not skew the results
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SortBenchmarks {
+    @Param({"IntroSort", "MergeSort", "HeapSort", "Arrays"})
+    private String algorithm;
+    @Param({"10000", "1000000"})
+    private int size;
+    @Param({"random", "sorted", "fewUnique"})
+    private String input;
+
+    private Integer[] source;
+    private Integer[] array;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        int[] permutation = BenchmarkData.permutation(size);
+        source = new Integer[size];
+
+        for (int i = 0; i < size; i++) {
+            source[i] = switch (input) {
+                case "random" -> permutation[i];
+                case "sorted" -> i;
+                case "fewUnique" -> permutation[i] % 16;
+                default -> throw new IllegalArgumentException("Unknown input: " + input);
+            };
+        }
+
+        array = source.clone();
+    }
+
+    @Setup(Level.Invocation)
+    public void restore() {
+        System.arraycopy(source, 0, array, 0, size);
+    }
+
+    @Benchmark
+    public Integer[] sort() {
+        switch (algorithm) {
+            case "IntroSort" -> IntroSort.sort(array, Comparator.naturalOrder());
+            case "MergeSort" -> MergeSort.sort(array, Comparator.naturalOrder());
+            case "HeapSort" -> HeapSort.sort(array, Comparator.naturalOrder());
+            case "Arrays" -> Arrays.sort(array, Comparator.naturalOrder());
+            default -> throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.duckysmacky.dsa.collections;
+
+import io.github.duckysmacky.dsa.collections.list.ArrayList;
+import io.github.duckysmacky.dsa.collections.queue.ArrayQueue;
+import io.github.duckysmacky.dsa.collections.set.FlatHashSet;
+import io.github.duckysmacky.dsa.collections.set.HashSet;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/// Benchmarks of a simple aggregation (a sum) over the collections with splittable spliterators, comparing a
+/// sequential stream with a parallel one. The parallel stream runs on the common `ForkJoinPool`, so its size can be
+/// changed with `-Djava.util.concurrent.ForkJoinPool.common.parallelism=N`
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class StreamBenchmarks {
+    @Param({"Array", "ArrayList", "ArrayQueue", "HashSet", "FlatHashSet"})
+    private String implementation;
+    @Param({"100000", "10000000", "50000000"})
+    private int size;
+
+    private Collection<Integer> collection;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        collection = switch (implementation) {
+            case "Array" -> {
+                Array<Integer> array = new Array<>(size);
+                for (int i = 0; i < size; i++)
+                    array.set(i, i);
+                yield array;
+            }
+            case "ArrayList" -> {
+                ArrayList<Integer> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++)
+                    list.add(i);
+                yield list;
+            }
+            case "ArrayQueue" -> {
+                ArrayQueue<Integer> queue = new ArrayQueue<>(size);
+                for (int i = 0; i < size; i++)
+                    queue.add(i);
+                yield queue;
+            }
+            case "HashSet" -> {
+                HashSet<Integer> set = new HashSet<>(size * 2);
+                for (int i = 0; i < size; i++)
+                    set.add(i);
+                yield set;
+            }
+            case "FlatHashSet" -> {
+                FlatHashSet<Integer> set = new FlatHashSet<>(size * 2);
+                for (int i = 0; i < size; i++)
+                    set.add(i);
+                yield set;
+            }
+            default -> throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        };
+    }
+
+    @Benchmark
+    public long sequentialSum() {
+        return collection.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallelSum() {
+        return collection.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.duckysmacky.dsa.collections.cache;
+
+import io.github.duckysmacky.dsa.BenchmarkData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/// Benchmarks for `LruCache` and `LfuCache`. The keys are drawn from a key space twice as large as the capacity of the
+/// cache, so about half of the lookups miss and are followed by a put which evicts another entry
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CacheBenchmarks {
+    @Param({"1000", "100000"})
+    private int capacity;
+    @Param({"LruCache", "LfuCache"})
+    private String implementation;
+
+    private Object[] keys;
+    private int[] indices;
+    private int cursor;
+    private Cache<Object, Object> cache;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        keys = BenchmarkData.elements("Integer", capacity * 2);
+        indices = BenchmarkData.indices("random", capacity * 2);
+        cache = switch (implementation) {
+            case "LruCache" -> new LruCache<>(capacity);
+            case "LfuCache" -> new LfuCache<>(capacity);
+            default -> throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        };
+
+        for (int i = 0; i < capacity; i++)
+            cache.put(keys[i], keys[i]);
+    }
+
+    /// Looks up a key and puts it into the cache on a miss
+    @Benchmark
+    public Object getOrPut() {
+        Object key = keys[indices[cursor++ & (BenchmarkData.ACCESS_COUNT - 1)]];
+        Object value = cache.get(key);
+
+        if (value == null) {
+            cache.put(key, key);
+            return key;
+        }
+
+        return value;
+    }
+}
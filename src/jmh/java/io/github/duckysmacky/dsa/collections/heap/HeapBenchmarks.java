@@ -0,0 +1,60 @@
+package io.github.duckysmacky.dsa.collections.heap;
+
+import io.github.duckysmacky.dsa.BenchmarkData;
+import io.github.duckysmacky.dsa.collections.list.ArrayList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/// Benchmarks for `Heap`, for both min-heap and max-heap types
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class HeapBenchmarks {
+    @Param({"min", "max"})
+    private String type;
+    @Param({"100", "10000", "1000000", "10000000"})
+    private int size;
+    @Param({"Integer", "String"})
+    private String elementType;
+
+    private Object[] elements;
+    private int cursor;
+    private Heap heap;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        elements = BenchmarkData.elements(elementType, size);
+        heap = heapify();
+    }
+
+    /// Creates a new heap of the benchmarked type out of all the generated elements
+    private Heap heapify() {
+        ArrayList list = new ArrayList(size);
+
+        for (Object element : elements)
+            list.add(element);
+
+        return type.equals("min") ? Heap.minHeapify(list) : Heap.maxHeapify(list);
+    }
+
+    @Benchmark
+    public Heap heapifyAll() {
+        return heapify();
+    }
+
+    @Benchmark
+    public Object peek() {
+        return heap.peek();
+    }
+
+    @Benchmark
+    public Object addRemove() {
+        heap.add((Comparable) elements[cursor++ % size]);
+        return heap.remove();
+    }
+}
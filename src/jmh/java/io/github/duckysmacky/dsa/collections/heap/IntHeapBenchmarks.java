@@ -0,0 +1,60 @@
+package io.github.duckysmacky.dsa.collections.heap;
+
+import io.github.duckysmacky.dsa.BenchmarkData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/// Benchmarks for `IntHeap`, mirroring the ones in `HeapBenchmarks`, plus handle-based updates of an indexed heap
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class IntHeapBenchmarks {
+    @Param({"min", "max"})
+    private String type;
+    @Param({"100", "10000", "1000000", "10000000"})
+    private int size;
+
+    private int[] values;
+    private int[] handles;
+    private int cursor;
+    private IntHeap heap;
+    private IntHeap indexedHeap;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        values = BenchmarkData.permutation(size);
+        heap = heapify();
+
+        indexedHeap = type.equals("min") ? IntHeap.indexedMinHeap(size) : IntHeap.indexedMaxHeap(size);
+        handles = new int[size];
+        for (int i = 0; i < size; i++)
+            handles[i] = indexedHeap.add(values[i]);
+    }
+
+    /// Creates a new heap of the benchmarked type out of all the generated values
+    private IntHeap heapify() {
+        return type.equals("min") ? IntHeap.minHeapify(values) : IntHeap.maxHeapify(values);
+    }
+
+    @Benchmark
+    public IntHeap heapifyAll() {
+        return heapify();
+    }
+
+    @Benchmark
+    public int addRemove() {
+        heap.add(values[cursor++ % size]);
+        return heap.remove();
+    }
+
+    /// Moves a random value of the indexed heap to a new random place
+    @Benchmark
+    public void update() {
+        int i = cursor++ % size;
+        indexedHeap.update(handles[i], values[size - 1 - i]);
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.duckysmacky.dsa.collections.list;
+
+import io.github.duckysmacky.dsa.BenchmarkData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/// Benchmarks for the `ArrayList` growth policies. Measures filling a list element by element with each policy, as
+/// well as with the capacity reserved upfront through `ensureCapacity()`
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ArrayListGrowthBenchmarks {
+    @Param({"doubling", "oneAndHalf", "increment", "ensureCapacity"})
+    private String policy;
+    @Param({"100", "10000", "1000000"})
+    private int size;
+
+    private Object[] elements;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        elements = BenchmarkData.elements("Integer", size);
+    }
+
+    @Benchmark
+    public ArrayList<Object> fill() {
+        ArrayList<Object> list = switch (policy) {
+            case "doubling" -> new ArrayList<>(16, GrowthPolicy.doubling());
+            case "oneAndHalf" -> new ArrayList<>(16, GrowthPolicy.oneAndHalf());
+            case "increment" -> new ArrayList<>(16, GrowthPolicy.increment(1024));
+            case "ensureCapacity" -> new ArrayList<>();
+            default -> throw new IllegalArgumentException("Unknown policy: " + policy);
+        };
+
+        if (policy.equals("ensureCapacity"))
+            list.ensureCapacity(size);
+
+        for (Object element : elements)
+            list.add(element);
+
+        return list;
+    }
+}
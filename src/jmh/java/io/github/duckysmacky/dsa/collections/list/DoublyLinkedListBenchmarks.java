@@ -0,0 +1,89 @@
+package io.github.duckysmacky.dsa.collections.list;
+
+import io.github.duckysmacky.dsa.BenchmarkData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/// Benchmarks for `DoublyLinkedList`. They mirror the ones in `ListBenchmarks`, and add the `O(1)` node handle
+/// operations which the other lists don't have
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class DoublyLinkedListBenchmarks {
+    @Param({"100", "10000", "1000000", "10000000"})
+    private int size;
+    @Param({"Integer", "String"})
+    private String elementType;
+    @Param({"sequential", "random"})
+    private String accessPattern;
+
+    private Object[] elements;
+    private int[] indices;
+    private int cursor;
+    private DoublyLinkedList<Object> list;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        elements = BenchmarkData.elements(elementType, size);
+        indices = BenchmarkData.indices(accessPattern, size);
+        list = fill();
+    }
+
+    /// Creates a new list filled with all the generated elements
+    private DoublyLinkedList<Object> fill() {
+        DoublyLinkedList<Object> list = new DoublyLinkedList<>();
+
+        for (Object element : elements)
+            list.addLast(element);
+
+        return list;
+    }
+
+    /// Returns the next index of the access pattern. The first and the last indices are skipped, as they are handled
+    /// by separate code paths
+    private int nextIndex() {
+        int index = indices[cursor++ & (BenchmarkData.ACCESS_COUNT - 1)];
+        return Math.min(Math.max(index, 1), size - 2);
+    }
+
+    @Benchmark
+    public DoublyLinkedList<Object> add() {
+        return fill();
+    }
+
+    @Benchmark
+    public Object get() {
+        return list.get(nextIndex());
+    }
+
+    @Benchmark
+    public void set() {
+        int index = nextIndex();
+        list.set(index, elements[index]);
+    }
+
+    @Benchmark
+    public Object addRemoveLast() {
+        list.addLast(elements[0]);
+        return list.removeLast();
+    }
+
+    @Benchmark
+    public Object addRemoveAt() {
+        int index = nextIndex();
+        list.add(index, elements[index]);
+        return list.remove(index);
+    }
+
+    /// Unlinks the node at the access pattern index and moves it to the front, like a cache does on every hit
+    @Benchmark
+    public Object moveToFirst() {
+        DoublyLinkedList.Node<Object> node = list.nodeAt(nextIndex());
+        list.moveToFirst(node);
+        return node.getData();
+    }
+}
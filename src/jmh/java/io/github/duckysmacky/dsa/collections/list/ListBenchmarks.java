@@ -0,0 +1,85 @@
+package io.github.duckysmacky.dsa.collections.list;
+
+import io.github.duckysmacky.dsa.BenchmarkData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/// Benchmarks for the `List` implementations: `ArrayList` and `LinkedList`. Each benchmark is run for every
+/// implementation, list size, element type and access pattern
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ListBenchmarks {
+    @Param({"ArrayList", "LinkedList"})
+    private String implementation;
+    @Param({"100", "10000", "1000000", "10000000"})
+    private int size;
+    @Param({"Integer", "String"})
+    private String elementType;
+    @Param({"sequential", "random"})
+    private String accessPattern;
+
+    private Object[] elements;
+    private int[] indices;
+    private int cursor;
+    private List<Object> list;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        elements = BenchmarkData.elements(elementType, size);
+        indices = BenchmarkData.indices(accessPattern, size);
+        list = fill();
+    }
+
+    /// Creates a new list of the benchmarked implementation filled with all the generated elements
+    private List<Object> fill() {
+        List<Object> list = switch (implementation) {
+            case "ArrayList" -> new ArrayList<>();
+            case "LinkedList" -> new LinkedList<>();
+            default -> throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        };
+
+        for (Object element : elements)
+            list.add(element);
+
+        return list;
+    }
+
+    /// Returns the next index of the access pattern
+    private int nextIndex() {
+        return indices[cursor++ & (BenchmarkData.ACCESS_COUNT - 1)];
+    }
+
+    @Benchmark
+    public List<Object> add() {
+        return fill();
+    }
+
+    @Benchmark
+    public Object get() {
+        return list.get(nextIndex());
+    }
+
+    @Benchmark
+    public void set() {
+        int index = nextIndex();
+        list.set(index, elements[index]);
+    }
+
+    @Benchmark
+    public Object addRemoveLast() {
+        list.add(elements[0]);
+        return list.remove();
+    }
+
+    @Benchmark
+    public Object addRemoveAt() {
+        int index = Math.max(nextIndex(), 1);
+        list.add(index, elements[index]);
+        return list.remove(index);
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.duckysmacky.dsa.collections.map;
+
+import io.github.duckysmacky.dsa.BenchmarkData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/// Throughput benchmarks for `ConcurrentHashMap` against a `HashMap` guarded by a single monitor. Every thread works on
+/// the same shared map, so the amount of contention is set with the JMH thread count, which can be changed with `-t`
+/// (e.g. `-PjmhArgs="ConcurrentHashMapBenchmarks -t 64"`) to measure the scaling from 1 to 64 threads
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Threads(4)
+public class ConcurrentHashMapBenchmarks {
+    private static final int KEYS = 1 << 16;
+
+    @Param({"ConcurrentHashMap", "SynchronizedHashMap"})
+    private String implementation;
+
+    private Object[] keys;
+    private Map<Object, Object> map;
+    /// Whether every operation on the map has to be done while holding its monitor
+    private boolean synchronize;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        keys = BenchmarkData.elements("Integer", KEYS);
+        map = switch (implementation) {
+            case "ConcurrentHashMap" -> new ConcurrentHashMap<>();
+            case "SynchronizedHashMap" -> new HashMap<>();
+            default -> throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        };
+        synchronize = map instanceof HashMap;
+
+        for (Object key : keys)
+            map.put(key, key);
+    }
+
+    /// Access pattern of a single benchmark thread, so that the threads don't go over the keys in lockstep
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int[] indices;
+        private int index;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            indices = BenchmarkData.indices("random", KEYS);
+            index = ThreadLocalRandom.current().nextInt(BenchmarkData.ACCESS_COUNT);
+        }
+
+        private int next() {
+            return indices[index++ & (BenchmarkData.ACCESS_COUNT - 1)];
+        }
+    }
+
+    /// Read-only workload
+    @Benchmark
+    public Object get(Cursor cursor) {
+        Object key = keys[cursor.next()];
+
+        if (synchronize) {
+            synchronized (map) {
+                return map.get(key);
+            }
+        }
+
+        return map.get(key);
+    }
+
+    /// Mixed workload, where every fourth operation also writes the key before reading it
+    @Benchmark
+    public Object getPut(Cursor cursor) {
+        int index = cursor.next();
+        Object key = keys[index];
+
+        if (synchronize) {
+            synchronized (map) {
+                if ((index & 3) == 0)
+                    map.put(key, key);
+                return map.get(key);
+            }
+        }
+
+        if ((index & 3) == 0)
+            map.put(key, key);
+        return map.get(key);
+    }
+}
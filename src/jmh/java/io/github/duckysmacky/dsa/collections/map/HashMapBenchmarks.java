@@ -0,0 +1,78 @@
+package io.github.duckysmacky.dsa.collections.map;
+
+import io.github.duckysmacky.dsa.BenchmarkData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/// Benchmarks for `HashMap`. Lookups are measured both for the keys which are present in the map (hits) and for the
+/// ones which are not (misses)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class HashMapBenchmarks {
+    @Param({"100", "10000", "1000000", "10000000"})
+    private int size;
+    @Param({"Integer", "String"})
+    private String elementType;
+    @Param({"sequential", "random"})
+    private String accessPattern;
+
+    private Object[] keys;
+    private Object[] missing;
+    private int[] indices;
+    private int cursor;
+    private HashMap<Object, Object> map;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        keys = BenchmarkData.elements(elementType, size);
+        indices = BenchmarkData.indices(accessPattern, size);
+        missing = new Object[size];
+
+        for (int i = 0; i < size; i++)
+            missing[i] = elementType.equals("String") ? (Object) ("missing-" + i) : (Object) (size + i);
+
+        map = fill();
+    }
+
+    /// Creates a new map filled with all the generated keys
+    private HashMap<Object, Object> fill() {
+        HashMap<Object, Object> map = new HashMap<>();
+
+        for (Object key : keys)
+            map.put(key, key);
+
+        return map;
+    }
+
+    /// Returns the next index of the access pattern
+    private int nextIndex() {
+        return indices[cursor++ & (BenchmarkData.ACCESS_COUNT - 1)];
+    }
+
+    @Benchmark
+    public HashMap<Object, Object> put() {
+        return fill();
+    }
+
+    @Benchmark
+    public Object getHit() {
+        return map.get(keys[nextIndex()]);
+    }
+
+    @Benchmark
+    public Object getMiss() {
+        return map.get(missing[nextIndex()]);
+    }
+
+    @Benchmark
+    public void removePut() {
+        Object key = keys[nextIndex()];
+        map.remove(key);
+        map.put(key, key);
+    }
+}
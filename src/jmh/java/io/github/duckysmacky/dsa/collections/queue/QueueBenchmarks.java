@@ -0,0 +1,77 @@
+package io.github.duckysmacky.dsa.collections.queue;
+
+import io.github.duckysmacky.dsa.BenchmarkData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/// Benchmarks for the `Queue` implementations: `ArrayQueue`, `LinkedQueue`, `ArrayDeque`, the ring buffers and the
+/// blocking queues
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class QueueBenchmarks {
+    @Param({"ArrayQueue", "LinkedQueue", "ArrayDeque", "SpscRingBuffer", "MpscRingBuffer", "ArrayBlockingQueue",
+        "LinkedBlockingQueue"})
+    private String implementation;
+    @Param({"100", "10000", "1000000", "10000000"})
+    private int size;
+    @Param({"Integer", "String"})
+    private String elementType;
+
+    private Object[] elements;
+    private int cursor;
+    private Queue<Object> queue;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        elements = BenchmarkData.elements(elementType, size);
+        queue = create();
+
+        for (int i = 0; i < size / 2; i++)
+            queue.add(elements[i]);
+    }
+
+    /// Creates a new empty queue of the benchmarked implementation which can hold all the generated elements
+    private Queue<Object> create() {
+        return switch (implementation) {
+            case "ArrayQueue" -> new ArrayQueue<>(size);
+            case "LinkedQueue" -> new LinkedQueue<>();
+            case "ArrayDeque" -> new ArrayDeque<>();
+            case "SpscRingBuffer" -> new SpscRingBuffer<>(size);
+            case "MpscRingBuffer" -> new MpscRingBuffer<>(size);
+            case "ArrayBlockingQueue" -> new ArrayBlockingQueue<>(size);
+            case "LinkedBlockingQueue" -> new LinkedBlockingQueue<>();
+            default -> throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        };
+    }
+
+    /// Fills a new queue with all the generated elements and then drains it
+    @Benchmark
+    public Queue<Object> fillDrain() {
+        Queue<Object> queue = create();
+
+        for (Object element : elements)
+            queue.offer(element);
+
+        while (!queue.isEmpty())
+            queue.poll();
+
+        return queue;
+    }
+
+    /// Steady state enqueueing and dequeueing on a half-full queue
+    @Benchmark
+    public Object offerPoll() {
+        queue.offer(elements[cursor++ % size]);
+        return queue.poll();
+    }
+
+    @Benchmark
+    public Object peek() {
+        return queue.peek();
+    }
+}
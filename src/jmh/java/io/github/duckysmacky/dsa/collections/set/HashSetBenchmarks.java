@@ -0,0 +1,106 @@
+package io.github.duckysmacky.dsa.collections.set;
+
+import io.github.duckysmacky.dsa.BenchmarkData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/// Benchmarks for the hash-based `Set` implementations: `HashSet` (resizing at once or incrementally) and
+/// `FlatHashSet`. Lookups are measured both for the elements which are present in the set (hits) and for the ones
+/// which are not (misses)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class HashSetBenchmarks {
+    @Param({"HashSet", "IncrementalHashSet", "FlatHashSet"})
+    private String implementation;
+    @Param({"100", "10000", "1000000", "10000000"})
+    private int size;
+    @Param({"Integer", "Long"})
+    private String elementType;
+    @Param({"sequential", "random"})
+    private String accessPattern;
+
+    private Object[] elements;
+    private Object[] missing;
+    private int[] indices;
+    private int cursor;
+    private Set<Object> set;
+    private Set<Object> growing;
+    private int growingIndex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        elements = BenchmarkData.elements(elementType, size);
+        indices = BenchmarkData.indices(accessPattern, size);
+        missing = new Object[size];
+
+        for (int i = 0; i < size; i++)
+            missing[i] = elementType.equals("Long") ? (Object) (long) (size + i) : (Object) (size + i);
+
+        set = fill();
+    }
+
+    /// Creates a new empty set of the benchmarked implementation
+    private Set<Object> newSet() {
+        return switch (implementation) {
+            case "HashSet" -> new HashSet<>();
+            case "IncrementalHashSet" -> new HashSet<>(10, 0.75d, true);
+            case "FlatHashSet" -> new FlatHashSet<>();
+            default -> throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        };
+    }
+
+    /// Creates a new set of the benchmarked implementation filled with all the generated elements
+    private Set<Object> fill() {
+        Set<Object> set = newSet();
+
+        for (Object element : elements)
+            set.add(element);
+
+        return set;
+    }
+
+    /// Returns the next index of the access pattern
+    private int nextIndex() {
+        return indices[cursor++ & (BenchmarkData.ACCESS_COUNT - 1)];
+    }
+
+    @Benchmark
+    public Set<Object> add() {
+        return fill();
+    }
+
+    /// Samples the latency of every single `add()` while filling a set, so that the percentiles show the pauses of the
+    /// resizes, which the average time of `add()` hides. The set is recreated once all the generated elements are added
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public void addLatency() {
+        if (growing == null || growingIndex == size) {
+            growing = newSet();
+            growingIndex = 0;
+        }
+
+        growing.add(elements[growingIndex++]);
+    }
+
+    @Benchmark
+    public boolean containsHit() {
+        return set.contains(elements[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean containsMiss() {
+        return set.contains(missing[nextIndex()]);
+    }
+
+    @Benchmark
+    public void removeAdd() {
+        Object element = elements[nextIndex()];
+        set.remove(element);
+        set.add(element);
+    }
+}
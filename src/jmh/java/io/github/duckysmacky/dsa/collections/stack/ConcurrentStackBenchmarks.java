@@ -0,0 +1,67 @@
+package io.github.duckysmacky.dsa.collections.stack;
+
+import io.github.duckysmacky.dsa.BenchmarkData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/// Benchmarks for `ConcurrentStack` under contention, with and without the elimination array, against a `LinkedStack`
+/// guarded by a single monitor. Every thread pushes and pops on the same shared stack, so the amount of contention is
+/// set with the JMH thread count, which can be changed with `-t`
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Threads(4)
+public class ConcurrentStackBenchmarks {
+    private static final int ELEMENTS = 1024;
+
+    @Param({"ConcurrentStack", "ConcurrentStackElimination", "SynchronizedLinkedStack"})
+    private String implementation;
+
+    private Object[] elements;
+    private Stack<Object> stack;
+    /// Whether every operation on the stack has to be done while holding its monitor
+    private boolean synchronize;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        elements = BenchmarkData.elements("Integer", ELEMENTS);
+        stack = switch (implementation) {
+            case "ConcurrentStack" -> new ConcurrentStack<>();
+            case "ConcurrentStackElimination" -> new ConcurrentStack<>(Runtime.getRuntime().availableProcessors());
+            case "SynchronizedLinkedStack" -> new LinkedStack<>();
+            default -> throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        };
+        synchronize = stack instanceof LinkedStack;
+
+        for (int i = 0; i < ELEMENTS / 2; i++)
+            stack.push(elements[i]);
+    }
+
+    /// Position of a single benchmark thread in the generated elements
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int index;
+    }
+
+    /// Steady state pushing and popping on a shared, half-full stack
+    @Benchmark
+    public Object pushPop(Cursor cursor) {
+        Object element = elements[cursor.index++ & (ELEMENTS - 1)];
+
+        if (synchronize) {
+            synchronized (stack) {
+                stack.push(element);
+            }
+            synchronized (stack) {
+                return stack.poll();
+            }
+        }
+
+        stack.push(element);
+        return stack.poll();
+    }
+}
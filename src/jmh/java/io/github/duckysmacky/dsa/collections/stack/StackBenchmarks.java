@@ -0,0 +1,70 @@
+package io.github.duckysmacky.dsa.collections.stack;
+
+import io.github.duckysmacky.dsa.BenchmarkData;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/// Benchmarks for the `Stack` implementations: `ArrayStack` and `LinkedStack`
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class StackBenchmarks {
+    @Param({"ArrayStack", "LinkedStack"})
+    private String implementation;
+    @Param({"100", "10000", "1000000", "10000000"})
+    private int size;
+    @Param({"Integer", "String"})
+    private String elementType;
+
+    private Object[] elements;
+    private int cursor;
+    private Stack<Object> stack;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        elements = BenchmarkData.elements(elementType, size);
+        stack = create();
+
+        for (int i = 0; i < size / 2; i++)
+            stack.push(elements[i]);
+    }
+
+    /// Creates a new empty stack of the benchmarked implementation which can hold all the generated elements
+    private Stack<Object> create() {
+        return switch (implementation) {
+            case "ArrayStack" -> new ArrayStack<>(size);
+            case "LinkedStack" -> new LinkedStack<>();
+            default -> throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        };
+    }
+
+    /// Fills a new stack with all the generated elements and then drains it
+    @Benchmark
+    public Stack<Object> fillDrain() {
+        Stack<Object> stack = create();
+
+        for (Object element : elements)
+            stack.offer(element);
+
+        while (!stack.isEmpty())
+            stack.poll();
+
+        return stack;
+    }
+
+    /// Steady state pushing and popping on a half-full stack
+    @Benchmark
+    public Object pushPop() {
+        stack.offer(elements[cursor++ % size]);
+        return stack.poll();
+    }
+
+    @Benchmark
+    public Object peek() {
+        return stack.peek();
+    }
+}
@@ -0,0 +1,201 @@
+package io.github.duckysmacky.dsa.algorithms;
+
+/// Dual-pivot quicksort implementation for primitive arrays, after Vladimir Yaroslavskiy. Sorts the values in-place,
+/// without allocating any additional memory.
+///
+/// Instead of a single pivot, each step picks two pivots from a sorted sample of five elements and splits the range
+/// into three parts: the values less than the first pivot, the values between the pivots, and the values greater than
+/// the second pivot. This makes fewer swaps and uses the CPU cache better than a classic quicksort. Since primitive
+/// values that are equal are indistinguishable, the sort not being stable does not matter.
+///
+/// The expected running time is `O(n log n)`. Small ranges are finished with an insertion sort.
+public final class DualPivotQuickSort {
+    /// Ranges smaller than this are sorted with an insertion sort
+    private static final int INSERTION_THRESHOLD = 47;
+
+    private DualPivotQuickSort() {}
+
+    /// Sorts the array in ascending order
+    public static void sort(int[] array) {
+        sort(array, 0, array.length);
+    }
+
+    /// Sorts the range `[from, to)` of the array in ascending order
+    ///
+    /// @throws IllegalArgumentException if `from` is greater than `to`
+    /// @throws ArrayIndexOutOfBoundsException if the range is out of bounds of the array
+    public static void sort(int[] array, int from, int to) {
+        Sorting.checkRange(array.length, from, to);
+        quickSort(array, from, to - 1);
+    }
+
+    /// Sorts the inclusive range `[left, right]` of the array
+    private static void quickSort(int[] array, int left, int right) {
+        int length = right - left + 1;
+        if (length < INSERTION_THRESHOLD) {
+            Sorting.insertionSort(array, left, right + 1);
+            return;
+        }
+
+        // Sort five evenly spaced elements and take the second and the fourth of them as the pivots
+        int seventh = (length >> 3) + (length >> 6) + 1;
+        int e3 = (left + right) >>> 1;
+        int e2 = e3 - seventh;
+        int e1 = e2 - seventh;
+        int e4 = e3 + seventh;
+        int e5 = e4 + seventh;
+        sortSample(array, e1, e2, e3, e4, e5);
+
+        Sorting.swap(array, e2, left);
+        Sorting.swap(array, e4, right);
+        int pivot1 = array[left];
+        int pivot2 = array[right];
+
+        int less = left + 1;
+        int great = right - 1;
+
+        for (int k = less; k <= great; k++) {
+            int value = array[k];
+
+            if (value < pivot1) {
+                array[k] = array[less];
+                array[less++] = value;
+            } else if (value > pivot2) {
+                while (array[great] > pivot2 && k < great)
+                    great--;
+
+                array[k] = array[great];
+                array[great--] = value;
+
+                value = array[k];
+                if (value < pivot1) {
+                    array[k] = array[less];
+                    array[less++] = value;
+                }
+            }
+        }
+
+        array[left] = array[less - 1];
+        array[less - 1] = pivot1;
+        array[right] = array[great + 1];
+        array[great + 1] = pivot2;
+
+        quickSort(array, left, less - 2);
+        quickSort(array, great + 2, right);
+
+        // If the pivots are equal, all the values between them are equal as well
+        if (pivot1 < pivot2)
+            quickSort(array, less, great);
+    }
+
+    /// Sorts the values at the five provided indices with an optimal sorting network of nine comparisons
+    private static void sortSample(int[] array, int e1, int e2, int e3, int e4, int e5) {
+        sortPair(array, e1, e2);
+        sortPair(array, e4, e5);
+        sortPair(array, e3, e5);
+        sortPair(array, e3, e4);
+        sortPair(array, e1, e4);
+        sortPair(array, e1, e3);
+        sortPair(array, e2, e5);
+        sortPair(array, e2, e4);
+        sortPair(array, e2, e3);
+    }
+
+    /// Swaps the values at the two indices if they are out of order
+    private static void sortPair(int[] array, int i, int j) {
+        if (array[i] > array[j])
+            Sorting.swap(array, i, j);
+    }
+
+    /// Sorts the array in ascending order
+    public static void sort(long[] array) {
+        sort(array, 0, array.length);
+    }
+
+    /// Sorts the range `[from, to)` of the array in ascending order
+    ///
+    /// @throws IllegalArgumentException if `from` is greater than `to`
+    /// @throws ArrayIndexOutOfBoundsException if the range is out of bounds of the array
+    public static void sort(long[] array, int from, int to) {
+        Sorting.checkRange(array.length, from, to);
+        quickSort(array, from, to - 1);
+    }
+
+    /// Sorts the inclusive range `[left, right]` of the array
+    private static void quickSort(long[] array, int left, int right) {
+        int length = right - left + 1;
+        if (length < INSERTION_THRESHOLD) {
+            Sorting.insertionSort(array, left, right + 1);
+            return;
+        }
+
+        // Sort five evenly spaced elements and take the second and the fourth of them as the pivots
+        int seventh = (length >> 3) + (length >> 6) + 1;
+        int e3 = (left + right) >>> 1;
+        int e2 = e3 - seventh;
+        int e1 = e2 - seventh;
+        int e4 = e3 + seventh;
+        int e5 = e4 + seventh;
+        sortSample(array, e1, e2, e3, e4, e5);
+
+        Sorting.swap(array, e2, left);
+        Sorting.swap(array, e4, right);
+        long pivot1 = array[left];
+        long pivot2 = array[right];
+
+        int less = left + 1;
+        int great = right - 1;
+
+        for (int k = less; k <= great; k++) {
+            long value = array[k];
+
+            if (value < pivot1) {
+                array[k] = array[less];
+                array[less++] = value;
+            } else if (value > pivot2) {
+                while (array[great] > pivot2 && k < great)
+                    great--;
+
+                array[k] = array[great];
+                array[great--] = value;
+
+                value = array[k];
+                if (value < pivot1) {
+                    array[k] = array[less];
+                    array[less++] = value;
+                }
+            }
+        }
+
+        array[left] = array[less - 1];
+        array[less - 1] = pivot1;
+        array[right] = array[great + 1];
+        array[great + 1] = pivot2;
+
+        quickSort(array, left, less - 2);
+        quickSort(array, great + 2, right);
+
+        // If the pivots are equal, all the values between them are equal as well
+        if (pivot1 < pivot2)
+            quickSort(array, less, great);
+    }
+
+    /// Sorts the values at the five provided indices with an optimal sorting network of nine comparisons
+    private static void sortSample(long[] array, int e1, int e2, int e3, int e4, int e5) {
+        sortPair(array, e1, e2);
+        sortPair(array, e4, e5);
+        sortPair(array, e3, e5);
+        sortPair(array, e3, e4);
+        sortPair(array, e1, e4);
+        sortPair(array, e1, e3);
+        sortPair(array, e2, e5);
+        sortPair(array, e2, e4);
+        sortPair(array, e2, e3);
+    }
+
+    /// Swaps the values at the two indices if they are out of order
+    private static void sortPair(long[] array, int i, int j) {
+        if (array[i] > array[j])
+            Sorting.swap(array, i, j);
+    }
+}
@@ -1,38 +1,351 @@
 package io.github.duckysmacky.dsa.algorithms;
 
-import io.github.duckysmacky.dsa.collections.heap.Heap;
+import io.github.duckysmacky.dsa.collections.Array;
+import io.github.duckysmacky.dsa.collections.list.ArrayList;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 
-/// Heapsort algorithm implementation
+/// Heapsort algorithm implementation. Sorts the elements in-place, without allocating any additional memory.
+///
+/// The range is first rearranged into a binary max heap, which is a `O(n)` operation, and then the largest element is
+/// repeatedly swapped to the end of the range and the heap is restored, which makes the whole sort `O(n log n)` in
+/// every case. The sort is **not stable**: equal elements may change their relative order.
+///
+/// A partial sort is also provided, which only puts the `k` smallest elements in order at the start of the range. It
+/// builds a min heap which is laid out backwards from the end of the range, so that each extraction lands right after
+/// the previous one, and stops after `k` extractions, which makes it a `O(n + k log n)` operation.
 public final class HeapSort {
 
     private HeapSort() {}
 
+    /// Sorts the array in ascending order of its elements
+    public static <T extends Comparable<? super T>> void sort(T[] array) {
+        sort(array, 0, array.length, Comparator.naturalOrder());
+    }
+
+    /// Sorts the array in the order induced by the provided comparator
+    public static <T> void sort(T[] array, Comparator<? super T> comparator) {
+        sort(array, 0, array.length, comparator);
+    }
+
+    /// Sorts the range `[from, to)` of the array in the order induced by the provided comparator
+    ///
+    /// @throws IllegalArgumentException if `from` is greater than `to`
+    /// @throws ArrayIndexOutOfBoundsException if the range is out of bounds of the array
+    public static <T> void sort(T[] array, int from, int to, Comparator<? super T> comparator) {
+        Sorting.checkRange(array.length, from, to);
+        int length = to - from;
+
+        heapify(array, from, 1, length, comparator);
+        extract(array, from, 1, length, length, comparator);
+    }
+
+    /// Sorts the list in ascending order of its elements
+    public static <T extends Comparable<? super T>> void sort(ArrayList<T> list) {
+        sort(list, Comparator.naturalOrder());
+    }
+
+    /// Sorts the list in the order induced by the provided comparator. The list's inner array is sorted directly
+    public static <T> void sort(ArrayList<T> list, Comparator<? super T> comparator) {
+        sort(list.toArray(), 0, list.size(), comparator);
+    }
+
+    /// Sorts the array in ascending order of its elements
+    public static <T extends Comparable<? super T>> void sort(Array<T> array) {
+        sort(array, Comparator.naturalOrder());
+    }
+
+    /// Sorts the array in the order induced by the provided comparator. The inner Java array is sorted directly
+    public static <T> void sort(Array<T> array, Comparator<? super T> comparator) {
+        sort(array.toArray(), 0, array.size(), comparator);
+    }
+
+    /// Puts the `k` smallest elements of the array in ascending order at its start. The order of the remaining elements
+    /// is unspecified. To get the `k` largest elements instead, use a reversed comparator
+    ///
+    /// @throws IllegalArgumentException if `k` is negative or greater than the length of the array
+    public static <T extends Comparable<? super T>> void partialSort(T[] array, int k) {
+        partialSort(array, 0, array.length, k, Comparator.naturalOrder());
+    }
+
+    /// Puts the `k` first elements in the order induced by the provided comparator at the start of the array. The order
+    /// of the remaining elements is unspecified
+    ///
+    /// @throws IllegalArgumentException if `k` is negative or greater than the length of the array
+    public static <T> void partialSort(T[] array, int k, Comparator<? super T> comparator) {
+        partialSort(array, 0, array.length, k, comparator);
+    }
+
+    /// Puts the `k` first elements of the range `[from, to)` in the order induced by the provided comparator at the
+    /// start of the range. The order of the remaining elements of the range is unspecified
+    ///
+    /// @throws IllegalArgumentException if `from` is greater than `to`, or if `k` is negative or greater than the
+    /// length of the range
+    /// @throws ArrayIndexOutOfBoundsException if the range is out of bounds of the array
+    public static <T> void partialSort(T[] array, int from, int to, int k, Comparator<? super T> comparator) {
+        Sorting.checkRange(array.length, from, to);
+        int length = to - from;
+        checkCount(length, k);
+
+        Comparator<? super T> reversed = comparator.reversed();
+        heapify(array, to - 1, -1, length, reversed);
+        extract(array, to - 1, -1, length, k, reversed);
+    }
+
+    /// Puts the `k` smallest elements of the list in ascending order at its start. The order of the remaining elements
+    /// is unspecified
+    ///
+    /// @throws IllegalArgumentException if `k` is negative or greater than the size of the list
+    public static <T extends Comparable<? super T>> void partialSort(ArrayList<T> list, int k) {
+        partialSort(list, k, Comparator.naturalOrder());
+    }
+
+    /// Puts the `k` first elements in the order induced by the provided comparator at the start of the list. The order
+    /// of the remaining elements is unspecified
+    ///
+    /// @throws IllegalArgumentException if `k` is negative or greater than the size of the list
+    public static <T> void partialSort(ArrayList<T> list, int k, Comparator<? super T> comparator) {
+        partialSort(list.toArray(), 0, list.size(), k, comparator);
+    }
+
+    /// Puts the `k` smallest elements of the array in ascending order at its start. The order of the remaining elements
+    /// is unspecified
+    ///
+    /// @throws IllegalArgumentException if `k` is negative or greater than the size of the array
+    public static <T extends Comparable<? super T>> void partialSort(Array<T> array, int k) {
+        partialSort(array, k, Comparator.naturalOrder());
+    }
+
+    /// Puts the `k` first elements in the order induced by the provided comparator at the start of the array. The order
+    /// of the remaining elements is unspecified
+    ///
+    /// @throws IllegalArgumentException if `k` is negative or greater than the size of the array
+    public static <T> void partialSort(Array<T> array, int k, Comparator<? super T> comparator) {
+        partialSort(array.toArray(), 0, array.size(), k, comparator);
+    }
+
+    /// Sorts the array in ascending order
+    public static void sort(int[] array) {
+        sort(array, 0, array.length);
+    }
+
+    /// Sorts the range `[from, to)` of the array in ascending order
+    ///
+    /// @throws IllegalArgumentException if `from` is greater than `to`
+    /// @throws ArrayIndexOutOfBoundsException if the range is out of bounds of the array
+    public static void sort(int[] array, int from, int to) {
+        Sorting.checkRange(array.length, from, to);
+        int length = to - from;
+
+        heapify(array, from, 1, length, false);
+        extract(array, from, 1, length, length, false);
+    }
+
+    /// Puts the `k` smallest values of the array in ascending order at its start. The order of the remaining values is
+    /// unspecified
+    ///
+    /// @throws IllegalArgumentException if `k` is negative or greater than the length of the array
+    public static void partialSort(int[] array, int k) {
+        partialSort(array, 0, array.length, k);
+    }
+
+    /// Puts the `k` smallest values of the range `[from, to)` in ascending order at the start of the range. The order
+    /// of the remaining values of the range is unspecified
+    ///
+    /// @throws IllegalArgumentException if `from` is greater than `to`, or if `k` is negative or greater than the
+    /// length of the range
+    /// @throws ArrayIndexOutOfBoundsException if the range is out of bounds of the array
+    public static void partialSort(int[] array, int from, int to, int k) {
+        Sorting.checkRange(array.length, from, to);
+        int length = to - from;
+        checkCount(length, k);
+
+        heapify(array, to - 1, -1, length, true);
+        extract(array, to - 1, -1, length, k, true);
+    }
+
+    /// Sorts the array in ascending order
+    public static void sort(long[] array) {
+        sort(array, 0, array.length);
+    }
+
+    /// Sorts the range `[from, to)` of the array in ascending order
+    ///
+    /// @throws IllegalArgumentException if `from` is greater than `to`
+    /// @throws ArrayIndexOutOfBoundsException if the range is out of bounds of the array
+    public static void sort(long[] array, int from, int to) {
+        Sorting.checkRange(array.length, from, to);
+        int length = to - from;
+
+        heapify(array, from, 1, length, false);
+        extract(array, from, 1, length, length, false);
+    }
+
+    /// Puts the `k` smallest values of the array in ascending order at its start. The order of the remaining values is
+    /// unspecified
+    ///
+    /// @throws IllegalArgumentException if `k` is negative or greater than the length of the array
+    public static void partialSort(long[] array, int k) {
+        partialSort(array, 0, array.length, k);
+    }
+
+    /// Puts the `k` smallest values of the range `[from, to)` in ascending order at the start of the range. The order
+    /// of the remaining values of the range is unspecified
+    ///
+    /// @throws IllegalArgumentException if `from` is greater than `to`, or if `k` is negative or greater than the
+    /// length of the range
+    /// @throws ArrayIndexOutOfBoundsException if the range is out of bounds of the array
+    public static void partialSort(long[] array, int from, int to, int k) {
+        Sorting.checkRange(array.length, from, to);
+        int length = to - from;
+        checkCount(length, k);
+
+        heapify(array, to - 1, -1, length, true);
+        extract(array, to - 1, -1, length, k, true);
+    }
+
     /// Sorts provided values in ascending order and returns a new sorted array
     @SafeVarargs
-    public static <T extends Comparable<? super T>> ArrayList<T> sortAscending(T... unsorted) {
-        Heap<T> minHeap = Heap.minHeapify(unsorted);
-        ArrayList<T> sorted = new ArrayList<>();
+    @SuppressWarnings("varargs")
+    public static <T extends Comparable<? super T>> java.util.ArrayList<T> sortAscending(T... unsorted) {
+        T[] sorted = unsorted.clone();
+        sort(sorted);
+        return new java.util.ArrayList<>(Arrays.asList(sorted));
+    }
+
+    /// Sorts provided values in descending order and returns a new sorted array
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T extends Comparable<? super T>> java.util.ArrayList<T> sortDescending(T... unsorted) {
+        T[] sorted = unsorted.clone();
+        sort(sorted, Comparator.reverseOrder());
+        return new java.util.ArrayList<>(Arrays.asList(sorted));
+    }
+
+    /// Checks that the amount of elements to partially sort fits the range
+    private static void checkCount(int length, int k) {
+        if (k < 0 || k > length)
+            throw new IllegalArgumentException("Amount of sorted elements is out of range: " + k);
+    }
 
-        while (!minHeap.isEmpty()) {
-            sorted.add(minHeap.remove());
+    /// Rearranges the range into a max heap of the given length. The heap is laid out starting from `root` in the
+    /// given direction (`1` or `-1`), so that the heap index `i` is located at `root + direction * i`
+    private static <T> void heapify(T[] array, int root, int direction, int length, Comparator<? super T> comparator) {
+        for (int i = (length >>> 1) - 1; i >= 0; i--)
+            siftDown(array, root, direction, i, length, comparator);
+    }
+
+    /// Extracts `count` largest elements from the max heap, placing each of them right behind the shrunk heap
+    private static <T> void extract(T[] array, int root, int direction, int length, int count,
+                                    Comparator<? super T> comparator) {
+        for (int end = length - 1; end >= length - count && end > 0; end--) {
+            Sorting.swap(array, root, root + direction * end);
+            siftDown(array, root, direction, 0, end, comparator);
         }
+    }
+
+    /// Moves the element at the heap index down the max heap until none of its children is greater than it
+    private static <T> void siftDown(T[] array, int root, int direction, int index, int length,
+                                     Comparator<? super T> comparator) {
+        T element = array[root + direction * index];
+        int half = length >>> 1;
+
+        while (index < half) {
+            int child = 2 * index + 1;
+            T childElement = array[root + direction * child];
+
+            if (child + 1 < length && comparator.compare(array[root + direction * (child + 1)], childElement) > 0)
+                childElement = array[root + direction * ++child];
+            if (comparator.compare(childElement, element) <= 0)
+                break;
 
-        return sorted;
+            array[root + direction * index] = childElement;
+            index = child;
+        }
+
+        array[root + direction * index] = element;
     }
 
-    /// Sorts provided values in descending order and returns a new sorted array
-    @SafeVarargs
-    public static <T extends Comparable<? super T>> ArrayList<T> sortDescending(T... unsorted) {
-        Heap<T> minHeap = Heap.maxHeapify(unsorted);
-        ArrayList<T> sorted = new ArrayList<>();
+    /// Rearranges the range into a max heap (or a min heap) of the given length, laid out the same way as the heap of
+    /// objects
+    private static void heapify(int[] array, int root, int direction, int length, boolean minHeap) {
+        for (int i = (length >>> 1) - 1; i >= 0; i--)
+            siftDown(array, root, direction, i, length, minHeap);
+    }
 
-        while (!minHeap.isEmpty()) {
-            sorted.add(minHeap.remove());
-            System.out.println(minHeap);
+    /// Extracts `count` top values from the heap, placing each of them right behind the shrunk heap
+    private static void extract(int[] array, int root, int direction, int length, int count, boolean minHeap) {
+        for (int end = length - 1; end >= length - count && end > 0; end--) {
+            Sorting.swap(array, root, root + direction * end);
+            siftDown(array, root, direction, 0, end, minHeap);
         }
+    }
+
+    /// Moves the value at the heap index down the heap until none of its children should be above it
+    private static void siftDown(int[] array, int root, int direction, int index, int length, boolean minHeap) {
+        int value = array[root + direction * index];
+        int half = length >>> 1;
+
+        while (index < half) {
+            int child = 2 * index + 1;
+            int childValue = array[root + direction * child];
+
+            if (child + 1 < length && isAbove(array[root + direction * (child + 1)], childValue, minHeap))
+                childValue = array[root + direction * ++child];
+            if (!isAbove(childValue, value, minHeap))
+                break;
+
+            array[root + direction * index] = childValue;
+            index = child;
+        }
+
+        array[root + direction * index] = value;
+    }
+
+    /// Returns whether the first value should be placed above the second one in the heap
+    private static boolean isAbove(int first, int second, boolean minHeap) {
+        return minHeap ? first < second : first > second;
+    }
+
+    /// Rearranges the range into a max heap (or a min heap) of the given length, laid out the same way as the heap of
+    /// objects
+    private static void heapify(long[] array, int root, int direction, int length, boolean minHeap) {
+        for (int i = (length >>> 1) - 1; i >= 0; i--)
+            siftDown(array, root, direction, i, length, minHeap);
+    }
+
+    /// Extracts `count` top values from the heap, placing each of them right behind the shrunk heap
+    private static void extract(long[] array, int root, int direction, int length, int count, boolean minHeap) {
+        for (int end = length - 1; end >= length - count && end > 0; end--) {
+            Sorting.swap(array, root, root + direction * end);
+            siftDown(array, root, direction, 0, end, minHeap);
+        }
+    }
+
+    /// Moves the value at the heap index down the heap until none of its children should be above it
+    private static void siftDown(long[] array, int root, int direction, int index, int length, boolean minHeap) {
+        long value = array[root + direction * index];
+        int half = length >>> 1;
+
+        while (index < half) {
+            int child = 2 * index + 1;
+            long childValue = array[root + direction * child];
+
+            if (child + 1 < length && isAbove(array[root + direction * (child + 1)], childValue, minHeap))
+                childValue = array[root + direction * ++child];
+            if (!isAbove(childValue, value, minHeap))
+                break;
+
+            array[root + direction * index] = childValue;
+            index = child;
+        }
+
+        array[root + direction * index] = value;
+    }
 
-        return sorted;
+    /// Returns whether the first value should be placed above the second one in the heap
+    private static boolean isAbove(long first, long second, boolean minHeap) {
+        return minHeap ? first < second : first > second;
     }
 }
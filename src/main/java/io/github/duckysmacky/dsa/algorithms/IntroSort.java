@@ -0,0 +1,115 @@
+package io.github.duckysmacky.dsa.algorithms;
+
+import io.github.duckysmacky.dsa.collections.Array;
+import io.github.duckysmacky.dsa.collections.list.ArrayList;
+
+import java.util.Comparator;
+
+/// Introsort algorithm implementation. Sorts the elements in-place, without allocating any additional memory.
+///
+/// Introsort is a quicksort which keeps track of its recursion depth. Once the depth exceeds `2 * log2(n)`, the
+/// current range is sorted with a heapsort instead, which keeps the worst case at `O(n log n)` even for adversarial
+/// inputs. Small ranges are finished with an insertion sort. The sort is **not stable**: equal elements may change
+/// their relative order. For a stable sort, use `MergeSort`.
+public final class IntroSort {
+    /// Ranges smaller than this are sorted with an insertion sort
+    private static final int INSERTION_THRESHOLD = 16;
+
+    private IntroSort() {}
+
+    /// Sorts the array in ascending order of its elements
+    public static <T extends Comparable<? super T>> void sort(T[] array) {
+        sort(array, 0, array.length, Comparator.naturalOrder());
+    }
+
+    /// Sorts the array in the order induced by the provided comparator
+    public static <T> void sort(T[] array, Comparator<? super T> comparator) {
+        sort(array, 0, array.length, comparator);
+    }
+
+    /// Sorts the range `[from, to)` of the array in the order induced by the provided comparator
+    ///
+    /// @throws IllegalArgumentException if `from` is greater than `to`
+    /// @throws ArrayIndexOutOfBoundsException if the range is out of bounds of the array
+    public static <T> void sort(T[] array, int from, int to, Comparator<? super T> comparator) {
+        Sorting.checkRange(array.length, from, to);
+        if (to - from < 2)
+            return;
+
+        introSort(array, from, to, 2 * Sorting.log2(to - from), comparator);
+    }
+
+    /// Sorts the list in ascending order of its elements
+    public static <T extends Comparable<? super T>> void sort(ArrayList<T> list) {
+        sort(list, Comparator.naturalOrder());
+    }
+
+    /// Sorts the list in the order induced by the provided comparator. The list's inner array is sorted directly
+    public static <T> void sort(ArrayList<T> list, Comparator<? super T> comparator) {
+        sort(list.toArray(), 0, list.size(), comparator);
+    }
+
+    /// Sorts the array in ascending order of its elements
+    public static <T extends Comparable<? super T>> void sort(Array<T> array) {
+        sort(array, Comparator.naturalOrder());
+    }
+
+    /// Sorts the array in the order induced by the provided comparator. The inner Java array is sorted directly
+    public static <T> void sort(Array<T> array, Comparator<? super T> comparator) {
+        sort(array.toArray(), 0, array.size(), comparator);
+    }
+
+    /// Sorts the range `[from, to)`, falling back to a heapsort once the depth limit is reached. Only the smaller
+    /// partition is sorted recursively, so the call stack never grows deeper than `log2(n)`
+    private static <T> void introSort(T[] array, int from, int to, int depthLimit, Comparator<? super T> comparator) {
+        while (to - from > INSERTION_THRESHOLD) {
+            if (depthLimit == 0) {
+                HeapSort.sort(array, from, to, comparator);
+                return;
+            }
+
+            depthLimit--;
+            int split = partition(array, from, to, comparator);
+
+            if (split - from < to - split) {
+                introSort(array, from, split, depthLimit, comparator);
+                from = split;
+            } else {
+                introSort(array, split, to, depthLimit, comparator);
+                to = split;
+            }
+        }
+
+        Sorting.insertionSort(array, from, to, comparator);
+    }
+
+    /// Partitions the range `[from, to)` around the median of its first, middle and last elements, using the Hoare
+    /// partition scheme. Returns the split index: all the elements before it are not greater than the pivot, and all
+    /// the elements starting from it are not less than the pivot. Both parts are never empty
+    private static <T> int partition(T[] array, int from, int to, Comparator<? super T> comparator) {
+        int middle = (from + to) >>> 1;
+        int last = to - 1;
+
+        if (comparator.compare(array[middle], array[from]) < 0)
+            Sorting.swap(array, middle, from);
+        if (comparator.compare(array[last], array[middle]) < 0) {
+            Sorting.swap(array, last, middle);
+            if (comparator.compare(array[middle], array[from]) < 0)
+                Sorting.swap(array, middle, from);
+        }
+
+        T pivot = array[middle];
+        int i = from - 1;
+        int j = to;
+
+        while (true) {
+            do i++; while (comparator.compare(array[i], pivot) < 0);
+            do j--; while (comparator.compare(array[j], pivot) > 0);
+
+            if (i >= j)
+                return j + 1;
+
+            Sorting.swap(array, i, j);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package io.github.duckysmacky.dsa.algorithms;
+
+import io.github.duckysmacky.dsa.collections.Array;
+import io.github.duckysmacky.dsa.collections.list.ArrayList;
+
+import java.util.Comparator;
+
+/// Stable merge sort implementation, modeled after TimSort. Equal elements always keep their relative order.
+///
+/// Instead of splitting the input blindly in halves, the sort looks for already ordered sequences (runs) in it.
+/// Descending runs are reversed, and runs shorter than a minimal length are extended with a binary insertion sort.
+/// The runs are kept on a stack and merged so that their lengths stay balanced, which makes the sort `O(n log n)` in
+/// the worst case and `O(n)` on already sorted (or reverse sorted) input.
+///
+/// Before each merge, the elements which are already in place at the start of the first run and at the end of the
+/// second run are skipped with a binary search, and only the shorter of the remaining runs is copied aside. This means
+/// that the only allocation is a single scratch buffer of at most `n / 2` elements, which is reused by all the merges.
+public final class MergeSort {
+    /// Inputs shorter than this are sorted with a binary insertion sort. Also bounds the minimal length of a run
+    private static final int MIN_MERGE = 32;
+    /// Enough to hold the run stack for any array, since the run lengths grow at least as fast as Fibonacci numbers
+    private static final int MAX_STACK_SIZE = 49;
+
+    private final Object[] array;
+    private final Comparator<Object> comparator;
+    private Object[] buffer;
+    private final int[] runBase = new int[MAX_STACK_SIZE];
+    private final int[] runLength = new int[MAX_STACK_SIZE];
+    private int stackSize = 0;
+
+    @SuppressWarnings("unchecked")
+    private MergeSort(Object[] array, Comparator<?> comparator) {
+        this.array = array;
+        this.comparator = (Comparator<Object>) comparator;
+        this.buffer = null;
+    }
+
+    /// Sorts the array in ascending order of its elements
+    public static <T extends Comparable<? super T>> void sort(T[] array) {
+        sort(array, 0, array.length, Comparator.naturalOrder());
+    }
+
+    /// Sorts the array in the order induced by the provided comparator
+    public static <T> void sort(T[] array, Comparator<? super T> comparator) {
+        sort(array, 0, array.length, comparator);
+    }
+
+    /// Sorts the range `[from, to)` of the array in the order induced by the provided comparator
+    ///
+    /// @throws IllegalArgumentException if `from` is greater than `to`
+    /// @throws ArrayIndexOutOfBoundsException if the range is out of bounds of the array
+    public static <T> void sort(T[] array, int from, int to, Comparator<? super T> comparator) {
+        Sorting.checkRange(array.length, from, to);
+        int remaining = to - from;
+        if (remaining < 2)
+            return;
+
+        if (remaining < MIN_MERGE) {
+            int runLength = countRunAndMakeAscending(array, from, to, comparator);
+            binaryInsertionSort(array, from, to, from + runLength, comparator);
+            return;
+        }
+
+        MergeSort sort = new MergeSort(array, comparator);
+        int minRun = minRunLength(remaining);
+        int low = from;
+
+        do {
+            int runLength = countRunAndMakeAscending(array, low, to, comparator);
+
+            if (runLength < minRun) {
+                int forced = Math.min(remaining, minRun);
+                binaryInsertionSort(array, low, low + forced, low + runLength, comparator);
+                runLength = forced;
+            }
+
+            sort.pushRun(low, runLength);
+            sort.mergeCollapse();
+
+            low += runLength;
+            remaining -= runLength;
+        } while (remaining != 0);
+
+        sort.mergeForceCollapse();
+    }
+
+    /// Sorts the list in ascending order of its elements
+    public static <T extends Comparable<? super T>> void sort(ArrayList<T> list) {
+        sort(list, Comparator.naturalOrder());
+    }
+
+    /// Sorts the list in the order induced by the provided comparator. The list's inner array is sorted directly
+    public static <T> void sort(ArrayList<T> list, Comparator<? super T> comparator) {
+        sort(list.toArray(), 0, list.size(), comparator);
+    }
+
+    /// Sorts the array in ascending order of its elements
+    public static <T extends Comparable<? super T>> void sort(Array<T> array) {
+        sort(array, Comparator.naturalOrder());
+    }
+
+    /// Sorts the array in the order induced by the provided comparator. The inner Java array is sorted directly
+    public static <T> void sort(Array<T> array, Comparator<? super T> comparator) {
+        sort(array.toArray(), 0, array.size(), comparator);
+    }
+
+    /// Returns the minimal run length for an input of the given length. It is chosen so that the amount of runs is
+    /// equal to, or slightly less than, a power of two, which keeps the final merges balanced
+    private static int minRunLength(int length) {
+        int remainder = 0;
+
+        while (length >= MIN_MERGE) {
+            remainder |= length & 1;
+            length >>= 1;
+        }
+
+        return length + remainder;
+    }
+
+    /// Returns the length of the run which starts at `from`. If the run is strictly descending, it is reversed, so the
+    /// returned run is always ascending. Only strictly descending runs are reversed to keep the sort stable
+    private static <T> int countRunAndMakeAscending(T[] array, int from, int to, Comparator<? super T> comparator) {
+        int runEnd = from + 1;
+        if (runEnd == to)
+            return 1;
+
+        if (comparator.compare(array[runEnd++], array[from]) < 0) {
+            while (runEnd < to && comparator.compare(array[runEnd], array[runEnd - 1]) < 0)
+                runEnd++;
+
+            for (int i = from, j = runEnd - 1; i < j; i++, j--)
+                Sorting.swap(array, i, j);
+        } else {
+            while (runEnd < to && comparator.compare(array[runEnd], array[runEnd - 1]) >= 0)
+                runEnd++;
+        }
+
+        return runEnd - from;
+    }
+
+    /// Sorts the range `[from, to)`, in which the elements before `start` are already sorted. Each next element is
+    /// placed after all the elements which are not greater than it, found with a binary search
+    private static <T> void binaryInsertionSort(T[] array, int from, int to, int start,
+                                                Comparator<? super T> comparator) {
+        for (int i = start; i < to; i++) {
+            T pivot = array[i];
+            int left = from;
+            int right = i;
+
+            while (left < right) {
+                int middle = (left + right) >>> 1;
+                if (comparator.compare(pivot, array[middle]) < 0)
+                    right = middle;
+                else
+                    left = middle + 1;
+            }
+
+            System.arraycopy(array, left, array, left + 1, i - left);
+            array[left] = pivot;
+        }
+    }
+
+    private void pushRun(int base, int length) {
+        runBase[stackSize] = base;
+        runLength[stackSize] = length;
+        stackSize++;
+    }
+
+    /// Merges the runs on the stack until their lengths satisfy the invariants, in which each run is longer than the
+    /// two next runs combined, and longer than the next one
+    private void mergeCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+
+            if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+                || n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1]) {
+                if (runLength[n - 1] < runLength[n + 1])
+                    n--;
+            } else if (runLength[n] > runLength[n + 1]) {
+                break;
+            }
+
+            mergeAt(n);
+        }
+    }
+
+    /// Merges all the remaining runs on the stack into a single one
+    private void mergeForceCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLength[n - 1] < runLength[n + 1])
+                n--;
+
+            mergeAt(n);
+        }
+    }
+
+    /// Merges the runs at stack indices `i` and `i + 1`
+    private void mergeAt(int i) {
+        int base1 = runBase[i];
+        int length1 = runLength[i];
+        int base2 = runBase[i + 1];
+        int length2 = runLength[i + 1];
+
+        runLength[i] = length1 + length2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLength[i + 1] = runLength[i + 2];
+        }
+        stackSize--;
+
+        // Elements of the first run which are not greater than the start of the second run are already in place
+        int skipped = upperBound(array[base2], base1, base1 + length1) - base1;
+        base1 += skipped;
+        length1 -= skipped;
+        if (length1 == 0)
+            return;
+
+        // Elements of the second run which are not less than the end of the first run are already in place
+        length2 = lowerBound(array[base1 + length1 - 1], base2, base2 + length2) - base2;
+        if (length2 == 0)
+            return;
+
+        if (length1 <= length2)
+            mergeLow(base1, length1, base2, length2);
+        else
+            mergeHigh(base1, length1, base2, length2);
+    }
+
+    /// Returns the first index in `[from, to)` whose element is greater than the key
+    private int upperBound(Object key, int from, int to) {
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (comparator.compare(key, array[middle]) < 0)
+                to = middle;
+            else
+                from = middle + 1;
+        }
+        return from;
+    }
+
+    /// Returns the first index in `[from, to)` whose element is not less than the key
+    private int lowerBound(Object key, int from, int to) {
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            if (comparator.compare(array[middle], key) < 0)
+                from = middle + 1;
+            else
+                to = middle;
+        }
+        return from;
+    }
+
+    /// Merges two adjacent runs from left to right, copying the first (shorter) run into the buffer
+    private void mergeLow(int base1, int length1, int base2, int length2) {
+        Object[] buffer = ensureBuffer(length1);
+        System.arraycopy(array, base1, buffer, 0, length1);
+
+        int cursor1 = 0;
+        int cursor2 = base2;
+        int end2 = base2 + length2;
+        int destination = base1;
+
+        while (cursor1 < length1 && cursor2 < end2) {
+            if (comparator.compare(array[cursor2], buffer[cursor1]) < 0)
+                array[destination++] = array[cursor2++];
+            else
+                array[destination++] = buffer[cursor1++];
+        }
+
+        System.arraycopy(buffer, cursor1, array, destination, length1 - cursor1);
+    }
+
+    /// Merges two adjacent runs from right to left, copying the second (shorter) run into the buffer
+    private void mergeHigh(int base1, int length1, int base2, int length2) {
+        Object[] buffer = ensureBuffer(length2);
+        System.arraycopy(array, base2, buffer, 0, length2);
+
+        int cursor1 = base1 + length1 - 1;
+        int cursor2 = length2 - 1;
+        int destination = base2 + length2 - 1;
+
+        while (cursor1 >= base1 && cursor2 >= 0) {
+            if (comparator.compare(buffer[cursor2], array[cursor1]) < 0)
+                array[destination--] = array[cursor1--];
+            else
+                array[destination--] = buffer[cursor2--];
+        }
+
+        System.arraycopy(buffer, 0, array, destination - cursor2, cursor2 + 1);
+    }
+
+    /// Returns the scratch buffer, growing it if it cannot fit the given amount of elements
+    private Object[] ensureBuffer(int length) {
+        if (buffer == null || buffer.length < length) {
+            int newLength = buffer == null ? Math.max(length, 256) : Math.max(length, buffer.length * 2);
+            buffer = new Object[Math.min(newLength, array.length)];
+        }
+        return buffer;
+    }
+}
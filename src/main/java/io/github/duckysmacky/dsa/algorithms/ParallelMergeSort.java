@@ -0,0 +1,673 @@
+package io.github.duckysmacky.dsa.algorithms;
+
+import io.github.duckysmacky.dsa.collections.Array;
+import io.github.duckysmacky.dsa.collections.list.ArrayList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/// Parallel stable merge sort implementation, which runs on a `ForkJoinPool`. Equal elements always keep their relative
+/// order.
+///
+/// The range is split in halves recursively, and the halves are sorted as separate fork-join tasks until they are
+/// small enough to be sorted sequentially by a single thread. The sorted halves are then merged, also in parallel: the
+/// longer of the two runs is split at its middle element, the matching position in the shorter run is found with a
+/// binary search, and both pairs of pieces are merged independently. Ranges no longer than the threshold are sorted
+/// with an insertion sort.
+///
+/// The only allocation is a single scratch buffer of the same length as the sorted range. Instead of copying the
+/// elements into the buffer before each merge, each level of the recursion merges from one of the two arrays into the
+/// other, alternating their roles, so that the last merge lands in the sorted array itself. Halves which are already in
+/// order are not merged at all, but copied over as a whole.
+///
+/// By default, the common `ForkJoinPool` is used, but a sorter can be created for any pool, for example to limit the
+/// amount of threads used for sorting.
+public final class ParallelMergeSort {
+    /// The default length of ranges which are sorted with an insertion sort
+    public static final int DEFAULT_THRESHOLD = 32;
+    /// Ranges shorter than this are never split into separate tasks, since the overhead would outweigh the gain
+    private static final int MIN_GRANULARITY = 1 << 13;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /// Creates a sorter which runs on the common `ForkJoinPool` and uses the default insertion sort threshold
+    public ParallelMergeSort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /// Creates a sorter which runs on the provided pool. Ranges no longer than the threshold are sorted with an
+    /// insertion sort
+    ///
+    /// @throws IllegalArgumentException if the pool is `null` or the threshold is less than 1
+    public ParallelMergeSort(ForkJoinPool pool, int threshold) {
+        if (pool == null)
+            throw new IllegalArgumentException("Pool cannot be null");
+        if (threshold < 1)
+            throw new IllegalArgumentException("Threshold cannot be less than 1");
+
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /// Sorts the array in ascending order of its elements
+    public <T extends Comparable<? super T>> void sort(T[] array) {
+        sort(array, 0, array.length, Comparator.naturalOrder());
+    }
+
+    /// Sorts the array in the order induced by the provided comparator
+    public <T> void sort(T[] array, Comparator<? super T> comparator) {
+        sort(array, 0, array.length, comparator);
+    }
+
+    /// Sorts the range `[from, to)` of the array in the order induced by the provided comparator
+    ///
+    /// @throws IllegalArgumentException if `from` is greater than `to`
+    /// @throws ArrayIndexOutOfBoundsException if the range is out of bounds of the array
+    @SuppressWarnings("unchecked")
+    public <T> void sort(T[] array, int from, int to, Comparator<? super T> comparator) {
+        Sorting.checkRange(array.length, from, to);
+        if (to - from <= threshold) {
+            Sorting.insertionSort(array, from, to, comparator);
+            return;
+        }
+
+        Object[] buffer = Arrays.copyOfRange(array, from, to);
+        ObjectMerger merger = new ObjectMerger((Comparator<Object>) comparator, granularity(to - from));
+        pool.invoke(merger.new SortTask(buffer, -from, array, 0, from, to));
+    }
+
+    /// Sorts the list in ascending order of its elements
+    public <T extends Comparable<? super T>> void sort(ArrayList<T> list) {
+        sort(list, Comparator.naturalOrder());
+    }
+
+    /// Sorts the list in the order induced by the provided comparator. The list's inner array is sorted directly
+    public <T> void sort(ArrayList<T> list, Comparator<? super T> comparator) {
+        sort(list.toArray(), 0, list.size(), comparator);
+    }
+
+    /// Sorts the array in ascending order of its elements
+    public <T extends Comparable<? super T>> void sort(Array<T> array) {
+        sort(array, Comparator.naturalOrder());
+    }
+
+    /// Sorts the array in the order induced by the provided comparator. The inner Java array is sorted directly
+    public <T> void sort(Array<T> array, Comparator<? super T> comparator) {
+        sort(array.toArray(), 0, array.size(), comparator);
+    }
+
+    /// Sorts the array in ascending order
+    public void sort(int[] array) {
+        sort(array, 0, array.length);
+    }
+
+    /// Sorts the range `[from, to)` of the array in ascending order
+    ///
+    /// @throws IllegalArgumentException if `from` is greater than `to`
+    /// @throws ArrayIndexOutOfBoundsException if the range is out of bounds of the array
+    public void sort(int[] array, int from, int to) {
+        Sorting.checkRange(array.length, from, to);
+        if (to - from <= threshold) {
+            Sorting.insertionSort(array, from, to);
+            return;
+        }
+
+        int[] buffer = Arrays.copyOfRange(array, from, to);
+        IntMerger merger = new IntMerger(granularity(to - from));
+        pool.invoke(merger.new SortTask(buffer, -from, array, 0, from, to));
+    }
+
+    /// Sorts the array in ascending order
+    public void sort(long[] array) {
+        sort(array, 0, array.length);
+    }
+
+    /// Sorts the range `[from, to)` of the array in ascending order
+    ///
+    /// @throws IllegalArgumentException if `from` is greater than `to`
+    /// @throws ArrayIndexOutOfBoundsException if the range is out of bounds of the array
+    public void sort(long[] array, int from, int to) {
+        Sorting.checkRange(array.length, from, to);
+        if (to - from <= threshold) {
+            Sorting.insertionSort(array, from, to);
+            return;
+        }
+
+        long[] buffer = Arrays.copyOfRange(array, from, to);
+        LongMerger merger = new LongMerger(granularity(to - from));
+        pool.invoke(merger.new SortTask(buffer, -from, array, 0, from, to));
+    }
+
+    /// Returns the length of ranges which are sorted and merged sequentially, so that each worker thread of the pool
+    /// gets a few tasks to balance the load between them
+    private int granularity(int length) {
+        return Math.max(length / (pool.getParallelism() << 2), Math.max(MIN_GRANULARITY, threshold));
+    }
+
+    /// The sorting state shared by the tasks of a single sort of an array of objects. The source and the destination
+    /// arrays of each task are addressed by the same indices, shifted by their own offsets
+    private final class ObjectMerger {
+        private final Comparator<Object> comparator;
+        private final int granularity;
+
+        private ObjectMerger(Comparator<Object> comparator, int granularity) {
+            this.comparator = comparator;
+            this.granularity = granularity;
+        }
+
+        /// Sorts the range `[low, high)` of the source into the destination. Both arrays have to hold the same elements
+        /// in the range before the call, and only the destination is sorted after it
+        private void sortSequential(Object[] source, int sourceOffset, Object[] destination, int destinationOffset,
+                                    int low, int high) {
+            if (high - low <= threshold) {
+                Sorting.insertionSort(destination, destinationOffset + low, destinationOffset + high, comparator);
+                return;
+            }
+
+            int middle = (low + high) >>> 1;
+            sortSequential(destination, destinationOffset, source, sourceOffset, low, middle);
+            sortSequential(destination, destinationOffset, source, sourceOffset, middle, high);
+            mergeSequential(source, sourceOffset, low, middle, middle, high, destination, destinationOffset, low);
+        }
+
+        /// Merges the sorted runs `[low1, high1)` and `[low2, high2)` of the source into the destination, starting at
+        /// `destinationLow`. Elements of the first run go before the equal elements of the second one
+        private void mergeSequential(Object[] source, int sourceOffset, int low1, int high1, int low2, int high2,
+                                     Object[] destination, int destinationOffset, int destinationLow) {
+            int i = sourceOffset + low1;
+            int end1 = sourceOffset + high1;
+            int j = sourceOffset + low2;
+            int end2 = sourceOffset + high2;
+            int k = destinationOffset + destinationLow;
+
+            if (i < end1 && j < end2 && comparator.compare(source[end1 - 1], source[j]) <= 0) {
+                System.arraycopy(source, i, destination, k, end1 - i);
+                System.arraycopy(source, j, destination, k + end1 - i, end2 - j);
+                return;
+            }
+
+            while (i < end1 && j < end2) {
+                if (comparator.compare(source[i], source[j]) <= 0)
+                    destination[k++] = source[i++];
+                else
+                    destination[k++] = source[j++];
+            }
+
+            System.arraycopy(source, i, destination, k, end1 - i);
+            System.arraycopy(source, j, destination, k + end1 - i, end2 - j);
+        }
+
+        /// Returns the first index in `[low, high)` of the source whose element is not less than the key
+        private int lowerBound(Object[] source, int sourceOffset, int low, int high, Object key) {
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (comparator.compare(source[sourceOffset + middle], key) < 0)
+                    low = middle + 1;
+                else
+                    high = middle;
+            }
+            return low;
+        }
+
+        /// Returns the first index in `[low, high)` of the source whose element is greater than the key
+        private int upperBound(Object[] source, int sourceOffset, int low, int high, Object key) {
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (comparator.compare(key, source[sourceOffset + middle]) < 0)
+                    high = middle;
+                else
+                    low = middle + 1;
+            }
+            return low;
+        }
+
+        /// A task which sorts the range `[low, high)` of the source into the destination, by sorting both halves of
+        /// the range from the destination into the source in parallel, and then merging them back
+        @SuppressWarnings("serial")
+        private final class SortTask extends RecursiveAction {
+            private final Object[] source;
+            private final int sourceOffset;
+            private final Object[] destination;
+            private final int destinationOffset;
+            private final int low;
+            private final int high;
+
+            private SortTask(Object[] source, int sourceOffset, Object[] destination, int destinationOffset,
+                             int low, int high) {
+                this.source = source;
+                this.sourceOffset = sourceOffset;
+                this.destination = destination;
+                this.destinationOffset = destinationOffset;
+                this.low = low;
+                this.high = high;
+            }
+
+            @Override
+            protected void compute() {
+                if (high - low <= granularity) {
+                    sortSequential(source, sourceOffset, destination, destinationOffset, low, high);
+                    return;
+                }
+
+                int middle = (low + high) >>> 1;
+                invokeAll(
+                    new SortTask(destination, destinationOffset, source, sourceOffset, low, middle),
+                    new SortTask(destination, destinationOffset, source, sourceOffset, middle, high)
+                );
+
+                new MergeTask(source, sourceOffset, low, middle, middle, high, destination, destinationOffset, low)
+                    .compute();
+            }
+        }
+
+        /// A task which merges two sorted runs of the source into the destination, by splitting them into two pairs
+        /// of shorter runs which are merged in parallel
+        @SuppressWarnings("serial")
+        private final class MergeTask extends RecursiveAction {
+            private final Object[] source;
+            private final int sourceOffset;
+            private final int low1;
+            private final int high1;
+            private final int low2;
+            private final int high2;
+            private final Object[] destination;
+            private final int destinationOffset;
+            private final int destinationLow;
+
+            private MergeTask(Object[] source, int sourceOffset, int low1, int high1, int low2, int high2,
+                              Object[] destination, int destinationOffset, int destinationLow) {
+                this.source = source;
+                this.sourceOffset = sourceOffset;
+                this.low1 = low1;
+                this.high1 = high1;
+                this.low2 = low2;
+                this.high2 = high2;
+                this.destination = destination;
+                this.destinationOffset = destinationOffset;
+                this.destinationLow = destinationLow;
+            }
+
+            @Override
+            protected void compute() {
+                int length1 = high1 - low1;
+                int length2 = high2 - low2;
+
+                if (length1 + length2 <= granularity) {
+                    mergeSequential(source, sourceOffset, low1, high1, low2, high2,
+                        destination, destinationOffset, destinationLow);
+                    return;
+                }
+
+                // Split the longer run in half, and the shorter one so that equal elements stay in the correct order
+                int split1;
+                int split2;
+                if (length1 >= length2) {
+                    split1 = (low1 + high1) >>> 1;
+                    split2 = lowerBound(source, sourceOffset, low2, high2, source[sourceOffset + split1]);
+                } else {
+                    split2 = (low2 + high2) >>> 1;
+                    split1 = upperBound(source, sourceOffset, low1, high1, source[sourceOffset + split2]);
+                }
+
+                int destinationSplit = destinationLow + (split1 - low1) + (split2 - low2);
+                invokeAll(
+                    new MergeTask(source, sourceOffset, low1, split1, low2, split2,
+                        destination, destinationOffset, destinationLow),
+                    new MergeTask(source, sourceOffset, split1, high1, split2, high2,
+                        destination, destinationOffset, destinationSplit)
+                );
+            }
+        }
+    }
+
+    /// The sorting state shared by the tasks of a single sort of an `int` array. The source and the destination arrays
+    /// of each task are addressed by the same indices, shifted by their own offsets
+    private final class IntMerger {
+        private final int granularity;
+
+        private IntMerger(int granularity) {
+            this.granularity = granularity;
+        }
+
+        /// Sorts the range `[low, high)` of the source into the destination. Both arrays have to hold the same elements
+        /// in the range before the call, and only the destination is sorted after it
+        private void sortSequential(int[] source, int sourceOffset, int[] destination, int destinationOffset,
+                                    int low, int high) {
+            if (high - low <= threshold) {
+                Sorting.insertionSort(destination, destinationOffset + low, destinationOffset + high);
+                return;
+            }
+
+            int middle = (low + high) >>> 1;
+            sortSequential(destination, destinationOffset, source, sourceOffset, low, middle);
+            sortSequential(destination, destinationOffset, source, sourceOffset, middle, high);
+            mergeSequential(source, sourceOffset, low, middle, middle, high, destination, destinationOffset, low);
+        }
+
+        /// Merges the sorted runs `[low1, high1)` and `[low2, high2)` of the source into the destination, starting at
+        /// `destinationLow`. Elements of the first run go before the equal elements of the second one
+        private void mergeSequential(int[] source, int sourceOffset, int low1, int high1, int low2, int high2,
+                                     int[] destination, int destinationOffset, int destinationLow) {
+            int i = sourceOffset + low1;
+            int end1 = sourceOffset + high1;
+            int j = sourceOffset + low2;
+            int end2 = sourceOffset + high2;
+            int k = destinationOffset + destinationLow;
+
+            if (i < end1 && j < end2 && source[end1 - 1] <= source[j]) {
+                System.arraycopy(source, i, destination, k, end1 - i);
+                System.arraycopy(source, j, destination, k + end1 - i, end2 - j);
+                return;
+            }
+
+            while (i < end1 && j < end2) {
+                if (source[i] <= source[j])
+                    destination[k++] = source[i++];
+                else
+                    destination[k++] = source[j++];
+            }
+
+            System.arraycopy(source, i, destination, k, end1 - i);
+            System.arraycopy(source, j, destination, k + end1 - i, end2 - j);
+        }
+
+        /// Returns the first index in `[low, high)` of the source whose element is not less than the key
+        private int lowerBound(int[] source, int sourceOffset, int low, int high, int key) {
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (source[sourceOffset + middle] < key)
+                    low = middle + 1;
+                else
+                    high = middle;
+            }
+            return low;
+        }
+
+        /// Returns the first index in `[low, high)` of the source whose element is greater than the key
+        private int upperBound(int[] source, int sourceOffset, int low, int high, int key) {
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (key < source[sourceOffset + middle])
+                    high = middle;
+                else
+                    low = middle + 1;
+            }
+            return low;
+        }
+
+        /// A task which sorts the range `[low, high)` of the source into the destination, by sorting both halves of
+        /// the range from the destination into the source in parallel, and then merging them back
+        @SuppressWarnings("serial")
+        private final class SortTask extends RecursiveAction {
+            private final int[] source;
+            private final int sourceOffset;
+            private final int[] destination;
+            private final int destinationOffset;
+            private final int low;
+            private final int high;
+
+            private SortTask(int[] source, int sourceOffset, int[] destination, int destinationOffset,
+                             int low, int high) {
+                this.source = source;
+                this.sourceOffset = sourceOffset;
+                this.destination = destination;
+                this.destinationOffset = destinationOffset;
+                this.low = low;
+                this.high = high;
+            }
+
+            @Override
+            protected void compute() {
+                if (high - low <= granularity) {
+                    sortSequential(source, sourceOffset, destination, destinationOffset, low, high);
+                    return;
+                }
+
+                int middle = (low + high) >>> 1;
+                invokeAll(
+                    new SortTask(destination, destinationOffset, source, sourceOffset, low, middle),
+                    new SortTask(destination, destinationOffset, source, sourceOffset, middle, high)
+                );
+
+                new MergeTask(source, sourceOffset, low, middle, middle, high, destination, destinationOffset, low)
+                    .compute();
+            }
+        }
+
+        /// A task which merges two sorted runs of the source into the destination, by splitting them into two pairs
+        /// of shorter runs which are merged in parallel
+        @SuppressWarnings("serial")
+        private final class MergeTask extends RecursiveAction {
+            private final int[] source;
+            private final int sourceOffset;
+            private final int low1;
+            private final int high1;
+            private final int low2;
+            private final int high2;
+            private final int[] destination;
+            private final int destinationOffset;
+            private final int destinationLow;
+
+            private MergeTask(int[] source, int sourceOffset, int low1, int high1, int low2, int high2,
+                              int[] destination, int destinationOffset, int destinationLow) {
+                this.source = source;
+                this.sourceOffset = sourceOffset;
+                this.low1 = low1;
+                this.high1 = high1;
+                this.low2 = low2;
+                this.high2 = high2;
+                this.destination = destination;
+                this.destinationOffset = destinationOffset;
+                this.destinationLow = destinationLow;
+            }
+
+            @Override
+            protected void compute() {
+                int length1 = high1 - low1;
+                int length2 = high2 - low2;
+
+                if (length1 + length2 <= granularity) {
+                    mergeSequential(source, sourceOffset, low1, high1, low2, high2,
+                        destination, destinationOffset, destinationLow);
+                    return;
+                }
+
+                // Split the longer run in half, and the shorter one so that equal elements stay in the correct order
+                int split1;
+                int split2;
+                if (length1 >= length2) {
+                    split1 = (low1 + high1) >>> 1;
+                    split2 = lowerBound(source, sourceOffset, low2, high2, source[sourceOffset + split1]);
+                } else {
+                    split2 = (low2 + high2) >>> 1;
+                    split1 = upperBound(source, sourceOffset, low1, high1, source[sourceOffset + split2]);
+                }
+
+                int destinationSplit = destinationLow + (split1 - low1) + (split2 - low2);
+                invokeAll(
+                    new MergeTask(source, sourceOffset, low1, split1, low2, split2,
+                        destination, destinationOffset, destinationLow),
+                    new MergeTask(source, sourceOffset, split1, high1, split2, high2,
+                        destination, destinationOffset, destinationSplit)
+                );
+            }
+        }
+    }
+
+    /// The sorting state shared by the tasks of a single sort of a `long` array. The source and the destination arrays
+    /// of each task are addressed by the same indices, shifted by their own offsets
+    private final class LongMerger {
+        private final int granularity;
+
+        private LongMerger(int granularity) {
+            this.granularity = granularity;
+        }
+
+        /// Sorts the range `[low, high)` of the source into the destination. Both arrays have to hold the same elements
+        /// in the range before the call, and only the destination is sorted after it
+        private void sortSequential(long[] source, int sourceOffset, long[] destination, int destinationOffset,
+                                    int low, int high) {
+            if (high - low <= threshold) {
+                Sorting.insertionSort(destination, destinationOffset + low, destinationOffset + high);
+                return;
+            }
+
+            int middle = (low + high) >>> 1;
+            sortSequential(destination, destinationOffset, source, sourceOffset, low, middle);
+            sortSequential(destination, destinationOffset, source, sourceOffset, middle, high);
+            mergeSequential(source, sourceOffset, low, middle, middle, high, destination, destinationOffset, low);
+        }
+
+        /// Merges the sorted runs `[low1, high1)` and `[low2, high2)` of the source into the destination, starting at
+        /// `destinationLow`. Elements of the first run go before the equal elements of the second one
+        private void mergeSequential(long[] source, int sourceOffset, int low1, int high1, int low2, int high2,
+                                     long[] destination, int destinationOffset, int destinationLow) {
+            int i = sourceOffset + low1;
+            int end1 = sourceOffset + high1;
+            int j = sourceOffset + low2;
+            int end2 = sourceOffset + high2;
+            int k = destinationOffset + destinationLow;
+
+            if (i < end1 && j < end2 && source[end1 - 1] <= source[j]) {
+                System.arraycopy(source, i, destination, k, end1 - i);
+                System.arraycopy(source, j, destination, k + end1 - i, end2 - j);
+                return;
+            }
+
+            while (i < end1 && j < end2) {
+                if (source[i] <= source[j])
+                    destination[k++] = source[i++];
+                else
+                    destination[k++] = source[j++];
+            }
+
+            System.arraycopy(source, i, destination, k, end1 - i);
+            System.arraycopy(source, j, destination, k + end1 - i, end2 - j);
+        }
+
+        /// Returns the first index in `[low, high)` of the source whose element is not less than the key
+        private int lowerBound(long[] source, int sourceOffset, int low, int high, long key) {
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (source[sourceOffset + middle] < key)
+                    low = middle + 1;
+                else
+                    high = middle;
+            }
+            return low;
+        }
+
+        /// Returns the first index in `[low, high)` of the source whose element is greater than the key
+        private int upperBound(long[] source, int sourceOffset, int low, int high, long key) {
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (key < source[sourceOffset + middle])
+                    high = middle;
+                else
+                    low = middle + 1;
+            }
+            return low;
+        }
+
+        /// A task which sorts the range `[low, high)` of the source into the destination, by sorting both halves of
+        /// the range from the destination into the source in parallel, and then merging them back
+        @SuppressWarnings("serial")
+        private final class SortTask extends RecursiveAction {
+            private final long[] source;
+            private final int sourceOffset;
+            private final long[] destination;
+            private final int destinationOffset;
+            private final int low;
+            private final int high;
+
+            private SortTask(long[] source, int sourceOffset, long[] destination, int destinationOffset,
+                             int low, int high) {
+                this.source = source;
+                this.sourceOffset = sourceOffset;
+                this.destination = destination;
+                this.destinationOffset = destinationOffset;
+                this.low = low;
+                this.high = high;
+            }
+
+            @Override
+            protected void compute() {
+                if (high - low <= granularity) {
+                    sortSequential(source, sourceOffset, destination, destinationOffset, low, high);
+                    return;
+                }
+
+                int middle = (low + high) >>> 1;
+                invokeAll(
+                    new SortTask(destination, destinationOffset, source, sourceOffset, low, middle),
+                    new SortTask(destination, destinationOffset, source, sourceOffset, middle, high)
+                );
+
+                new MergeTask(source, sourceOffset, low, middle, middle, high, destination, destinationOffset, low)
+                    .compute();
+            }
+        }
+
+        /// A task which merges two sorted runs of the source into the destination, by splitting them into two pairs
+        /// of shorter runs which are merged in parallel
+        @SuppressWarnings("serial")
+        private final class MergeTask extends RecursiveAction {
+            private final long[] source;
+            private final int sourceOffset;
+            private final int low1;
+            private final int high1;
+            private final int low2;
+            private final int high2;
+            private final long[] destination;
+            private final int destinationOffset;
+            private final int destinationLow;
+
+            private MergeTask(long[] source, int sourceOffset, int low1, int high1, int low2, int high2,
+                              long[] destination, int destinationOffset, int destinationLow) {
+                this.source = source;
+                this.sourceOffset = sourceOffset;
+                this.low1 = low1;
+                this.high1 = high1;
+                this.low2 = low2;
+                this.high2 = high2;
+                this.destination = destination;
+                this.destinationOffset = destinationOffset;
+                this.destinationLow = destinationLow;
+            }
+
+            @Override
+            protected void compute() {
+                int length1 = high1 - low1;
+                int length2 = high2 - low2;
+
+                if (length1 + length2 <= granularity) {
+                    mergeSequential(source, sourceOffset, low1, high1, low2, high2,
+                        destination, destinationOffset, destinationLow);
+                    return;
+                }
+
+                // Split the longer run in half, and the shorter one so that equal elements stay in the correct order
+                int split1;
+                int split2;
+                if (length1 >= length2) {
+                    split1 = (low1 + high1) >>> 1;
+                    split2 = lowerBound(source, sourceOffset, low2, high2, source[sourceOffset + split1]);
+                } else {
+                    split2 = (low2 + high2) >>> 1;
+                    split1 = upperBound(source, sourceOffset, low1, high1, source[sourceOffset + split2]);
+                }
+
+                int destinationSplit = destinationLow + (split1 - low1) + (split2 - low2);
+                invokeAll(
+                    new MergeTask(source, sourceOffset, low1, split1, low2, split2,
+                        destination, destinationOffset, destinationLow),
+                    new MergeTask(source, sourceOffset, split1, high1, split2, high2,
+                        destination, destinationOffset, destinationSplit)
+                );
+            }
+        }
+    }
+}
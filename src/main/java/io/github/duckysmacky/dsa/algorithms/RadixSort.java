@@ -0,0 +1,155 @@
+package io.github.duckysmacky.dsa.algorithms;
+
+/// Least significant digit radix sort implementation for `int` and `long` arrays. Instead of comparing the values, it
+/// distributes them by one byte at a time, starting from the lowest one, which makes it a `O(n * w)` sort, where `w` is
+/// the amount of bytes in a value.
+///
+/// The counts for all the digits are collected in a single pass over the input, and the passes in which all the values
+/// share the same digit are skipped entirely. Negative values are handled by flipping the sign bit, so that the values
+/// are ordered the same way as with the usual numeric comparison.
+///
+/// Unlike the comparison sorts, the distribution needs a scratch array of the same length as the sorted range, which is
+/// allocated once and reused by all the passes. Short ranges are sorted with an insertion sort instead, without any
+/// allocation.
+public final class RadixSort {
+    /// Ranges smaller than this are sorted with an insertion sort
+    private static final int INSERTION_THRESHOLD = 64;
+    /// The amount of bits in a single digit
+    private static final int DIGIT_BITS = 8;
+    /// The amount of possible values of a single digit
+    private static final int RADIX = 1 << DIGIT_BITS;
+
+    private RadixSort() {}
+
+    /// Sorts the array in ascending order
+    public static void sort(int[] array) {
+        sort(array, 0, array.length);
+    }
+
+    /// Sorts the range `[from, to)` of the array in ascending order
+    ///
+    /// @throws IllegalArgumentException if `from` is greater than `to`
+    /// @throws ArrayIndexOutOfBoundsException if the range is out of bounds of the array
+    public static void sort(int[] array, int from, int to) {
+        Sorting.checkRange(array.length, from, to);
+        int length = to - from;
+
+        if (length < INSERTION_THRESHOLD) {
+            Sorting.insertionSort(array, from, to);
+            return;
+        }
+
+        int digits = Integer.BYTES;
+        int[] counts = new int[digits * RADIX];
+
+        for (int i = from; i < to; i++) {
+            int key = array[i] ^ Integer.MIN_VALUE;
+            for (int digit = 0; digit < digits; digit++)
+                counts[digit * RADIX + ((key >>> (digit * DIGIT_BITS)) & (RADIX - 1))]++;
+        }
+
+        int[] source = array;
+        int sourceOffset = from;
+        int[] target = new int[length];
+        int targetOffset = 0;
+
+        for (int digit = 0; digit < digits; digit++) {
+            int shift = digit * DIGIT_BITS;
+            int base = digit * RADIX;
+
+            int firstDigit = ((array[from] ^ Integer.MIN_VALUE) >>> shift) & (RADIX - 1);
+            if (counts[base + firstDigit] == length)
+                continue;
+
+            int offset = 0;
+            for (int i = base; i < base + RADIX; i++) {
+                int count = counts[i];
+                counts[i] = offset;
+                offset += count;
+            }
+
+            for (int i = 0; i < length; i++) {
+                int value = source[sourceOffset + i];
+                int bucket = base + (((value ^ Integer.MIN_VALUE) >>> shift) & (RADIX - 1));
+                target[targetOffset + counts[bucket]++] = value;
+            }
+
+            int[] swappedArray = source;
+            source = target;
+            target = swappedArray;
+
+            int swappedOffset = sourceOffset;
+            sourceOffset = targetOffset;
+            targetOffset = swappedOffset;
+        }
+
+        if (source != array)
+            System.arraycopy(source, 0, array, from, length);
+    }
+
+    /// Sorts the array in ascending order
+    public static void sort(long[] array) {
+        sort(array, 0, array.length);
+    }
+
+    /// Sorts the range `[from, to)` of the array in ascending order
+    ///
+    /// @throws IllegalArgumentException if `from` is greater than `to`
+    /// @throws ArrayIndexOutOfBoundsException if the range is out of bounds of the array
+    public static void sort(long[] array, int from, int to) {
+        Sorting.checkRange(array.length, from, to);
+        int length = to - from;
+
+        if (length < INSERTION_THRESHOLD) {
+            Sorting.insertionSort(array, from, to);
+            return;
+        }
+
+        int digits = Long.BYTES;
+        int[] counts = new int[digits * RADIX];
+
+        for (int i = from; i < to; i++) {
+            long key = array[i] ^ Long.MIN_VALUE;
+            for (int digit = 0; digit < digits; digit++)
+                counts[digit * RADIX + (int) ((key >>> (digit * DIGIT_BITS)) & (RADIX - 1))]++;
+        }
+
+        long[] source = array;
+        int sourceOffset = from;
+        long[] target = new long[length];
+        int targetOffset = 0;
+
+        for (int digit = 0; digit < digits; digit++) {
+            int shift = digit * DIGIT_BITS;
+            int base = digit * RADIX;
+
+            int firstDigit = (int) (((array[from] ^ Long.MIN_VALUE) >>> shift) & (RADIX - 1));
+            if (counts[base + firstDigit] == length)
+                continue;
+
+            int offset = 0;
+            for (int i = base; i < base + RADIX; i++) {
+                int count = counts[i];
+                counts[i] = offset;
+                offset += count;
+            }
+
+            for (int i = 0; i < length; i++) {
+                long value = source[sourceOffset + i];
+                int bucket = base + (int) (((value ^ Long.MIN_VALUE) >>> shift) & (RADIX - 1));
+                target[targetOffset + counts[bucket]++] = value;
+            }
+
+            long[] swappedArray = source;
+            source = target;
+            target = swappedArray;
+
+            int swappedOffset = sourceOffset;
+            sourceOffset = targetOffset;
+            targetOffset = swappedOffset;
+        }
+
+        if (source != array)
+            System.arraycopy(source, 0, array, from, length);
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.duckysmacky.dsa.algorithms;
+
+import java.util.Comparator;
+
+/// Common helpers shared by the sorting algorithms: range checks, swaps and insertion sorts for small ranges
+final class Sorting {
+
+    private Sorting() {}
+
+    /// Checks that the range `[from, to)` is valid for an array of the given length
+    ///
+    /// @throws IllegalArgumentException if `from` is greater than `to`
+    /// @throws ArrayIndexOutOfBoundsException if the range is out of bounds of the array
+    static void checkRange(int length, int from, int to) {
+        if (from > to)
+            throw new IllegalArgumentException("Range start " + from + " is greater than its end " + to);
+        if (from < 0 || to > length)
+            throw new ArrayIndexOutOfBoundsException(
+                "Range [" + from + ", " + to + ") is out of bounds of length " + length);
+    }
+
+    static <T> void swap(T[] array, int i, int j) {
+        T temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    static void swap(int[] array, int i, int j) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    static void swap(long[] array, int i, int j) {
+        long temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    /// Sorts the range `[from, to)` with a basic insertion sort. It is stable and fast on tiny or nearly sorted ranges
+    static <T> void insertionSort(T[] array, int from, int to, Comparator<? super T> comparator) {
+        for (int i = from + 1; i < to; i++) {
+            T current = array[i];
+            int j = i - 1;
+
+            while (j >= from && comparator.compare(array[j], current) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+
+            array[j + 1] = current;
+        }
+    }
+
+    /// Sorts the range `[from, to)` with a basic insertion sort
+    static void insertionSort(int[] array, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int current = array[i];
+            int j = i - 1;
+
+            while (j >= from && array[j] > current) {
+                array[j + 1] = array[j];
+                j--;
+            }
+
+            array[j + 1] = current;
+        }
+    }
+
+    /// Sorts the range `[from, to)` with a basic insertion sort
+    static void insertionSort(long[] array, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            long current = array[i];
+            int j = i - 1;
+
+            while (j >= from && array[j] > current) {
+                array[j + 1] = array[j];
+                j--;
+            }
+
+            array[j + 1] = current;
+        }
+    }
+
+    /// Returns the base two logarithm of the value, rounded down
+    static int log2(int value) {
+        return 31 - Integer.numberOfLeadingZeros(value);
+    }
+}
@@ -1,6 +1,11 @@
 package io.github.duckysmacky.dsa.collections;
 
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /// An immutable heap-allocated sequence of elements. The most basic of the data structures, which has a **fixed**
 /// size (capacity) and cannot grow. This class also provides basic methods to interact with the array, like reversing.
@@ -58,7 +63,7 @@ public class Array<E> implements LinearCollection<E> {
     @Override
     public boolean contains(E element) {
         for (int i = 0; i < size; i++)
-            if (inner[i].equals(element)) return false;
+            if (Objects.equals(inner[i], element)) return true;
         return false;
     }
 
@@ -68,6 +73,8 @@ public class Array<E> implements LinearCollection<E> {
             inner[i] = null;
     }
 
+    /// Returns the inner Java array itself, without copying it. Any changes made to the returned array are reflected in
+    /// this array, which allows the algorithms to work on it in-place
     @SuppressWarnings("unchecked")
     @Override
     public E[] toArray() {
@@ -113,6 +120,33 @@ public class Array<E> implements LinearCollection<E> {
         this.inner[index] = value;
     }
 
+    /// Copies `length` elements of the `source` array starting at `sourceIndex` into the `destination` array starting at
+    /// `destinationIndex`. The source and the destination can be the same array, in which case the elements are copied
+    /// as if through a temporary array, so the overlapping ranges are handled correctly.
+    ///
+    /// This is a wrapper over `System.arraycopy()`, so it copies the whole range at once instead of moving the elements
+    /// one by one
+    ///
+    /// @throws ArrayIndexOutOfBoundsException if any of the ranges is out of bounds of its array
+    public static <T> void copy(Array<? extends T> source, int sourceIndex, Array<T> destination, int destinationIndex,
+                                int length) {
+        if (sourceIndex < 0 || destinationIndex < 0 || length < 0
+            || sourceIndex + length > source.size || destinationIndex + length > destination.size)
+            throw new ArrayIndexOutOfBoundsException("Range is out of bounds of the array");
+
+        System.arraycopy(source.inner, sourceIndex, destination.inner, destinationIndex, length);
+    }
+
+    /// Sets each element in range `[from, to)` to the provided value
+    ///
+    /// @throws ArrayIndexOutOfBoundsException if the range is out of bounds of the array
+    public void fill(int from, int to, E value) {
+        if (from < 0 || to > size || from > to)
+            throw new ArrayIndexOutOfBoundsException("Range is out of bounds of the array");
+
+        Arrays.fill(inner, from, to, value);
+    }
+
     @Override
     public void reverse() {
         int left = 0;
@@ -127,6 +161,19 @@ public class Array<E> implements LinearCollection<E> {
         }
     }
 
+    /// Returns an iterator over the array's elements. Since the array has a fixed size and cannot be structurally
+    /// modified, the iterator never fails
+    @Override
+    public Iterator<E> iterator() {
+        return new ArrayIterator();
+    }
+
+    /// Returns a spliterator which splits the array in half on each split
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(inner, 0, size, Spliterator.ORDERED);
+    }
+
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder("[");
@@ -157,4 +204,23 @@ public class Array<E> implements LinearCollection<E> {
 
         return false;
     }
+
+    /// An iterator which goes over the array from the first element to the last
+    private class ArrayIterator implements Iterator<E> {
+        private int cursor = 0;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() {
+            if (cursor >= size)
+                throw new NoSuchElementException();
+
+            return (E) inner[cursor++];
+        }
+    }
 }
@@ -1,5 +1,10 @@
 package io.github.duckysmacky.dsa.collections;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /// The root `interface` of each and every other collection type or data structure. A collection represents a group
 /// of objects of the same type, which are called elements. This interface defines the most basic and required methods
 /// for an object which refers to itself as a some kind of data structure.
@@ -7,8 +12,13 @@ package io.github.duckysmacky.dsa.collections;
 /// This is a simplified version of Java's base `java.util.Collection` type, used for the similar purposes. It basically
 /// just mimics its functionality. The API tries to be as similar as possible to the original `java.util.Collection`
 ///
+/// Every collection can be iterated over with a `for-each` loop, which visits each element exactly once in a linear
+/// time, and can be turned into a `java.util.stream.Stream`. The iterators are **fail-fast**: if the collection is
+/// structurally modified (an element is added or removed) while it is being iterated, the iterator will throw a
+/// `ConcurrentModificationException` instead of returning inconsistent results.
+///
 /// @param <E> type of collection's element
-public interface Collection<E> {
+public interface Collection<E> extends Iterable<E> {
     /// Get own size (length)
     ///
     /// @return size of the collection
@@ -24,4 +34,26 @@ public interface Collection<E> {
     boolean contains(E element);
     /// Clears the collection, removing all element from itself
     void clear();
+    /// Creates a `Spliterator` over the elements of the collection. By default, it is created from the collection's
+    /// iterator and knows the exact amount of elements (`SIZED`), but splits poorly. Array-based collections override
+    /// it with spliterators which split the underlying array evenly
+    ///
+    /// @return spliterator over the collection's elements
+    @Override
+    default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), 0);
+    }
+    /// Returns a sequential `Stream` of the collection's elements
+    ///
+    /// @return stream over the collection
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+    /// Returns a possibly parallel `Stream` of the collection's elements. How well the work is spread between the
+    /// threads depends on how evenly the collection's spliterator can split itself
+    ///
+    /// @return parallel stream over the collection
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
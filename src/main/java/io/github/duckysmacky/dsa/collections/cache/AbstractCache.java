@@ -0,0 +1,182 @@
+package io.github.duckysmacky.dsa.collections.cache;
+
+import io.github.duckysmacky.dsa.collections.map.HashMap;
+
+/// The parts shared by the caches: a hash index from the keys to their entries, the weight accounting, the eviction
+/// loop and the statistics. The eviction policy itself is left to the subclasses, which keep their own ordering of the
+/// entries and are notified whenever an entry is inserted, accessed or removed.
+///
+/// @param <K> cache's key type
+/// @param <V> cache's value type
+/// @param <T> type of the entries, which carry the bookkeeping of the eviction policy
+abstract class AbstractCache<K, V, T extends AbstractCache.Entry<K, V>> implements Cache<K, V> {
+    private final HashMap<K, T> index;
+    private final long maximumWeight;
+    private final Weigher<? super K, ? super V> weigher;
+    private EvictionListener<? super K, ? super V> evictionListener;
+    private long weight;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    AbstractCache(long maximumWeight, Weigher<? super K, ? super V> weigher) {
+        if (maximumWeight < 1)
+            throw new IllegalArgumentException("Maximum weight cannot be less than 1");
+        if (weigher == null)
+            throw new IllegalArgumentException("Weigher cannot be null");
+
+        this.index = new HashMap<>();
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.evictionListener = null;
+        this.weight = 0;
+    }
+
+    /// Creates a new entry, which is not linked into the eviction order yet
+    abstract T createEntry(K key, V value, int weight);
+    /// Links a new entry into the eviction order
+    abstract void onInsert(T entry);
+    /// Records an access to an entry which is already in the eviction order
+    abstract void onAccess(T entry);
+    /// Unlinks an entry from the eviction order
+    abstract void onRemove(T entry);
+    /// Unlinks all the entries from the eviction order
+    abstract void onClear();
+    /// Returns the entry which should be evicted next, other than the excluded one. Is only called when the cache has
+    /// at least one entry besides the excluded one
+    abstract T victim(T excluded);
+
+    /// Sets the listener which is notified about every evicted entry, or removes it if `null` is provided
+    public void setEvictionListener(EvictionListener<? super K, ? super V> evictionListener) {
+        this.evictionListener = evictionListener;
+    }
+
+    @Override
+    public V get(K key) {
+        T entry = index.get(key);
+        if (entry == null) {
+            missCount++;
+            return null;
+        }
+
+        hitCount++;
+        onAccess(entry);
+        return entry.value;
+    }
+
+    @Override
+    public V peek(K key) {
+        T entry = index.get(key);
+        return entry == null ? null : entry.value;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        if (key == null)
+            throw new IllegalArgumentException("Key cannot be null");
+        if (value == null)
+            throw new IllegalArgumentException("Value cannot be null");
+
+        int entryWeight = weigher.weigh(key, value);
+        if (entryWeight < 0)
+            throw new IllegalArgumentException("Entry weight cannot be negative");
+        if (entryWeight > maximumWeight)
+            throw new IllegalArgumentException("Entry weight exceeds the maximum weight of the cache");
+
+        T entry = index.get(key);
+        if (entry != null) {
+            weight += entryWeight - entry.weight;
+            entry.value = value;
+            entry.weight = entryWeight;
+            onAccess(entry);
+        } else {
+            entry = createEntry(key, value, entryWeight);
+            index.put(key, entry);
+            weight += entryWeight;
+            onInsert(entry);
+        }
+
+        while (weight > maximumWeight)
+            evict(victim(entry));
+    }
+
+    @Override
+    public V remove(K key) {
+        T entry = index.remove(key);
+        if (entry == null)
+            return null;
+
+        onRemove(entry);
+        weight -= entry.weight;
+        return entry.value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return index.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return index.isEmpty();
+    }
+
+    @Override
+    public long weight() {
+        return weight;
+    }
+
+    @Override
+    public long maximumWeight() {
+        return maximumWeight;
+    }
+
+    @Override
+    public void clear() {
+        index.clear();
+        onClear();
+        weight = 0;
+    }
+
+    @Override
+    public CacheStats stats() {
+        return new CacheStats(hitCount, missCount, evictionCount);
+    }
+
+    /// Looks up the entry of a key without recording the access
+    T entry(K key) {
+        return index.get(key);
+    }
+
+    /// Removes the entry from the cache and notifies the listener about it
+    private void evict(T entry) {
+        index.remove(entry.key);
+        onRemove(entry);
+        weight -= entry.weight;
+        evictionCount++;
+
+        if (evictionListener != null)
+            evictionListener.onEviction(entry.key, entry.value);
+    }
+
+    /// A single key-value pair of the cache together with its weight
+    ///
+    /// @param <K> cache's key type
+    /// @param <V> cache's value type
+    static class Entry<K, V> {
+        final K key;
+        V value;
+        int weight;
+
+        Entry(K key, V value, int weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.duckysmacky.dsa.collections.cache;
+
+/// A `Cache` is a bounded key-value store which keeps only a limited amount of entries. Once adding an entry makes the
+/// cache exceed its maximum weight, other entries are evicted to make room for it. Which entries are evicted depends
+/// on the implementation's eviction policy, like evicting the least recently used (`LruCache`) or the least frequently
+/// used (`LfuCache`) ones.
+///
+/// By default, every entry weighs `1`, so the maximum weight is simply the maximum amount of entries. A `Weigher` can be
+/// provided to the implementations to bound the cache by some other measure instead, like the total size of the
+/// values in bytes.
+///
+/// @param <K> cache's key type
+/// @param <V> cache's value type
+public interface Cache<K, V> {
+    /// Get a value from the cache by its key and record the access for the eviction policy. If the value doesn't
+    /// exist, will return `null`. Counts as a hit or a miss in the statistics
+    ///
+    /// @return value at the specified key or `null`
+    V get(K key);
+    /// Get a value from the cache by its key without recording the access, neither for the eviction policy nor in the
+    /// statistics. If the value doesn't exist, will return `null`
+    ///
+    /// @return value at the specified key or `null`
+    V peek(K key);
+    /// Adds a new value to the cache with the specified key, evicting other entries if the cache becomes too heavy. If
+    /// the key already exists, its value is replaced and the access is recorded for the eviction policy
+    ///
+    /// @throws IllegalArgumentException if the key or the value is `null`, or if the entry alone weighs more than the
+    /// maximum weight of the cache
+    void put(K key, V value);
+    /// Removes the value from the cache at the specified key. This is not counted as an eviction
+    ///
+    /// @return removed value or `null` if there was none
+    V remove(K key);
+    /// Checks if the given key is in the cache, without recording the access
+    ///
+    /// @return if the key is in the cache
+    boolean containsKey(K key);
+    /// Get the amount of entries in the cache
+    ///
+    /// @return size of the cache
+    int size();
+    /// Checks if the cache is empty, meaning there are no entries in it
+    ///
+    /// @return whether the cache is empty
+    boolean isEmpty();
+    /// Get the total weight of the entries in the cache
+    ///
+    /// @return weight of the cache
+    long weight();
+    /// Get the maximum total weight of the entries, after which the entries are evicted
+    ///
+    /// @return maximum weight of the cache
+    long maximumWeight();
+    /// Removes all the entries from the cache. This is not counted as an eviction
+    void clear();
+    /// Get a snapshot of the hit, miss and eviction counters of the cache
+    ///
+    /// @return current statistics of the cache
+    CacheStats stats();
+}
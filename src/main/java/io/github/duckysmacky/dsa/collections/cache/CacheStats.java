@@ -0,0 +1,47 @@
+package io.github.duckysmacky.dsa.collections.cache;
+
+/// An immutable snapshot of the statistics of a cache: how many lookups found their value (hits), how many did not
+/// (misses) and how many entries were evicted.
+public final class CacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+
+    /// Creates a new snapshot with the specified counters
+    public CacheStats(long hitCount, long missCount, long evictionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    /// Returns the amount of lookups which found their value
+    public long hitCount() {
+        return hitCount;
+    }
+
+    /// Returns the amount of lookups which didn't find their value
+    public long missCount() {
+        return missCount;
+    }
+
+    /// Returns the total amount of lookups
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /// Returns the amount of entries which were evicted
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /// Returns the fraction of lookups which found their value, or `1` if there were no lookups
+    public double hitRate() {
+        long requests = requestCount();
+        return requests == 0 ? 1 : (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("{hits: %d, misses: %d, evictions: %d}", hitCount, missCount, evictionCount);
+    }
+}
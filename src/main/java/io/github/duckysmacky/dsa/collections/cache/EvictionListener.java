@@ -0,0 +1,12 @@
+package io.github.duckysmacky.dsa.collections.cache;
+
+/// A callback which is notified every time a cache evicts an entry to make room for new ones. Entries which are
+/// removed explicitly, cleared or replaced with a new value are not reported. The listener is called synchronously,
+/// after the entry was already removed from the cache.
+///
+/// @param <K> cache's key type
+/// @param <V> cache's value type
+@FunctionalInterface
+public interface EvictionListener<K, V> {
+    void onEviction(K key, V value);
+}
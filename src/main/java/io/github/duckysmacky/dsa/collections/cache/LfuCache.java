@@ -0,0 +1,131 @@
+package io.github.duckysmacky.dsa.collections.cache;
+
+import io.github.duckysmacky.dsa.collections.list.DoublyLinkedList;
+
+/// A `Cache` implementation which evicts the **least frequently used** entries first, and the least recently used
+/// ones among the entries used equally often. It is based on a `HashMap` index from the keys to their entries, and a
+/// `DoublyLinkedList` of frequency buckets in increasing order of frequency, where each bucket holds a
+/// `DoublyLinkedList` of the entries which were used exactly that many times.
+///
+/// Each entry holds the handles of its bucket and of its own node, so an access only has to move the entry into the
+/// next bucket (creating it right after the current one if needed), and an eviction only has to take the last entry
+/// of the first bucket. Fetching, adding and evicting entries are `O(1)` operations on average.
+///
+/// @param <K> cache's key type
+/// @param <V> cache's value type
+public class LfuCache<K, V> extends AbstractCache<K, V, LfuCache.LfuEntry<K, V>> {
+    private final DoublyLinkedList<FrequencyBucket<K, V>> buckets;
+
+    /// Initiate a new `LFU Cache` which can hold at most the specified amount of entries
+    ///
+    /// @throws IllegalArgumentException if the capacity is less than 1
+    public LfuCache(int capacity) {
+        this(capacity, Weigher.singleton());
+    }
+
+    /// Initiate a new `LFU Cache` in which the total weight of the entries, computed by the provided weigher, can be at
+    /// most the specified maximum weight
+    ///
+    /// @throws IllegalArgumentException if the maximum weight is less than 1 or the weigher is `null`
+    public LfuCache(long maximumWeight, Weigher<? super K, ? super V> weigher) {
+        super(maximumWeight, weigher);
+        this.buckets = new DoublyLinkedList<>();
+    }
+
+    /// Returns how many times the entry of the key was used (added, replaced or fetched), or `0` if the key is not in
+    /// the cache
+    public long frequency(K key) {
+        LfuEntry<K, V> entry = entry(key);
+        return entry == null ? 0 : entry.bucket.getData().frequency;
+    }
+
+    @Override
+    LfuEntry<K, V> createEntry(K key, V value, int weight) {
+        return new LfuEntry<>(key, value, weight);
+    }
+
+    @Override
+    void onInsert(LfuEntry<K, V> entry) {
+        DoublyLinkedList.Node<FrequencyBucket<K, V>> first = buckets.firstNode();
+        if (first == null || first.getData().frequency != 1)
+            first = buckets.linkFirst(new FrequencyBucket<>(1));
+
+        attach(entry, first);
+    }
+
+    @Override
+    void onAccess(LfuEntry<K, V> entry) {
+        DoublyLinkedList.Node<FrequencyBucket<K, V>> current = entry.bucket;
+        DoublyLinkedList.Node<FrequencyBucket<K, V>> next = current.next();
+        long frequency = current.getData().frequency + 1;
+
+        // The next bucket has to be found before the current one is possibly removed by the detach
+        if (next == null || next.getData().frequency != frequency)
+            next = buckets.insertAfter(current, new FrequencyBucket<>(frequency));
+
+        detach(entry);
+        attach(entry, next);
+    }
+
+    @Override
+    void onRemove(LfuEntry<K, V> entry) {
+        detach(entry);
+    }
+
+    @Override
+    void onClear() {
+        buckets.clear();
+    }
+
+    @Override
+    LfuEntry<K, V> victim(LfuEntry<K, V> excluded) {
+        for (var bucket = buckets.firstNode(); bucket != null; bucket = bucket.next()) {
+            DoublyLinkedList.Node<LfuEntry<K, V>> last = bucket.getData().entries.lastNode();
+            if (last.getData() != excluded)
+                return last.getData();
+            if (last.previous() != null)
+                return last.previous().getData();
+        }
+
+        throw new IllegalStateException("Cache has no entry to evict");
+    }
+
+    /// Links the entry as the most recently used one of the bucket
+    private void attach(LfuEntry<K, V> entry, DoublyLinkedList.Node<FrequencyBucket<K, V>> bucket) {
+        entry.bucket = bucket;
+        entry.node = bucket.getData().entries.linkFirst(entry);
+    }
+
+    /// Unlinks the entry from its bucket, removing the bucket if it becomes empty
+    private void detach(LfuEntry<K, V> entry) {
+        DoublyLinkedList<LfuEntry<K, V>> entries = entry.bucket.getData().entries;
+        entries.unlink(entry.node);
+
+        if (entries.isEmpty())
+            buckets.unlink(entry.bucket);
+
+        entry.bucket = null;
+        entry.node = null;
+    }
+
+    /// All the entries which were used the same amount of times, from the most to the least recently used
+    private static final class FrequencyBucket<K, V> {
+        private final long frequency;
+        private final DoublyLinkedList<LfuEntry<K, V>> entries;
+
+        private FrequencyBucket(long frequency) {
+            this.frequency = frequency;
+            this.entries = new DoublyLinkedList<>();
+        }
+    }
+
+    /// An entry together with the handles of its bucket and of its node in the bucket
+    static final class LfuEntry<K, V> extends AbstractCache.Entry<K, V> {
+        private DoublyLinkedList.Node<FrequencyBucket<K, V>> bucket;
+        private DoublyLinkedList.Node<LfuEntry<K, V>> node;
+
+        private LfuEntry(K key, V value, int weight) {
+            super(key, value, weight);
+        }
+    }
+}
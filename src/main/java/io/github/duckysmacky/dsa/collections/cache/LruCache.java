@@ -0,0 +1,73 @@
+package io.github.duckysmacky.dsa.collections.cache;
+
+import io.github.duckysmacky.dsa.collections.list.DoublyLinkedList;
+
+/// A `Cache` implementation which evicts the **least recently used** entries first. It is based on a `HashMap` index
+/// from the keys to their entries, and a `DoublyLinkedList` which keeps the entries in the order they were used, with
+/// the most recently used one at the start of the list.
+///
+/// Each entry holds the handle of its node in the list, so an access only has to move that node to the start, and an
+/// eviction only has to unlink the last node. Fetching, adding and evicting entries are `O(1)` operations on average.
+///
+/// @param <K> cache's key type
+/// @param <V> cache's value type
+public class LruCache<K, V> extends AbstractCache<K, V, LruCache.LruEntry<K, V>> {
+    private final DoublyLinkedList<LruEntry<K, V>> order;
+
+    /// Initiate a new `LRU Cache` which can hold at most the specified amount of entries
+    ///
+    /// @throws IllegalArgumentException if the capacity is less than 1
+    public LruCache(int capacity) {
+        this(capacity, Weigher.singleton());
+    }
+
+    /// Initiate a new `LRU Cache` in which the total weight of the entries, computed by the provided weigher, can be at
+    /// most the specified maximum weight
+    ///
+    /// @throws IllegalArgumentException if the maximum weight is less than 1 or the weigher is `null`
+    public LruCache(long maximumWeight, Weigher<? super K, ? super V> weigher) {
+        super(maximumWeight, weigher);
+        this.order = new DoublyLinkedList<>();
+    }
+
+    @Override
+    LruEntry<K, V> createEntry(K key, V value, int weight) {
+        return new LruEntry<>(key, value, weight);
+    }
+
+    @Override
+    void onInsert(LruEntry<K, V> entry) {
+        entry.node = order.linkFirst(entry);
+    }
+
+    @Override
+    void onAccess(LruEntry<K, V> entry) {
+        order.moveToFirst(entry.node);
+    }
+
+    @Override
+    void onRemove(LruEntry<K, V> entry) {
+        order.unlink(entry.node);
+        entry.node = null;
+    }
+
+    @Override
+    void onClear() {
+        order.clear();
+    }
+
+    @Override
+    LruEntry<K, V> victim(LruEntry<K, V> excluded) {
+        DoublyLinkedList.Node<LruEntry<K, V>> last = order.lastNode();
+        return last.getData() != excluded ? last.getData() : last.previous().getData();
+    }
+
+    /// An entry together with the handle of its node in the usage order
+    static final class LruEntry<K, V> extends AbstractCache.Entry<K, V> {
+        private DoublyLinkedList.Node<LruEntry<K, V>> node;
+
+        private LruEntry(K key, V value, int weight) {
+            super(key, value, weight);
+        }
+    }
+}
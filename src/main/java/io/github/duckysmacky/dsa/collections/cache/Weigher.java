@@ -0,0 +1,17 @@
+package io.github.duckysmacky.dsa.collections.cache;
+
+/// A strategy which computes the weight of a cache entry. The total weight of all the entries in a cache is limited by
+/// its maximum weight. The weight of an entry is computed once, when it is added to the cache.
+///
+/// @param <K> cache's key type
+/// @param <V> cache's value type
+@FunctionalInterface
+public interface Weigher<K, V> {
+    /// Returns the weight of the entry, which cannot be negative
+    int weigh(K key, V value);
+
+    /// Returns a weigher which gives every entry the weight of `1`, so the weight of a cache is its size
+    static <K, V> Weigher<K, V> singleton() {
+        return (key, value) -> 1;
+    }
+}
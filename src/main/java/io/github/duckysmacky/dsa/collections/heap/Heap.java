@@ -5,6 +5,7 @@ import io.github.duckysmacky.dsa.collections.list.ArrayList;
 import io.github.duckysmacky.dsa.collections.list.List;
 
 import java.util.Comparator;
+import java.util.Iterator;
 
 /// Heap is a data structure which is used to manage comparable information. It stores the most preferred element at the
 /// top (heap's root), with elements further down being less preferred. There are two type of the Heap: Max and Min.
@@ -139,7 +140,7 @@ public class Heap<E extends Comparable<? super E>> implements Collection<E> {
             innerHeap.set(0, innerHeap.remove(innerHeap.size() - 1));
             heapifyDown(0);
         } else {
-            innerHeap.set(0, null);
+            innerHeap.remove();
         }
 
         return removed;
@@ -166,6 +167,13 @@ public class Heap<E extends Comparable<? super E>> implements Collection<E> {
         innerHeap.clear();
     }
 
+    /// Returns an iterator over the heap's elements. The elements are returned in the order they are stored in the
+    /// heap, which is **not** sorted
+    @Override
+    public Iterator<E> iterator() {
+        return innerHeap.iterator();
+    }
+
     @Override
     public String toString() {
         return innerHeap.toString();
@@ -0,0 +1,368 @@
+package io.github.duckysmacky.dsa.collections.heap;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/// A primitive-specialized version of `Heap` for `int` values. Just like `Heap`, it can be either a Min-Heap or a
+/// Max-Heap, but the values are stored directly in a `int[]` array and are compared with the primitive operators, so
+/// there is no boxing into `Integer` objects and no `Comparator` calls on the hot path. Sifting moves a single "hole"
+/// through the array instead of swapping elements on every level.
+///
+/// The heap can also be created as **indexed**. In this case every added value gets its own *handle*, an `int`
+/// which stays valid while the value is in the heap, even when the value is moved around inside it. A handle allows
+/// to change the value (`decreaseKey()`, `increaseKey()`, `update()`) or to remove it from the middle of the heap in
+/// `O(log n)` time, which is required by algorithms like Dijkstra's or by timer queues. Handles of removed values
+/// are reused, so the heap doesn't allocate anything once its arrays have grown large enough.
+public class IntHeap {
+    private final boolean max;
+    private final boolean indexed;
+    private int[] values;
+    private int size;
+    // only used by an indexed heap
+    private int[] handles;
+    private int[] positions;
+    private int[] freeHandles;
+    private int freeCount;
+    private int nextHandle;
+
+    /// Private constructor so user can only choose between max-heap and min-heap
+    private IntHeap(boolean max, boolean indexed, int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity cannot be less than 1");
+
+        this.max = max;
+        this.indexed = indexed;
+        this.values = new int[capacity];
+        this.size = 0;
+
+        if (indexed) {
+            this.handles = new int[capacity];
+            this.positions = new int[capacity];
+            this.freeHandles = new int[capacity];
+            Arrays.fill(positions, -1);
+        }
+    }
+
+    /// Creates a new empty Min-Heap with default capacity of `16`. A Min-Heap will prioritize the smallest values
+    /// to be on top
+    public static IntHeap minHeap() {
+        return new IntHeap(false, false, 16);
+    }
+
+    /// Creates a new empty Max-Heap with default capacity of `16`. A Max-Heap will prioritize the biggest values to
+    /// be on top
+    public static IntHeap maxHeap() {
+        return new IntHeap(true, false, 16);
+    }
+
+    /// Creates a new empty indexed Min-Heap of specified starting capacity. Each added value gets a handle which can
+    /// be used to change or remove it later
+    public static IntHeap indexedMinHeap(int capacity) {
+        return new IntHeap(false, true, capacity);
+    }
+
+    /// Creates a new empty indexed Max-Heap of specified starting capacity. Each added value gets a handle which can
+    /// be used to change or remove it later
+    public static IntHeap indexedMaxHeap(int capacity) {
+        return new IntHeap(true, true, capacity);
+    }
+
+    /// Heapifies the provided values, creating a new Min-Heap. This is a `O(n)` operation
+    public static IntHeap minHeapify(int... values) {
+        return heapify(new IntHeap(false, false, Math.max(values.length, 1)), values);
+    }
+
+    /// Heapifies the provided values, creating a new Max-Heap. This is a `O(n)` operation
+    public static IntHeap maxHeapify(int... values) {
+        return heapify(new IntHeap(true, false, Math.max(values.length, 1)), values);
+    }
+
+    /// Copies the values into the empty heap and restores the heap property bottom-up
+    private static IntHeap heapify(IntHeap heap, int[] values) {
+        System.arraycopy(values, 0, heap.values, 0, values.length);
+        heap.size = values.length;
+
+        for (int i = (heap.size >>> 1) - 1; i >= 0; i--)
+            heap.siftDown(i, heap.values[i], -1);
+
+        return heap;
+    }
+
+    /// Returns whether the first value should be closer to the top of the heap than the second one
+    private boolean isBefore(int first, int second) {
+        return max ? first > second : first < second;
+    }
+
+    /// Puts the value (and its handle, if the heap is indexed) at the specified position
+    private void place(int position, int value, int handle) {
+        values[position] = value;
+
+        if (indexed) {
+            handles[position] = handle;
+            positions[handle] = position;
+        }
+    }
+
+    /// Moves the value from the parent of the hole up, until the provided value can be placed in the hole without
+    /// breaking the heap property
+    private void siftUp(int position, int value, int handle) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            int parentValue = values[parent];
+
+            if (!isBefore(value, parentValue))
+                break;
+
+            place(position, parentValue, indexed ? handles[parent] : -1);
+            position = parent;
+        }
+
+        place(position, value, handle);
+    }
+
+    /// Moves the preferred child of the hole up, until the provided value can be placed in the hole without breaking
+    /// the heap property
+    private void siftDown(int position, int value, int handle) {
+        int half = size >>> 1;
+
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+
+            if (right < size && isBefore(values[right], values[child]))
+                child = right;
+            if (!isBefore(values[child], value))
+                break;
+
+            place(position, values[child], indexed ? handles[child] : -1);
+            position = child;
+        }
+
+        place(position, value, handle);
+    }
+
+    /// Makes sure the inner arrays can fit at least one more value
+    private void ensureCapacity() {
+        if (size < values.length)
+            return;
+
+        int newCapacity = values.length * 2;
+        values = Arrays.copyOf(values, newCapacity);
+
+        if (indexed) {
+            handles = Arrays.copyOf(handles, newCapacity);
+            freeHandles = Arrays.copyOf(freeHandles, newCapacity);
+            positions = Arrays.copyOf(positions, newCapacity);
+            Arrays.fill(positions, newCapacity / 2, newCapacity, -1);
+        }
+    }
+
+    /// Returns a handle which is not used by any value in the heap
+    private int acquireHandle() {
+        if (freeCount > 0)
+            return freeHandles[--freeCount];
+        return nextHandle++;
+    }
+
+    /// Marks the handle as unused, so it can be given to a new value
+    private void releaseHandle(int handle) {
+        positions[handle] = -1;
+        freeHandles[freeCount++] = handle;
+    }
+
+    /// Returns the position of the value with the provided handle in the heap
+    private int positionOf(int handle) {
+        if (!indexed)
+            throw new UnsupportedOperationException("Heap is not indexed");
+        if (handle < 0 || handle >= positions.length || positions[handle] == -1)
+            throw new IllegalArgumentException("Invalid handle: " + handle);
+
+        return positions[handle];
+    }
+
+    /// Removes the value at the specified position, filling the hole with the last value of the heap
+    private int removeAt(int position) {
+        int removed = values[position];
+
+        if (indexed)
+            releaseHandle(handles[position]);
+
+        size--;
+        if (position == size)
+            return removed;
+
+        int last = values[size];
+        int lastHandle = indexed ? handles[size] : -1;
+
+        if (position > 0 && isBefore(last, values[(position - 1) >>> 1]))
+            siftUp(position, last, lastHandle);
+        else
+            siftDown(position, last, lastHandle);
+
+        return removed;
+    }
+
+    /// Add a new value to the heap. Will automatically assign it to the correct spot to maintain the heap property
+    ///
+    /// This is a `O(log n)` operation
+    ///
+    /// @return handle of the value if the heap is indexed, else `-1`
+    public int add(int value) {
+        ensureCapacity();
+
+        int handle = indexed ? acquireHandle() : -1;
+        size++;
+        siftUp(size - 1, value, handle);
+        return handle;
+    }
+
+    /// Get the value at the top of the heap. Depending on the type, this will be the biggest/smallest value in the
+    /// heap
+    ///
+    /// This is a `O(1)` operation
+    ///
+    /// @throws NoSuchElementException if the heap is empty
+    public int peek() {
+        if (size == 0)
+            throw new NoSuchElementException("Heap is empty");
+
+        return values[0];
+    }
+
+    /// Get the handle of the value at the top of the heap
+    ///
+    /// @throws NoSuchElementException if the heap is empty
+    /// @throws UnsupportedOperationException if the heap is not indexed
+    public int peekHandle() {
+        if (!indexed)
+            throw new UnsupportedOperationException("Heap is not indexed");
+        if (size == 0)
+            throw new NoSuchElementException("Heap is empty");
+
+        return handles[0];
+    }
+
+    /// Remove and return the value at the top of the heap. Depending on the type, this will be the biggest/smallest
+    /// value in the heap
+    ///
+    /// This is a `O(log n)` operation
+    ///
+    /// @throws NoSuchElementException if the heap is empty
+    public int remove() {
+        if (size == 0)
+            throw new NoSuchElementException("Heap is empty, nothing to remove");
+
+        return removeAt(0);
+    }
+
+    /// Remove and return the value with the provided handle, wherever it is in the heap. The handle becomes invalid
+    ///
+    /// This is a `O(log n)` operation
+    ///
+    /// @throws IllegalArgumentException if the handle doesn't belong to a value in the heap
+    /// @throws UnsupportedOperationException if the heap is not indexed
+    public int remove(int handle) {
+        return removeAt(positionOf(handle));
+    }
+
+    /// Get the value with the provided handle
+    ///
+    /// @throws IllegalArgumentException if the handle doesn't belong to a value in the heap
+    /// @throws UnsupportedOperationException if the heap is not indexed
+    public int get(int handle) {
+        return values[positionOf(handle)];
+    }
+
+    /// Replaces the value with the provided handle and moves it to the correct spot
+    ///
+    /// This is a `O(log n)` operation
+    ///
+    /// @throws IllegalArgumentException if the handle doesn't belong to a value in the heap
+    /// @throws UnsupportedOperationException if the heap is not indexed
+    public void update(int handle, int value) {
+        int position = positionOf(handle);
+        int current = values[position];
+
+        if (isBefore(value, current))
+            siftUp(position, value, handle);
+        else
+            siftDown(position, value, handle);
+    }
+
+    /// Lowers the value with the provided handle. In a Min-Heap this moves the value closer to the top, while in a
+    /// Max-Heap it moves it further away from the top
+    ///
+    /// This is a `O(log n)` operation
+    ///
+    /// @throws IllegalArgumentException if the handle is invalid or the new value is bigger than the current one
+    /// @throws UnsupportedOperationException if the heap is not indexed
+    public void decreaseKey(int handle, int value) {
+        if (value > get(handle))
+            throw new IllegalArgumentException("New value cannot be bigger than the current one");
+
+        update(handle, value);
+    }
+
+    /// Raises the value with the provided handle. In a Max-Heap this moves the value closer to the top, while in a
+    /// Min-Heap it moves it further away from the top
+    ///
+    /// This is a `O(log n)` operation
+    ///
+    /// @throws IllegalArgumentException if the handle is invalid or the new value is smaller than the current one
+    /// @throws UnsupportedOperationException if the heap is not indexed
+    public void increaseKey(int handle, int value) {
+        if (value < get(handle))
+            throw new IllegalArgumentException("New value cannot be smaller than the current one");
+
+        update(handle, value);
+    }
+
+    /// Checks if the handle belongs to a value which is currently in the heap
+    public boolean containsHandle(int handle) {
+        return indexed && handle >= 0 && handle < positions.length && positions[handle] != -1;
+    }
+
+    /// Checks if the heap has the supplied value in it
+    ///
+    /// This is a `O(n)` operation
+    public boolean contains(int value) {
+        for (int i = 0; i < size; i++)
+            if (values[i] == value) return true;
+        return false;
+    }
+
+    /// Get own size (amount of values in the heap)
+    public int size() {
+        return size;
+    }
+
+    /// Checks if the heap is empty
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /// Removes all the values from the heap. All the handles become invalid
+    public void clear() {
+        size = 0;
+
+        if (indexed) {
+            Arrays.fill(positions, -1);
+            freeCount = 0;
+            nextHandle = 0;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+
+        for (int i = 0; i < size; i++) {
+            builder.append(values[i]);
+            if (i < size - 1)
+                builder.append(", ");
+        }
+
+        builder.append("]");
+        return builder.toString();
+    }
+}
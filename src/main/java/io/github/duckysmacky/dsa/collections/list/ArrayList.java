@@ -1,35 +1,59 @@
 package io.github.duckysmacky.dsa.collections.list;
 
 import io.github.duckysmacky.dsa.collections.Array;
+import io.github.duckysmacky.dsa.collections.Collection;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /// A mutable and growable version of a basic array. Supports adding and removing elements from it. It is ordered and
 /// keeps the correct sequence of added and removed elements.
 ///
 /// This implementation of a `List` is based on `Array`, meaning that if there is no more space for new elements, it
-/// will grow in size. Each grow increases own capacity by two, and it is a `O(n)` operation. The starting capacity is
-/// `16` (if not set by the user).
+/// will grow in size. Each grow is a `O(n)` operation, and by default it increases own capacity by two. The way the
+/// list grows can be changed with a `GrowthPolicy`. The starting capacity is `16` (if not set by the user).
+///
+/// The capacity never shrinks by itself, unless a shrink threshold is set with `setShrinkThreshold()`. It can also be
+/// managed manually with `ensureCapacity()` and `trimToSize()`.
 ///
 /// @param <E> type of elements in the array list
 public class ArrayList<E> implements List<E> {
+    private final int initialCapacity;
     private int capacity;
     private int size;
     private Array<E> innerArray;
+    private int modCount;
+    private GrowthPolicy growthPolicy;
+    private double shrinkThreshold;
 
     /// Initialize an empty `ArrayList` with default starting capacity of `16`
     public ArrayList() {
-        this.capacity = 16;
-        this.size = 0;
-        this.innerArray = new Array<>(16);
+        this(16);
     }
 
     /// Initialize an empty `ArrayList` of specified starting capacity
     public ArrayList(int capacity) {
+        this(capacity, GrowthPolicy.doubling());
+    }
+
+    /// Initialize an empty `ArrayList` of specified starting capacity, which grows according to the provided policy
+    public ArrayList(int capacity, GrowthPolicy growthPolicy) {
         if (capacity < 1)
             throw new IllegalArgumentException("Capacity cannot be less than 1");
+        if (growthPolicy == null)
+            throw new IllegalArgumentException("Growth policy cannot be null");
 
+        this.initialCapacity = capacity;
         this.capacity = capacity;
         this.size = 0;
         this.innerArray = new Array<>(capacity);
+        this.growthPolicy = growthPolicy;
+        this.shrinkThreshold = 0;
     }
 
     /// Initialize an `ArrayList` of predefined elements
@@ -41,14 +65,82 @@ public class ArrayList<E> implements List<E> {
         return arrayList;
     }
 
-    /// Reallocate the inner array so that the new capacity will be twice as big as the previous
+    /// Sets the policy which decides how much the list grows once it runs out of space
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        if (growthPolicy == null)
+            throw new IllegalArgumentException("Growth policy cannot be null");
+
+        this.growthPolicy = growthPolicy;
+    }
+
+    /// Sets the threshold for automatic shrinking. Once the list is filled by less than the given fraction of its
+    /// capacity after a removal, the inner array is reallocated to twice the size of the list (but never below the
+    /// starting capacity). A threshold of `0` disables the shrinking, which is the default
+    ///
+    /// The threshold has to be less than `0.5`, so that a shrunk list is never immediately shrunk again by the next
+    /// removal
+    ///
+    /// @throws IllegalArgumentException if the threshold is not within `[0, 0.5)`
+    public void setShrinkThreshold(double shrinkThreshold) {
+        if (!(shrinkThreshold >= 0 && shrinkThreshold < 0.5))
+            throw new IllegalArgumentException("Shrink threshold must be within [0, 0.5)");
+
+        this.shrinkThreshold = shrinkThreshold;
+        shrinkIfSparse();
+    }
+
+    /// Returns the current capacity of the list, which is the amount of elements it can fit without growing
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /// Makes sure the list can fit at least `minCapacity` elements without growing. Calling this before adding a lot
+    /// of elements one by one reduces the amount of reallocations to at most one
+    ///
+    /// This is a `O(n)` operation if the list has to grow, or `O(1)` otherwise
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity)
+            grow(minCapacity);
+    }
+
+    /// Shrinks the capacity of the list to its current size, freeing the unused part of the inner array
+    ///
+    /// This is a `O(n)` operation
+    public void trimToSize() {
+        int newCapacity = Math.max(size, 1);
+        if (newCapacity < capacity) {
+            reallocate(newCapacity);
+            modCount++;
+        }
+    }
+
+    /// Reallocate the inner array so that it can fit at least one more element
     private void grow() {
-        int newCapacity = capacity * 2;
+        grow(capacity + 1);
+    }
+
+    /// Reallocate the inner array so that it can fit at least `minCapacity` elements. The new capacity is given by the
+    /// growth policy, or is set to `minCapacity` if that is not enough
+    private void grow(int minCapacity) {
+        if (minCapacity < 0)
+            throw new OutOfMemoryError("Required array size is too large");
+
+        reallocate(Math.max(growthPolicy.grow(capacity, minCapacity), minCapacity));
+    }
+
+    /// Shrinks the inner array if the list is filled by less than the shrink threshold
+    private void shrinkIfSparse() {
+        if (capacity <= initialCapacity || size >= capacity * shrinkThreshold)
+            return;
+
+        reallocate(Math.max(size * 2, initialCapacity));
+    }
+
+    /// Moves the elements into a new inner array of the given capacity
+    private void reallocate(int newCapacity) {
         Array<E> newInner = new Array<>(newCapacity);
 
-        for (int i = 0; i < innerArray.size(); i++) {
-            newInner.set(i, innerArray.get(i));
-        }
+        Array.copy(innerArray, 0, newInner, 0, size);
 
         this.capacity = newCapacity;
         this.innerArray = newInner;
@@ -64,6 +156,7 @@ public class ArrayList<E> implements List<E> {
 
         innerArray.set(size, element);
         size++;
+        modCount++;
     }
 
     @Override
@@ -82,14 +175,53 @@ public class ArrayList<E> implements List<E> {
             return;
         }
 
-        E previous = element;
-        for (int i = index; i < this.size + 1; i++) {
-            E current = innerArray.get(i);
-            innerArray.set(i, previous);
-            previous = current;
-        }
+        Array.copy(innerArray, index, innerArray, index + 1, size - index);
+        innerArray.set(index, element);
 
         size++;
+        modCount++;
+    }
+
+    /// Adds all the elements of the provided collection to the end of the list, in the order they are returned by its
+    /// iterator. The inner array is grown at most once
+    ///
+    /// This is a `O(k)` operation, where `k` is the amount of added elements
+    @Override
+    public void addAll(Collection<? extends E> elements) {
+        addAll(size, elements);
+    }
+
+    /// Adds all the elements of the provided collection at the specified index, in the order they are returned by its
+    /// iterator. The elements after the index are shifted only once, by the amount of added elements, and the inner
+    /// array is grown at most once
+    ///
+    /// This is a `O(n + k)` operation, where `k` is the amount of added elements
+    @Override
+    public void addAll(int index, Collection<? extends E> elements) {
+        if (index > size || index < 0)
+            throw new IndexOutOfBoundsException(index);
+
+        int count = elements.size();
+        if (count == 0)
+            return;
+
+        if (elements == this) {
+            ArrayList<E> copy = new ArrayList<>(count);
+            copy.addAll(this);
+            elements = copy;
+        }
+
+        if (size + count > capacity)
+            grow(size + count);
+
+        Array.copy(innerArray, index, innerArray, index + count, size - index);
+
+        int i = index;
+        for (E element : elements)
+            innerArray.set(i++, element);
+
+        size += count;
+        modCount++;
     }
 
     @Override
@@ -109,6 +241,8 @@ public class ArrayList<E> implements List<E> {
         innerArray.set(size - 1, null);
 
         size--;
+        modCount++;
+        shrinkIfSparse();
         return removed;
     }
 
@@ -125,17 +259,79 @@ public class ArrayList<E> implements List<E> {
 
         E removed = innerArray.get(index);
 
-        E previous = null;
-        for (int i = this.size - 1; i >= index; i--) {
-            E current = innerArray.get(i);
-            innerArray.set(i, previous);
-            previous = current;
-        }
+        Array.copy(innerArray, index + 1, innerArray, index, size - index - 1);
+        innerArray.set(size - 1, null);
 
         size--;
+        modCount++;
+        shrinkIfSparse();
         return removed;
     }
 
+    /// Removes all the elements which satisfy the provided predicate. The predicate is first evaluated for every
+    /// element, marking the ones to remove in a bit set, and only then the remaining elements are compacted in a single
+    /// pass, so each of them is moved at most once. If the predicate throws, the list is left unchanged
+    ///
+    /// This is a `O(n)` operation
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        int expectedModCount = modCount;
+        int size = this.size;
+
+        // nothing before the first removed element has to be marked or moved
+        int first = 0;
+        while (first < size && !filter.test(innerArray.get(first)))
+            first++;
+
+        if (first == size) {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            return false;
+        }
+
+        long[] removed = new long[((size - first - 1) >> 6) + 1];
+        removed[0] = 1L;
+        for (int i = first + 1; i < size; i++) {
+            if (filter.test(innerArray.get(i)))
+                removed[(i - first) >> 6] |= 1L << (i - first);
+        }
+
+        if (modCount != expectedModCount)
+            throw new ConcurrentModificationException();
+
+        int kept = first;
+        for (int i = first + 1; i < size; i++) {
+            if ((removed[(i - first) >> 6] & (1L << (i - first))) == 0)
+                innerArray.set(kept++, innerArray.get(i));
+        }
+
+        innerArray.fill(kept, size, null);
+        this.size = kept;
+        modCount++;
+        shrinkIfSparse();
+        return true;
+    }
+
+    /// Keeps only the elements which are contained in the provided collection, removing all the others in a single pass
+    ///
+    /// This is a `O(n)` operation, multiplied by the complexity of the other collection's `contains()`
+    @Override
+    public boolean retainAll(Collection<E> other) {
+        return removeIf(element -> !other.contains(element));
+    }
+
+    /// Performs the given action for each element of the list, going over the inner array directly
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        int expectedModCount = modCount;
+
+        for (int i = 0; i < size && modCount == expectedModCount; i++)
+            action.accept(innerArray.get(i));
+
+        if (modCount != expectedModCount)
+            throw new ConcurrentModificationException();
+    }
+
     @Override
     public E get(int index) {
         return innerArray.get(index);
@@ -160,12 +356,25 @@ public class ArrayList<E> implements List<E> {
         return innerArray.find(element);
     }
 
-
     @Override
     public void reverse() {
-        innerArray.reverse();
+        int left = 0;
+        int right = size - 1;
+
+        while (left < right) {
+            E temp = innerArray.get(left);
+            innerArray.set(left, innerArray.get(right));
+            innerArray.set(right, temp);
+            left++;
+            right--;
+        }
+
+        modCount++;
     }
 
+    /// Returns the inner array of the list itself, without copying it. Only the first `size()` elements of it belong to
+    /// the list, and any changes made to them are reflected in the list, which allows the algorithms to work on it
+    /// in-place. The returned array is only valid until the list grows or shrinks
     @Override
     public E[] toArray() {
         return innerArray.toArray();
@@ -178,18 +387,34 @@ public class ArrayList<E> implements List<E> {
 
     @Override
     public boolean isEmpty() {
-        return innerArray.isEmpty();
+        return size == 0;
     }
 
     @Override
     public boolean contains(E element) {
-        return innerArray.contains(element);
+        for (int i = 0; i < size; i++)
+            if (Objects.equals(innerArray.get(i), element)) return true;
+        return false;
     }
 
     @Override
     public void clear() {
-        innerArray.clear();
+        innerArray.fill(0, size, null);
         size = 0;
+        modCount++;
+        shrinkIfSparse();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ArrayListIterator();
+    }
+
+    /// Returns a spliterator which splits the list's inner array in half on each split. It is fail-fast, the same way
+    /// as the iterator
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ArrayListSpliterator(0, -1, 0);
     }
 
     @Override
@@ -199,14 +424,116 @@ public class ArrayList<E> implements List<E> {
 
     @Override
     public int hashCode() {
-        return innerArray.hashCode() + capacity;
+        int hash = 1;
+        for (int i = 0; i < size; i++)
+            hash = 31 * hash + Objects.hashCode(innerArray.get(i));
+        return hash;
     }
 
     @Override
     public boolean equals(Object obj) {
-        if (obj instanceof ArrayList<?> list)
-            return this.innerArray.equals(list.innerArray);
+        if (!(obj instanceof ArrayList<?> list) || this.size != list.size)
+            return false;
 
-        return false;
+        for (int i = 0; i < size; i++) {
+            if (!Objects.equals(this.innerArray.get(i), list.innerArray.get(i)))
+                return false;
+        }
+
+        return true;
+    }
+
+    /// A fail-fast iterator which goes over the list from the first element to the last
+    private class ArrayListIterator implements Iterator<E> {
+        private int cursor = 0;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (cursor >= size)
+                throw new NoSuchElementException();
+
+            return innerArray.get(cursor++);
+        }
+    }
+
+    /// A fail-fast spliterator over the index range `[index, fence)` of the list. The fence is bound lazily, on the
+    /// first use, so that the list can still be modified after the spliterator has been created
+    private class ArrayListSpliterator implements Spliterator<E> {
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        private ArrayListSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        /// Returns the end of the range, initializing it with the current size on the first use
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int high = getFence();
+            int low = index;
+            int middle = (low + high) >>> 1;
+
+            if (low >= middle)
+                return null;
+
+            index = middle;
+            return new ArrayListSpliterator(low, middle, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            int high = getFence();
+            if (index >= high)
+                return false;
+
+            E element = innerArray.get(index++);
+            action.accept(element);
+
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            int high = getFence();
+            Array<E> array = innerArray;
+
+            for (int i = index; i < high; i++)
+                action.accept(array.get(i));
+            index = high;
+
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
     }
 }
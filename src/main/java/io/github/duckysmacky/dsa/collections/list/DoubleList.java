@@ -0,0 +1,79 @@
+package io.github.duckysmacky.dsa.collections.list;
+
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+
+/// A primitive analog of `List` for `double` values. It is a modifiable sequence of indexed elements, just like a
+/// `List`, but the elements are stored and returned as raw `double` values, so no boxing into `Double` objects ever
+/// happens
+public interface DoubleList {
+    /// Get own size (length)
+    ///
+    /// @return size of the list
+    int size();
+    /// Checks if the list is empty, meaning there are no elements in it
+    ///
+    /// @return whether the list is empty
+    boolean isEmpty();
+    /// Checks if the list has the supplied value it in
+    ///
+    /// @return whether the list contains the value
+    boolean contains(double value);
+    /// Clears the list, removing all element from itself
+    void clear();
+    /// Get the element at the specified index
+    ///
+    /// @return element at the index
+    double get(int index);
+    /// Get the first element
+    ///
+    /// @throws java.util.NoSuchElementException if the list is empty
+    ///
+    /// @return element at the start of the list
+    double getFirst();
+    /// Get the last element
+    ///
+    /// @throws java.util.NoSuchElementException if the list is empty
+    ///
+    /// @return element at the end of the list
+    double getLast();
+    /// Searches the list for the specified value. If the value is found, returns its index, else will return `-1`
+    ///
+    /// @return index of value
+    int find(double value);
+    /// Set the value of the element at the specified index
+    void set(int index, double value);
+    /// Reverse the order of the elements in the list in-place
+    void reverse();
+    /// Returns all the list's elements as a new basic Java array
+    ///
+    /// @return an array of type `double`
+    double[] toArray();
+    /// Add a new element to the end of the list
+    void add(double value);
+    /// Add a new element at the specified index of the list
+    void add(int index, double value);
+    /// Add all the provided values to the end of the list
+    void addAll(double... values);
+    /// Remove the last element of the list
+    ///
+    /// @throws java.util.NoSuchElementException if the list is empty
+    ///
+    /// @return removed element
+    double remove();
+    /// Remove the element at the specified location
+    ///
+    /// @return removed element
+    double remove(int index);
+    /// Performs the given action for each element of the list in order, without boxing the elements
+    void forEach(DoubleConsumer action);
+    /// Returns an iterator over the list's elements, which returns them without boxing through `nextDouble()`
+    ///
+    /// @return primitive iterator over the list
+    PrimitiveIterator.OfDouble iterator();
+    /// Returns a sequential primitive stream over the list's elements
+    ///
+    /// @return stream of the list's elements
+    DoubleStream stream();
+}
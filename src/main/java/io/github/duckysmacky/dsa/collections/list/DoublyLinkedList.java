@@ -1,15 +1,35 @@
 package io.github.duckysmacky.dsa.collections.list;
 
+import io.github.duckysmacky.dsa.collections.Collection;
+import io.github.duckysmacky.dsa.collections.queue.Deque;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
 /// A doubly linked list which consists of nodes. Each node is connected to the previous and the next one, with the
 /// last one being connected to nothing. The `head` node is the beginning of the list, while the `tail` is the end.
 ///
-/// A `Doubly Linked List`, unlike a basic `Linked List`, can be traversed both forward and backward.
+/// A `Doubly Linked List`, unlike a basic `Linked List`, can be traversed both forward and backward. This makes adding
+/// and removing elements at both ends a `O(1)` operation, and lets the indexed operations walk from whichever end is
+/// closer to the index, so they take at most `n / 2` steps.
+///
+/// The nodes of the list are also exposed as handles: methods like `linkLast()` and `nodeAt()` return the `Node` which
+/// holds an element, and the node can later be used to read or replace the element, to insert next to it or to
+/// unlink it in a `O(1)` time, without searching the list again. A handle stays valid until its node is removed from
+/// the list.
 ///
 /// @param <E> the type of elements in a linked list
-public class DoublyLinkedList<E> {
+public class DoublyLinkedList<E> implements List<E>, Deque<E> {
     private Node<E> head;
     private Node<E> tail;
     private int size;
+    private int modCount;
 
     /// Constructs an empty `Doubly Linked List`
     public DoublyLinkedList() {
@@ -21,181 +41,137 @@ public class DoublyLinkedList<E> {
     /// Construct a new instance from predefined elements
     @SafeVarargs
     public DoublyLinkedList(E... elements) {
-        this.head = new Node<>(elements[0]);
-
-        Node<E> currentNode = this.head;
-        for (int i = 1; i < elements.length; i++) {
-            Node<E> node = new Node<>(elements[i]);
-
-            currentNode.next = node;
-            node.previous = currentNode;
-
-            currentNode = node;
-        }
-
-        this.tail = currentNode;
-        this.size = elements.length;
+        this();
+        for (E element : elements)
+            linkLast(element);
     }
 
-    /// Adds data at the beginning of the list
+    /// Adds an element at the beginning of the list
     ///
     /// This is a `O(1)` operation
-    public void addStart(E data) {
-        Node<E> newNode = new Node<>(data);
-
-        if (this.head != null) {
-            this.head.previous = newNode;
-            newNode.next = this.head;
-        }
-
-        if (this.tail == null)
-            this.tail = newNode;
-
-        this.head = newNode;
-        this.size++;
+    @Override
+    public void addFirst(E element) {
+        linkFirst(element);
     }
 
-    /// Adds data to the end of the list
+    /// Adds an element to the end of the list
     ///
     /// This is a `O(1)` operation
-    public void addEnd(E data) {
-        Node<E> newNode = new Node<>(data);
-
-        if (this.tail != null) {
-            newNode.previous = this.tail;
-            this.tail.next = newNode;
-        }
-
-        if (this.head == null)
-            this.head = newNode;
+    @Override
+    public void addLast(E element) {
+        linkLast(element);
+    }
 
-        this.tail = newNode;
-        this.size++;
+    @Override
+    public void add(E element) {
+        linkLast(element);
     }
 
-    /// Adds data at the specified index. The value will be inserted right before the element at the provided index
+    /// Adds an element at the specified index. The value will be inserted right before the previous element at the
+    /// provided index
     ///
-    /// This is a `O(n)` operation
-    public void addAt(int index, E data) {
-        if (index == 0)
-            addStart(data);
-        if (index == size - 1)
-            addEnd(data);
-
-        Node<E> newNode = new Node<>(data);
-        Node<E> currentNode = this.head;
+    /// This is a `O(min(index, n - index))` operation
+    ///
+    /// @throws IndexOutOfBoundsException if the index is out of range
+    @Override
+    public void add(int index, E element) {
+        Objects.checkIndex(index, size + 1);
 
-        for (int i = 0; i < this.size; i++) {
-            if (i == index - 1) {
-                newNode.next = currentNode.next;
-                newNode.previous = currentNode;
-                currentNode.next.previous = newNode;
-                currentNode.next = newNode;
-                break;
-            }
+        if (index == size)
+            linkLast(element);
+        else
+            insertBefore(node(index), element);
+    }
 
-            currentNode = currentNode.next;
-        }
+    @Override
+    public boolean offerFirst(E element) {
+        addFirst(element);
+        return true;
+    }
 
-        this.size++;
+    @Override
+    public boolean offerLast(E element) {
+        addLast(element);
+        return true;
     }
 
-    /// Removes the element at the beginning of the list and returns it
+    /// Removes the element at the beginning of the list and returns it, or returns `null` if the list is empty
     ///
     /// This is a `O(1)` operation
     ///
     /// @return removed element
-    public E removeStart() {
-        Node<E> removedNode = this.head;
-        if (removedNode == null) return null;
-
-        this.head = removedNode.next;
-        this.head.previous = null;
-        removedNode.next = null;
-
-        this.size--;
-        return removedNode.data;
+    @Override
+    public E removeFirst() {
+        if (this.head == null) return null;
+        return unlink(this.head);
     }
 
-    /// Removes the element at the end of the list and returns it
+    /// Removes the element at the end of the list and returns it, or returns `null` if the list is empty
     ///
     /// This is a `O(1)` operation
     ///
     /// @return removed element
-    public E removeEnd() {
-        Node<E> removedNode = this.tail;
-        if (removedNode == null) return null;
-
-        this.tail = removedNode.previous;
-        this.tail.next = null;
-        removedNode.previous = null;
+    @Override
+    public E removeLast() {
+        if (this.tail == null) return null;
+        return unlink(this.tail);
+    }
 
-        this.size--;
-        return removedNode.data;
+    @Override
+    public E remove() {
+        return removeLast();
     }
 
     /// Removes the element at the specified index and returns it
     ///
-    /// This is a `O(n)` operation
+    /// This is a `O(min(index, n - index))` operation
+    ///
+    /// @throws IndexOutOfBoundsException if the index is out of range
     ///
     /// @return removed element
-    public E removeAt(int index) {
-        if (index == 0)
-            return removeStart();
-        if (index == size - 1)
-            return removeEnd();
-
-        Node<E> removedNode = null;
-        Node<E> currentNode = this.head;
-        for (int i = 0; i < this.size; i++) {
-            if (i == index - 1) {
-                removedNode = currentNode.next;
-                currentNode.next = currentNode.next.next;
-                currentNode.next.previous = currentNode;
-                removedNode.next = null;
-                removedNode.previous = null;
-                break;
-            }
-
-            currentNode = currentNode.next;
-        }
+    @Override
+    public E remove(int index) {
+        Objects.checkIndex(index, size);
+        return unlink(node(index));
+    }
 
-        if (removedNode == null) return null;
+    @Override
+    public E pollFirst() {
+        return removeFirst();
+    }
 
-        this.size--;
-        return removedNode.data;
+    @Override
+    public E pollLast() {
+        return removeLast();
     }
 
-    /// Sets the value for the first element of the list
+    /// Replaces the first element of the list with the provided element. Does nothing if the list is empty
     ///
     /// This is a `O(1)` operation
-    public void setStart(E value) {
+    @Override
+    public void setFirst(E element) {
         if (this.head == null) return;
-        this.head.data = value;
+        this.head.data = element;
     }
 
-    /// Sets the data for the last element of the list
+    /// Replaces the last element of the list with the provided element. Does nothing if the list is empty
     ///
     /// This is a `O(1)` operation
-    public void setEnd(E value) {
+    @Override
+    public void setLast(E element) {
         if (this.tail == null) return;
-        this.tail.data = value;
+        this.tail.data = element;
     }
 
-    /// Sets the data for the element at the specified index
+    /// Replaces the element at the specified index with the provided element
     ///
-    /// This is a `O(n)` operation
-    public void setAt(int index, E value) {
-        Node<E> currentNode = this.head;
-
-        for (int i = 0; i < this.size; i++) {
-            if (i == index) {
-                currentNode.data = value;
-                break;
-            }
-
-            currentNode = currentNode.next;
-        }
+    /// This is a `O(min(index, n - index))` operation
+    ///
+    /// @throws IndexOutOfBoundsException if the index is out of range
+    @Override
+    public void set(int index, E element) {
+        Objects.checkIndex(index, size);
+        node(index).data = element;
     }
 
     /// Get the element at the beginning of the list
@@ -203,6 +179,7 @@ public class DoublyLinkedList<E> {
     /// This is a `O(1)` operation
     ///
     /// @return first element of the list
+    @Override
     public E getFirst() {
         if (this.head == null) return null;
         return this.head.data;
@@ -213,6 +190,7 @@ public class DoublyLinkedList<E> {
     /// This is a `O(1)` operation
     ///
     /// @return last element of the list
+    @Override
     public E getLast() {
         if (this.tail == null) return null;
         return this.tail.data;
@@ -220,48 +198,410 @@ public class DoublyLinkedList<E> {
 
     /// Get the element at the specified index
     ///
-    /// This is a `O(n)` operation
+    /// This is a `O(min(index, n - index))` operation
+    ///
+    /// @throws IndexOutOfBoundsException if the index is out of range
     ///
     /// @return element at the specified index
-    public E getAt(int index) {
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return node(index).data;
+    }
+
+    /// Searches the list for the specified element. If the element is found, returns its index, else will return `-1`
+    ///
+    /// This is a `O(n)` operation
+    @Override
+    public int find(E element) {
         Node<E> currentNode = this.head;
 
         for (int i = 0; i < this.size; i++) {
-            if (i == index)
-                return currentNode.data;
+            if (Objects.equals(currentNode.data, element))
+                return i;
 
             currentNode = currentNode.next;
         }
 
-        return null;
+        return -1;
     }
 
-    /// Reverses the list in-place
+    @Override
+    public boolean contains(E element) {
+        return find(element) != -1;
+    }
+
+    /// Returns the node which holds the first element of the list, or `null` if the list is empty
+    public Node<E> firstNode() {
+        return head;
+    }
+
+    /// Returns the node which holds the last element of the list, or `null` if the list is empty
+    public Node<E> lastNode() {
+        return tail;
+    }
+
+    /// Returns the node which holds the element at the specified index
+    ///
+    /// This is a `O(min(index, n - index))` operation
+    ///
+    /// @throws IndexOutOfBoundsException if the index is out of range
+    public Node<E> nodeAt(int index) {
+        Objects.checkIndex(index, size);
+        return node(index);
+    }
+
+    /// Adds an element at the beginning of the list and returns the node which holds it
+    ///
+    /// This is a `O(1)` operation
+    public Node<E> linkFirst(E element) {
+        Node<E> newNode = new Node<>(this, element);
+
+        if (this.head == null) {
+            this.tail = newNode;
+        } else {
+            newNode.next = this.head;
+            this.head.previous = newNode;
+        }
+
+        this.head = newNode;
+        this.size++;
+        this.modCount++;
+        return newNode;
+    }
+
+    /// Adds an element to the end of the list and returns the node which holds it
+    ///
+    /// This is a `O(1)` operation
+    public Node<E> linkLast(E element) {
+        Node<E> newNode = new Node<>(this, element);
+
+        if (this.tail == null) {
+            this.head = newNode;
+        } else {
+            newNode.previous = this.tail;
+            this.tail.next = newNode;
+        }
+
+        this.tail = newNode;
+        this.size++;
+        this.modCount++;
+        return newNode;
+    }
+
+    /// Inserts an element right before the provided node and returns the node which holds it
+    ///
+    /// This is a `O(1)` operation
+    ///
+    /// @throws IllegalArgumentException if the node is not a part of this list
+    public Node<E> insertBefore(Node<E> node, E element) {
+        checkOwner(node);
+        if (node == this.head)
+            return linkFirst(element);
+
+        Node<E> newNode = new Node<>(this, element);
+        newNode.previous = node.previous;
+        newNode.next = node;
+        node.previous.next = newNode;
+        node.previous = newNode;
+
+        this.size++;
+        this.modCount++;
+        return newNode;
+    }
+
+    /// Inserts an element right after the provided node and returns the node which holds it
+    ///
+    /// This is a `O(1)` operation
+    ///
+    /// @throws IllegalArgumentException if the node is not a part of this list
+    public Node<E> insertAfter(Node<E> node, E element) {
+        checkOwner(node);
+        if (node == this.tail)
+            return linkLast(element);
+
+        return insertBefore(node.next, element);
+    }
+
+    /// Removes the provided node from the list and returns its element. The node can no longer be used afterward
+    ///
+    /// This is a `O(1)` operation
+    ///
+    /// @throws IllegalArgumentException if the node is not a part of this list
+    public E unlink(Node<E> node) {
+        checkOwner(node);
+        detach(node);
+
+        node.list = null;
+        this.size--;
+        this.modCount++;
+        return node.data;
+    }
+
+    /// Moves the provided node to the beginning of the list, keeping its element
+    ///
+    /// This is a `O(1)` operation
+    ///
+    /// @throws IllegalArgumentException if the node is not a part of this list
+    public void moveToFirst(Node<E> node) {
+        checkOwner(node);
+        if (node == this.head)
+            return;
+
+        detach(node);
+        node.next = this.head;
+        this.head.previous = node;
+        this.head = node;
+        this.modCount++;
+    }
+
+    /// Moves the provided node to the end of the list, keeping its element
+    ///
+    /// This is a `O(1)` operation
+    ///
+    /// @throws IllegalArgumentException if the node is not a part of this list
+    public void moveToLast(Node<E> node) {
+        checkOwner(node);
+        if (node == this.tail)
+            return;
+
+        detach(node);
+        node.previous = this.tail;
+        this.tail.next = node;
+        this.tail = node;
+        this.modCount++;
+    }
+
+    /// Adds all the elements of the provided collection to the end of the list, in the order they are returned by its
+    /// iterator
+    ///
+    /// This is a `O(k)` operation, where `k` is the amount of added elements
+    @Override
+    public void addAll(Collection<? extends E> elements) {
+        addAll(size, elements);
+    }
+
+    /// Adds all the elements of the provided collection at the specified index, in the order they are returned by its
+    /// iterator. The new nodes are linked into a chain first, and then the whole chain is inserted at once
+    ///
+    /// This is a `O(min(index, n - index) + k)` operation, where `k` is the amount of added elements
+    @Override
+    public void addAll(int index, Collection<? extends E> elements) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException(index);
+
+        Node<E> first = null;
+        Node<E> last = null;
+        int count = 0;
+
+        for (E element : elements) {
+            Node<E> node = new Node<>(this, element);
+
+            if (first == null) {
+                first = node;
+            } else {
+                last.next = node;
+                node.previous = last;
+            }
+
+            last = node;
+            count++;
+        }
+
+        if (count == 0)
+            return;
+
+        Node<E> nextNode = index == size ? null : node(index);
+        Node<E> previousNode = nextNode == null ? this.tail : nextNode.previous;
+
+        first.previous = previousNode;
+        last.next = nextNode;
+
+        if (previousNode == null)
+            this.head = first;
+        else
+            previousNode.next = first;
+
+        if (nextNode == null)
+            this.tail = last;
+        else
+            nextNode.previous = last;
+
+        this.size += count;
+        this.modCount++;
+    }
+
+    /// Removes all the elements which satisfy the provided predicate. The predicate is first evaluated for every
+    /// element, marking the nodes to remove in a bit set, and only then the marked nodes are unlinked in a single pass.
+    /// If the predicate throws, the list is left unchanged
+    ///
+    /// This is a `O(n)` operation
+    ///
+    /// @return whether any elements were removed
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        int expectedModCount = modCount;
+        int size = this.size;
+
+        // nothing before the first removed node has to be marked or unlinked
+        Node<E> previousNode = null;
+        Node<E> firstNode = this.head;
+        int first = 0;
+        while (firstNode != null && !filter.test(firstNode.data)) {
+            previousNode = firstNode;
+            firstNode = firstNode.next;
+            first++;
+        }
+
+        if (firstNode == null) {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            return false;
+        }
+
+        long[] removed = new long[((size - first - 1) >> 6) + 1];
+        removed[0] = 1L;
+        Node<E> node = firstNode.next;
+        for (int i = 1; node != null && i < size - first; i++, node = node.next) {
+            if (filter.test(node.data))
+                removed[i >> 6] |= 1L << i;
+        }
+
+        if (modCount != expectedModCount)
+            throw new ConcurrentModificationException();
+
+        Node<E> currentNode = firstNode;
+        int count = 0;
+        for (int i = 0; currentNode != null; i++) {
+            Node<E> nextNode = currentNode.next;
+
+            if ((removed[i >> 6] & (1L << i)) != 0) {
+                if (previousNode == null)
+                    this.head = nextNode;
+                else
+                    previousNode.next = nextNode;
+
+                if (nextNode != null)
+                    nextNode.previous = previousNode;
+
+                currentNode.next = null;
+                currentNode.previous = null;
+                currentNode.list = null;
+                count++;
+            } else {
+                previousNode = currentNode;
+            }
+
+            currentNode = nextNode;
+        }
+
+        this.tail = previousNode;
+        this.size -= count;
+        this.modCount++;
+        return true;
+    }
+
+    /// Keeps only the elements which are contained in the provided collection, removing all the others in a single pass
+    ///
+    /// This is a `O(n)` operation, multiplied by the complexity of the other collection's `contains()`
+    ///
+    /// @return whether any elements were removed
+    @Override
+    public boolean retainAll(Collection<E> other) {
+        return removeIf(element -> !other.contains(element));
+    }
+
+    /// Performs the given action for each element of the list, following the nodes directly
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        int expectedModCount = modCount;
+        Node<E> currentNode = this.head;
+
+        for (int i = 0; i < this.size && modCount == expectedModCount; i++) {
+            action.accept(currentNode.data);
+            currentNode = currentNode.next;
+        }
+
+        if (modCount != expectedModCount)
+            throw new ConcurrentModificationException();
+    }
+
+    /// Reverses the list in-place by swapping the links of every node
     ///
     /// This is a `O(n)` operation
+    @Override
     public void reverse() {
         Node<E> currentNode = this.head;
-        Node<E> previousNode = null;
 
-        for (int i = 0; i < this.size; i++) {
-            previousNode = currentNode.previous;
-            currentNode.previous = currentNode.next;
-            currentNode.next = previousNode;
+        while (currentNode != null) {
+            Node<E> nextNode = currentNode.next;
+            currentNode.next = currentNode.previous;
+            currentNode.previous = nextNode;
+            currentNode = nextNode;
+        }
+
+        Node<E> oldHead = this.head;
+        this.head = this.tail;
+        this.tail = oldHead;
+        this.modCount++;
+    }
+
+    @Override
+    public void clear() {
+        Node<E> currentNode = this.head;
 
-            currentNode = currentNode.previous;
+        // Invalidate the handles, so that they cannot be used to corrupt the list afterward
+        while (currentNode != null) {
+            Node<E> nextNode = currentNode.next;
+            currentNode.next = null;
+            currentNode.previous = null;
+            currentNode.list = null;
+            currentNode = nextNode;
         }
 
-        this.tail = this.head;
-        this.head = previousNode.previous;
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
+        this.modCount++;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return head == null;
     }
 
     /// Returns the size (length) of the list
     ///
     /// This is a `O(1)` operation
-    public int getSize() {
+    @Override
+    public int size() {
         return size;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public E[] toArray() {
+        Object[] array = new Object[this.size];
+        Node<E> currentNode = this.head;
+
+        for (int i = 0; i < this.size; i++) {
+            array[i] = currentNode.data;
+            currentNode = currentNode.next;
+        }
+
+        return (E[]) array;
+    }
+
+    /// Returns a fail-fast iterator which goes over the list from the head to the tail
+    @Override
+    public Iterator<E> iterator() {
+        return new DoublyLinkedListIterator();
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
 
     @Override
     public String toString() {
@@ -287,30 +627,117 @@ public class DoublyLinkedList<E> {
         return super.equals(obj);
     }
 
-    /// The inner `Node` structure which contains the data and a reference to the next node in the list
+    /// Returns the node at the specified index, walking from the head or from the tail, whichever is closer
+    private Node<E> node(int index) {
+        Node<E> currentNode;
+
+        if (index < size >> 1) {
+            currentNode = this.head;
+            for (int i = 0; i < index; i++)
+                currentNode = currentNode.next;
+        } else {
+            currentNode = this.tail;
+            for (int i = size - 1; i > index; i--)
+                currentNode = currentNode.previous;
+        }
+
+        return currentNode;
+    }
+
+    /// Unlinks the node from its neighbours, leaving the size of the list unchanged
+    private void detach(Node<E> node) {
+        if (node.previous == null)
+            this.head = node.next;
+        else
+            node.previous.next = node.next;
+
+        if (node.next == null)
+            this.tail = node.previous;
+        else
+            node.next.previous = node.previous;
+
+        node.next = null;
+        node.previous = null;
+    }
+
+    private void checkOwner(Node<E> node) {
+        if (node == null || node.list != this)
+            throw new IllegalArgumentException("Node is not a part of this list");
+    }
+
+    /// A node of the list, which contains the data and references to the previous and the next nodes. It is also used
+    /// as a handle to an element, which allows to access and modify the list at its position in a `O(1)` time
     ///
     /// @param <T> the type of contained data
-    private static class Node<T> {
+    public static final class Node<T> {
+        private DoublyLinkedList<T> list;
         private T data;
         private Node<T> next;
         private Node<T> previous;
 
-        /// Constructs a new `Node` with no `next` and no `previous` nodes
-        public Node(T data) {
+        /// Constructs a new `Node` of the list with no `next` and no `previous` nodes
+        private Node(DoublyLinkedList<T> list, T data) {
+            this.list = list;
             this.data = data;
             this.next = null;
             this.previous = null;
         }
 
-        public boolean isTail() {
-            return next == null;
+        /// Returns the element held by the node
+        public T getData() {
+            return data;
+        }
+
+        /// Replaces the element held by the node
+        public void setData(T data) {
+            this.data = data;
+        }
+
+        /// Returns the next node of the list, or `null` if this is the last one
+        public Node<T> next() {
+            return next;
+        }
+
+        /// Returns the previous node of the list, or `null` if this is the first one
+        public Node<T> previous() {
+            return previous;
+        }
+
+        /// Returns whether the node is still a part of a list
+        public boolean isLinked() {
+            return list != null;
         }
 
         @Override
         public String toString() {
-            String next = this.next == null ? "null" : this.next.data.toString();
-            String previous = this.previous == null ? "null" : this.previous.data.toString();
-            return String.format("{%s <- %s -> %s}", previous, data.toString(), next);
+            String next = this.next == null ? "null" : String.valueOf(this.next.data);
+            String previous = this.previous == null ? "null" : String.valueOf(this.previous.data);
+            return String.format("{%s <- %s -> %s}", previous, data, next);
+        }
+    }
+
+    /// A fail-fast iterator which goes over the list from the head to the tail
+    private class DoublyLinkedListIterator implements Iterator<E> {
+        private Node<E> nextNode = head;
+        private int remaining = size;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (remaining <= 0)
+                throw new NoSuchElementException();
+
+            E data = nextNode.data;
+            nextNode = nextNode.next;
+            remaining--;
+            return data;
         }
     }
 }
@@ -0,0 +1,43 @@
+package io.github.duckysmacky.dsa.collections.list;
+
+/// A strategy which decides how much an array-based list grows when it runs out of space. A bigger growth factor means
+/// fewer reallocations (and copies), while a smaller one wastes less memory on unused slots.
+///
+/// The default policies can be obtained through `doubling()`, `oneAndHalf()` and `increment()`, but any custom
+/// strategy can be provided as a lambda.
+@FunctionalInterface
+public interface GrowthPolicy {
+    /// Returns the new capacity for an inner array of the given capacity which has to fit at least `minCapacity`
+    /// elements. The returned value may be less than `minCapacity`, in which case `minCapacity` is used instead
+    int grow(int capacity, int minCapacity);
+
+    /// Returns a policy which doubles the capacity on each grow. Adding an element is an amortized `O(1)` operation,
+    /// but up to a half of the inner array may be left unused
+    static GrowthPolicy doubling() {
+        return (capacity, minCapacity) -> saturate((long) capacity * 2);
+    }
+
+    /// Returns a policy which increases the capacity by a half on each grow. Adding an element is still an amortized
+    /// `O(1)` operation, with a third of the inner array being left unused at worst, at the cost of more frequent
+    /// reallocations than with doubling
+    static GrowthPolicy oneAndHalf() {
+        return (capacity, minCapacity) -> saturate(capacity + (long) (capacity >> 1) + 1);
+    }
+
+    /// Returns a policy which increases the capacity by a fixed amount on each grow. At most `increment - 1` slots are
+    /// left unused, but adding `n` elements one by one becomes a `O(n^2 / increment)` operation, so this is only
+    /// suitable for lists of a roughly known size
+    ///
+    /// @throws IllegalArgumentException if the increment is less than 1
+    static GrowthPolicy increment(int increment) {
+        if (increment < 1)
+            throw new IllegalArgumentException("Increment cannot be less than 1");
+
+        return (capacity, minCapacity) -> saturate((long) capacity + increment);
+    }
+
+    /// Clamps the computed capacity to the biggest possible array length
+    private static int saturate(long capacity) {
+        return (int) Math.min(capacity, Integer.MAX_VALUE - 8);
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.duckysmacky.dsa.collections.list;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/// A primitive analog of `List` for `int` values. It is a modifiable sequence of indexed elements, just like a `List`,
+/// but the elements are stored and returned as raw `int` values, so no boxing into `Integer` objects ever happens
+public interface IntList {
+    /// Get own size (length)
+    ///
+    /// @return size of the list
+    int size();
+    /// Checks if the list is empty, meaning there are no elements in it
+    ///
+    /// @return whether the list is empty
+    boolean isEmpty();
+    /// Checks if the list has the supplied value it in
+    ///
+    /// @return whether the list contains the value
+    boolean contains(int value);
+    /// Clears the list, removing all element from itself
+    void clear();
+    /// Get the element at the specified index
+    ///
+    /// @return element at the index
+    int get(int index);
+    /// Get the first element
+    ///
+    /// @throws java.util.NoSuchElementException if the list is empty
+    ///
+    /// @return element at the start of the list
+    int getFirst();
+    /// Get the last element
+    ///
+    /// @throws java.util.NoSuchElementException if the list is empty
+    ///
+    /// @return element at the end of the list
+    int getLast();
+    /// Searches the list for the specified value. If the value is found, returns its index, else will return `-1`
+    ///
+    /// @return index of value
+    int find(int value);
+    /// Set the value of the element at the specified index
+    void set(int index, int value);
+    /// Reverse the order of the elements in the list in-place
+    void reverse();
+    /// Returns all the list's elements as a new basic Java array
+    ///
+    /// @return an array of type `int`
+    int[] toArray();
+    /// Add a new element to the end of the list
+    void add(int value);
+    /// Add a new element at the specified index of the list
+    void add(int index, int value);
+    /// Add all the provided values to the end of the list
+    void addAll(int... values);
+    /// Remove the last element of the list
+    ///
+    /// @throws java.util.NoSuchElementException if the list is empty
+    ///
+    /// @return removed element
+    int remove();
+    /// Remove the element at the specified location
+    ///
+    /// @return removed element
+    int remove(int index);
+    /// Performs the given action for each element of the list in order, without boxing the elements
+    void forEach(IntConsumer action);
+    /// Returns an iterator over the list's elements, which returns them without boxing through `nextInt()`
+    ///
+    /// @return primitive iterator over the list
+    PrimitiveIterator.OfInt iterator();
+    /// Returns a sequential primitive stream over the list's elements
+    ///
+    /// @return stream of the list's elements
+    IntStream stream();
+}
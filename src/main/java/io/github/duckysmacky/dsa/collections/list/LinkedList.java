@@ -1,7 +1,17 @@
 package io.github.duckysmacky.dsa.collections.list;
 
+import io.github.duckysmacky.dsa.collections.Collection;
 import io.github.duckysmacky.dsa.collections.queue.Deque;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
 /// A singly linked list which consists of nodes. Each node is connected to the next one, with the last one being
 /// connected to nothing. The `head` node is the beginning of the list, while the `tail` is the end
 ///
@@ -10,6 +20,7 @@ public class LinkedList<E> implements List<E>, Deque<E> {
     private Node<E> head;
     private Node<E> tail;
     private int size;
+    private int modCount;
 
     /// Constructs an empty `Linked List`
     public LinkedList() {
@@ -48,6 +59,7 @@ public class LinkedList<E> implements List<E>, Deque<E> {
 
         this.head = newNode;
         this.size++;
+        this.modCount++;
     }
 
     /// Adds an element to the end of the list
@@ -64,6 +76,17 @@ public class LinkedList<E> implements List<E>, Deque<E> {
 
         this.tail = newNode;
         this.size++;
+        this.modCount++;
+    }
+
+    /// Returns the node at the specified index, walking from the head of the list
+    private Node<E> getNode(int index) {
+        Node<E> currentNode = this.head;
+
+        for (int i = 0; i < index; i++)
+            currentNode = currentNode.next;
+
+        return currentNode;
     }
 
     @Override
@@ -77,25 +100,79 @@ public class LinkedList<E> implements List<E>, Deque<E> {
     /// This is a `O(n)` operation
     @Override
     public void add(int index, E element) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException(index);
+
         if (index == 0) {
+            addFirst(element);
+            return;
+        }
+
+        if (index == size) {
             addLast(element);
-            size++;
             return;
         }
 
         Node<E> newNode = new Node<>(element);
+        Node<E> previousNode = getNode(index - 1);
 
-        Node<E> currentNode = this.head;
-        for (int i = 0; i < this.size; i++) {
-            if (i == index - 1) {
-                newNode.next = currentNode.next;
-                currentNode.next = newNode;
-                this.size++;
-                return;
-            }
+        newNode.next = previousNode.next;
+        previousNode.next = newNode;
+        this.size++;
+        this.modCount++;
+    }
 
-            currentNode = currentNode.next;
+    /// Adds all the elements of the provided collection to the end of the list, in the order they are returned by its
+    /// iterator
+    ///
+    /// This is a `O(k)` operation, where `k` is the amount of added elements
+    @Override
+    public void addAll(Collection<? extends E> elements) {
+        addAll(size, elements);
+    }
+
+    /// Adds all the elements of the provided collection at the specified index, in the order they are returned by its
+    /// iterator. The new nodes are linked into a chain first, and then the whole chain is inserted at once
+    ///
+    /// This is a `O(n + k)` operation, where `k` is the amount of added elements
+    @Override
+    public void addAll(int index, Collection<? extends E> elements) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException(index);
+
+        Node<E> first = null;
+        Node<E> last = null;
+        int count = 0;
+
+        for (E element : elements) {
+            Node<E> node = new Node<>(element);
+
+            if (first == null)
+                first = node;
+            else
+                last.next = node;
+
+            last = node;
+            count++;
         }
+
+        if (count == 0)
+            return;
+
+        if (index == 0) {
+            last.next = this.head;
+            this.head = first;
+        } else {
+            Node<E> previousNode = getNode(index - 1);
+            last.next = previousNode.next;
+            previousNode.next = first;
+        }
+
+        if (last.next == null)
+            this.tail = last;
+
+        this.size += count;
+        this.modCount++;
     }
 
     @Override
@@ -121,7 +198,12 @@ public class LinkedList<E> implements List<E>, Deque<E> {
         if (removedNode == null) return null;
 
         this.head = removedNode.next;
+        if (this.head == null)
+            this.tail = null;
+
+        removedNode.next = null;
         this.size--;
+        this.modCount++;
         return removedNode.data;
     }
 
@@ -134,19 +216,23 @@ public class LinkedList<E> implements List<E>, Deque<E> {
     public E removeLast() {
         if (this.head == null) return null;
 
-        Node<E> currentNode = this.head;
-        while (!currentNode.isTail()) {
-            if (currentNode.next.isTail()) {
-                this.tail = currentNode;
-                currentNode.next = null;
-                break;
-            }
+        Node<E> removedNode = this.tail;
 
-            currentNode = currentNode.next;
+        if (this.head == this.tail) {
+            this.head = null;
+            this.tail = null;
+        } else {
+            Node<E> currentNode = this.head;
+            while (currentNode.next != removedNode)
+                currentNode = currentNode.next;
+
+            currentNode.next = null;
+            this.tail = currentNode;
         }
 
         this.size--;
-        return currentNode.data;
+        this.modCount++;
+        return removedNode.data;
     }
 
     @Override
@@ -181,6 +267,7 @@ public class LinkedList<E> implements List<E>, Deque<E> {
         if (removedNode == null) return null;
 
         this.size--;
+        this.modCount++;
         return removedNode.data;
     }
 
@@ -196,7 +283,10 @@ public class LinkedList<E> implements List<E>, Deque<E> {
 
     @Override
     public void clear() {
-        // TODO
+        this.head = null;
+        this.tail = null;
+        this.size = 0;
+        this.modCount++;
     }
 
     /// Replaces the first element of the list to the provided element
@@ -273,16 +363,112 @@ public class LinkedList<E> implements List<E>, Deque<E> {
         return null;
     }
 
+    /// Searches the list for the specified element. If the element is found, returns its index, else will return `-1`
+    ///
+    /// This is a `O(n)` operation
     @Override
     public int find(E element) {
-        // TODO
+        Node<E> currentNode = this.head;
+
+        for (int i = 0; i < this.size; i++) {
+            if (Objects.equals(currentNode.data, element))
+                return i;
+
+            currentNode = currentNode.next;
+        }
+
         return -1;
     }
 
     @Override
     public boolean contains(E element) {
-        // TODO
-        return false;
+        return find(element) != -1;
+    }
+
+    /// Removes all the elements which satisfy the provided predicate. The predicate is first evaluated for every
+    /// element, marking the nodes to remove in a bit set, and only then the marked nodes are unlinked in a single pass.
+    /// If the predicate throws, the list is left unchanged
+    ///
+    /// This is a `O(n)` operation
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        int expectedModCount = modCount;
+        int size = this.size;
+
+        // nothing before the first removed node has to be marked or unlinked
+        Node<E> previousNode = null;
+        Node<E> firstNode = this.head;
+        int first = 0;
+        while (firstNode != null && !filter.test(firstNode.data)) {
+            previousNode = firstNode;
+            firstNode = firstNode.next;
+            first++;
+        }
+
+        if (firstNode == null) {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            return false;
+        }
+
+        long[] removed = new long[((size - first - 1) >> 6) + 1];
+        removed[0] = 1L;
+        Node<E> node = firstNode.next;
+        for (int i = 1; node != null && i < size - first; i++, node = node.next) {
+            if (filter.test(node.data))
+                removed[i >> 6] |= 1L << i;
+        }
+
+        if (modCount != expectedModCount)
+            throw new ConcurrentModificationException();
+
+        Node<E> currentNode = firstNode;
+        int count = 0;
+        for (int i = 0; currentNode != null; i++) {
+            Node<E> nextNode = currentNode.next;
+
+            if ((removed[i >> 6] & (1L << i)) != 0) {
+                if (previousNode == null)
+                    this.head = nextNode;
+                else
+                    previousNode.next = nextNode;
+
+                currentNode.next = null;
+                count++;
+            } else {
+                previousNode = currentNode;
+            }
+
+            currentNode = nextNode;
+        }
+
+        this.tail = previousNode;
+        this.size -= count;
+        this.modCount++;
+        return true;
+    }
+
+    /// Keeps only the elements which are contained in the provided collection, removing all the others in a single pass
+    ///
+    /// This is a `O(n)` operation, multiplied by the complexity of the other collection's `contains()`
+    @Override
+    public boolean retainAll(Collection<E> other) {
+        return removeIf(element -> !other.contains(element));
+    }
+
+    /// Performs the given action for each element of the list, following the nodes directly
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        int expectedModCount = modCount;
+        Node<E> currentNode = this.head;
+
+        for (int i = 0; i < this.size && modCount == expectedModCount; i++) {
+            action.accept(currentNode.data);
+            currentNode = currentNode.next;
+        }
+
+        if (modCount != expectedModCount)
+            throw new ConcurrentModificationException();
     }
 
     /// Reverses the list in-place
@@ -295,7 +481,7 @@ public class LinkedList<E> implements List<E>, Deque<E> {
         Node<E> previous = null;
         Node<E> current = this.head;
 
-        while (current.next != null) {
+        while (current != null) {
             Node<E> next = current.next;
             current.next = previous;
             previous = current;
@@ -303,7 +489,8 @@ public class LinkedList<E> implements List<E>, Deque<E> {
         }
 
         this.tail = this.head;
-        this.head = current;
+        this.head = previous;
+        this.modCount++;
     }
 
     @Override
@@ -319,10 +506,29 @@ public class LinkedList<E> implements List<E>, Deque<E> {
         return size;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public E[] toArray() {
-        // TODO
-        return null;
+        Object[] array = new Object[this.size];
+        Node<E> currentNode = this.head;
+
+        for (int i = 0; i < this.size; i++) {
+            array[i] = currentNode.data;
+            currentNode = currentNode.next;
+        }
+
+        return (E[]) array;
+    }
+
+    /// Returns a fail-fast iterator which goes over the list from the head to the tail
+    @Override
+    public Iterator<E> iterator() {
+        return new LinkedListIterator();
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
     }
 
     @Override
@@ -372,4 +578,29 @@ public class LinkedList<E> implements List<E>, Deque<E> {
             return String.format("{%s -> %s}", data.toString(), next);
         }
     }
+
+    /// A fail-fast iterator which goes over the list from the head to the tail
+    private class LinkedListIterator implements Iterator<E> {
+        private Node<E> nextNode = head;
+        private int remaining = size;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (remaining <= 0)
+                throw new NoSuchElementException();
+
+            E data = nextNode.data;
+            nextNode = nextNode.next;
+            remaining--;
+            return data;
+        }
+    }
 }
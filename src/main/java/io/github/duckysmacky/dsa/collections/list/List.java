@@ -1,7 +1,10 @@
 package io.github.duckysmacky.dsa.collections.list;
 
+import io.github.duckysmacky.dsa.collections.Collection;
 import io.github.duckysmacky.dsa.collections.LinearCollection;
 
+import java.util.function.Predicate;
+
 /// An interface that suggests that the given collection is a modifiable sequence of indexed elements. This means that
 /// a new element can be added to this list or an existing one can be removed. Each element also has its own `index` by
 /// which it can be returned or changed
@@ -16,4 +19,18 @@ public interface List<E> extends LinearCollection<E> {
     E remove();
     /// Remove the element at the specified location
     E remove(int index);
+    /// Add all the elements of the provided collection to the end of the list, in the order they are returned by the
+    /// collection's iterator
+    void addAll(Collection<? extends E> elements);
+    /// Add all the elements of the provided collection at the specified index of the list, in the order they are
+    /// returned by the collection's iterator. The elements which were at and after the index are moved after them
+    void addAll(int index, Collection<? extends E> elements);
+    /// Remove all the elements of the list which satisfy the provided predicate
+    ///
+    /// @return whether any element was removed
+    boolean removeIf(Predicate<? super E> filter);
+    /// Keep only the elements of the list which are contained in the provided collection, removing all the others
+    ///
+    /// @return whether any element was removed
+    boolean retainAll(Collection<E> other);
 }
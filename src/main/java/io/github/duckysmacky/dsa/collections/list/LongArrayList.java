@@ -0,0 +1,263 @@
+package io.github.duckysmacky.dsa.collections.list;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+/// A primitive-specialized version of `ArrayList` for `long` values. Supports adding and removing elements from it. It
+/// is ordered and keeps the correct sequence of added and removed elements.
+///
+/// Unlike `ArrayList<Long>`, the elements are stored directly in a `long[]` array instead of an array of references to
+/// boxed `Long` objects, so adding an element never allocates and iterating over the list reads a contiguous block of
+/// memory. If there is no more space for new elements, the inner array grows by two, which is a `O(n)` operation. The
+/// starting capacity is `16` (if not set by the user).
+public class LongArrayList implements LongList {
+    private long[] inner;
+    private int size;
+    private int modCount;
+
+    /// Initialize an empty `LongArrayList` with default starting capacity of `16`
+    public LongArrayList() {
+        this.inner = new long[16];
+        this.size = 0;
+    }
+
+    /// Initialize an empty `LongArrayList` of specified starting capacity
+    public LongArrayList(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity cannot be less than 1");
+
+        this.inner = new long[capacity];
+        this.size = 0;
+    }
+
+    /// Initialize a `LongArrayList` of predefined elements
+    public static LongArrayList of(long... values) {
+        LongArrayList list = new LongArrayList(Math.max(values.length, 1));
+        list.addAll(values);
+        return list;
+    }
+
+    /// Makes sure the inner array can fit at least `minCapacity` elements, growing it by two (or more if needed)
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= inner.length)
+            return;
+
+        int newCapacity = Math.max(inner.length * 2, minCapacity);
+        inner = Arrays.copyOf(inner, newCapacity);
+    }
+
+    /// Checks that the index points to an existing element
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException(index);
+    }
+
+    @Override
+    public void add(long value) {
+        if (size == inner.length)
+            ensureCapacity(size + 1);
+
+        inner[size++] = value;
+        modCount++;
+    }
+
+    @Override
+    public void add(int index, long value) {
+        if (index > size || index < 0)
+            throw new IndexOutOfBoundsException(index);
+
+        ensureCapacity(size + 1);
+        System.arraycopy(inner, index, inner, index + 1, size - index);
+        inner[index] = value;
+        size++;
+        modCount++;
+    }
+
+    /// Add all the provided values to the end of the list. The inner array is grown at most once and the values are
+    /// copied in a single pass
+    @Override
+    public void addAll(long... values) {
+        addAll(values, 0, values.length);
+    }
+
+    /// Add the values from the range `[from, to)` of the provided array to the end of the list
+    public void addAll(long[] values, int from, int to) {
+        if (from < 0 || to > values.length || from > to)
+            throw new IndexOutOfBoundsException("Invalid range [" + from + ", " + to + ")");
+
+        int count = to - from;
+        ensureCapacity(size + count);
+        System.arraycopy(values, from, inner, size, count);
+        size += count;
+        modCount++;
+    }
+
+    @Override
+    public long remove() {
+        if (size == 0)
+            throw new NoSuchElementException("List is empty, nothing to remove");
+
+        modCount++;
+        return inner[--size];
+    }
+
+    @Override
+    public long remove(int index) {
+        checkIndex(index);
+
+        long removed = inner[index];
+        System.arraycopy(inner, index + 1, inner, index, size - index - 1);
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public long get(int index) {
+        checkIndex(index);
+        return inner[index];
+    }
+
+    @Override
+    public long getFirst() {
+        if (size == 0)
+            throw new NoSuchElementException("List is empty");
+        return inner[0];
+    }
+
+    @Override
+    public long getLast() {
+        if (size == 0)
+            throw new NoSuchElementException("List is empty");
+        return inner[size - 1];
+    }
+
+    @Override
+    public void set(int index, long value) {
+        checkIndex(index);
+        inner[index] = value;
+    }
+
+    @Override
+    public int find(long value) {
+        for (int i = 0; i < size; i++) {
+            if (inner[i] == value)
+                return i;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public boolean contains(long value) {
+        return find(value) != -1;
+    }
+
+    @Override
+    public void reverse() {
+        int left = 0;
+        int right = size - 1;
+
+        while (left < right) {
+            long temp = inner[left];
+            inner[left] = inner[right];
+            inner[right] = temp;
+            left++;
+            right--;
+        }
+    }
+
+    @Override
+    public long[] toArray() {
+        return Arrays.copyOf(inner, size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        int expectedModCount = modCount;
+
+        for (int i = 0; i < size; i++)
+            action.accept(inner[i]);
+
+        if (modCount != expectedModCount)
+            throw new ConcurrentModificationException();
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            private int cursor = 0;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public long nextLong() {
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                if (cursor >= size)
+                    throw new NoSuchElementException();
+
+                return inner[cursor++];
+            }
+        };
+    }
+
+    @Override
+    public LongStream stream() {
+        return Arrays.stream(inner, 0, size);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+
+        for (int i = 0; i < size; i++) {
+            builder.append(inner[i]);
+            if (i < size - 1)
+                builder.append(", ");
+        }
+
+        builder.append("]");
+        return builder.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++)
+            hash = 31 * hash + Long.hashCode(inner[i]);
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof LongArrayList list)
+            return Arrays.equals(this.inner, 0, this.size, list.inner, 0, list.size);
+
+        return false;
+    }
+}
@@ -0,0 +1,681 @@
+package io.github.duckysmacky.dsa.collections.map;
+
+import io.github.duckysmacky.dsa.collections.Collection;
+import io.github.duckysmacky.dsa.collections.list.ArrayList;
+import io.github.duckysmacky.dsa.collections.queue.ArrayDeque;
+import io.github.duckysmacky.dsa.collections.set.HashSet;
+import io.github.duckysmacky.dsa.collections.set.Set;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/// A thread-safe `Map` implementation, which can be shared between any amount of threads without external locking.
+/// Unlike `HashMap`, it uses **separate chaining**: each slot of the table (*bin*) holds a linked list of the entries
+/// whose keys were hashed into it.
+///
+/// Reads never block: the bins are read with acquire semantics and the entries are only ever changed in a way which
+/// keeps the lists consistent for a concurrent reader. Writes only lock the bin they change, so writers of different
+/// bins never wait for each other. A new entry in an empty bin is placed with a single compare-and-set, and only a
+/// non-empty bin is changed while holding the monitor of its first entry. This means that `putIfAbsent()`, `replace()`
+/// and `remove()` are atomic.
+///
+/// Once the map gets too full, the table is doubled. The resize is shared between all the threads which write to the
+/// map in the meantime: the old table is split into ranges of bins which the threads claim one by one, and each moved
+/// bin is replaced with a *forwarding* entry, which sends both readers and writers to the new table. So a resize never
+/// stops the whole map, and the writers which run into it help to finish it instead of waiting.
+///
+/// Since `get()` uses `null` to signal a missing key, neither keys nor values can be `null`. The size is tracked with a
+/// striped counter, so `size()` is exact only when the map is not being modified. The iterators are weakly consistent:
+/// they never throw a `ConcurrentModificationException` and may or may not see the changes made during the iteration.
+///
+/// Adding, fetching and removing elements are `O(1)` operations on average.
+///
+/// @param <K> map's key type
+/// @param <V> map's value type
+public class ConcurrentHashMap<K, V> implements Map<K, V> {
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final double LOAD_FACTOR = 0.75d;
+    /// The least amount of bins a thread claims at once when helping with a resize
+    private static final int MIN_TRANSFER_STRIDE = 16;
+    private static final int CPUS = Runtime.getRuntime().availableProcessors();
+    private static final VarHandle BIN = MethodHandles.arrayElementVarHandle(Node[].class);
+    private static final VarHandle SIZE_CONTROL;
+
+    static {
+        try {
+            SIZE_CONTROL = MethodHandles.lookup().findVarHandle(ConcurrentHashMap.class, "sizeControl", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node<K, V>[] table;
+    /// The resize which is currently in progress, or `null` if there is none
+    private volatile Resize<K, V> resize;
+    /// The size at which the table has to be resized, or `-1` while a resize is in progress
+    private volatile int sizeControl;
+    private final LongAdder size;
+
+    /// Creates an empty `Concurrent Hash Map` with default `capacity` of `16`
+    public ConcurrentHashMap() {
+        this(16);
+    }
+
+    /// Creates an empty `Concurrent Hash Map` with specified `capacity`. The capacity is rounded up to the closest
+    /// power of two
+    ///
+    /// @throws IllegalArgumentException if the capacity is less than 1
+    public ConcurrentHashMap(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity cannot be less than 1");
+
+        int tableSize = capacity >= MAX_CAPACITY ? MAX_CAPACITY : Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        this.table = newTable(tableSize);
+        this.resize = null;
+        this.sizeControl = threshold(tableSize);
+        this.size = new LongAdder();
+    }
+
+    /// Spreads the hash code of the key, so that the higher bits also affect the bin chosen by the bit mask
+    private static int hash(Object key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /// Returns the size at which a table of the specified size has to be resized
+    private static int threshold(int tableSize) {
+        return tableSize == MAX_CAPACITY ? Integer.MAX_VALUE : (int) (tableSize * LOAD_FACTOR);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Node<K, V>[] newTable(int tableSize) {
+        return (Node<K, V>[]) new Node<?, ?>[tableSize];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Node<K, V> binAt(Node<K, V>[] table, int index) {
+        return (Node<K, V>) BIN.getAcquire(table, index);
+    }
+
+    private static <K, V> boolean casBin(Node<K, V>[] table, int index, Node<K, V> expected, Node<K, V> bin) {
+        return BIN.compareAndSet(table, index, expected, bin);
+    }
+
+    private static <K, V> void setBin(Node<K, V>[] table, int index, Node<K, V> bin) {
+        BIN.setRelease(table, index, bin);
+    }
+
+    /// Searches the table for the provided key, following the forwarding entries of a resize. Returns the entry of the
+    /// key if it was found, else will return `null`
+    private Node<K, V> findNode(Object key) {
+        if (key == null)
+            return null;
+
+        int hash = hash(key);
+        Node<K, V>[] table = this.table;
+
+        while (true) {
+            Node<K, V> node = binAt(table, hash & (table.length - 1));
+
+            if (node instanceof ForwardingNode<K, V> forwarding) {
+                table = forwarding.resize.destination;
+                continue;
+            }
+
+            for (; node != null; node = node.next) {
+                if (node.hash == hash && (node.key == key || key.equals(node.key)))
+                    return node;
+            }
+            return null;
+        }
+    }
+
+    /// Inserts a new key-value pair into the map. If the key is already present, will replace its value only if
+    /// `replace` is `true`
+    ///
+    /// @return previous value of the key or `null` if there was none
+    private V insert(K key, V value, boolean replace) {
+        checkKey(key);
+        checkValue(value);
+
+        int hash = hash(key);
+        Node<K, V>[] table = this.table;
+
+        while (true) {
+            int index = hash & (table.length - 1);
+            Node<K, V> head = binAt(table, index);
+
+            if (head == null) {
+                if (casBin(table, index, null, new Node<>(hash, key, value, null)))
+                    break;
+            } else if (head instanceof ForwardingNode<K, V> forwarding) {
+                table = helpResize(forwarding);
+            } else {
+                synchronized (head) {
+                    // the first entry could have been removed or the bin moved before the monitor was taken
+                    if (binAt(table, index) != head)
+                        continue;
+
+                    for (Node<K, V> node = head; ; node = node.next) {
+                        if (node.hash == hash && (node.key == key || key.equals(node.key))) {
+                            V previous = node.value;
+                            if (replace)
+                                node.value = value;
+                            return previous;
+                        }
+
+                        if (node.next == null) {
+                            node.next = new Node<>(hash, key, value, null);
+                            break;
+                        }
+                    }
+                }
+                break;
+            }
+        }
+
+        size.increment();
+        checkResize();
+        return null;
+    }
+
+    /// Changes the entry of the key while holding the monitor of its bin. If `newValue` is `null`, the entry is
+    /// removed. If `expectedValue` is not `null`, the entry is only changed if it currently has that value
+    ///
+    /// @return previous value of the key or `null` if nothing was changed
+    private V update(K key, V newValue, V expectedValue) {
+        if (key == null)
+            return null;
+
+        int hash = hash(key);
+        Node<K, V>[] table = this.table;
+
+        while (true) {
+            int index = hash & (table.length - 1);
+            Node<K, V> head = binAt(table, index);
+
+            if (head == null)
+                return null;
+
+            if (head instanceof ForwardingNode<K, V> forwarding) {
+                table = helpResize(forwarding);
+                continue;
+            }
+
+            synchronized (head) {
+                if (binAt(table, index) != head)
+                    continue;
+
+                for (Node<K, V> node = head, previous = null; node != null; previous = node, node = node.next) {
+                    if (node.hash != hash || (node.key != key && !key.equals(node.key)))
+                        continue;
+
+                    V value = node.value;
+                    if (expectedValue != null && !expectedValue.equals(value))
+                        return null;
+
+                    if (newValue != null) {
+                        node.value = newValue;
+                    } else {
+                        if (previous == null)
+                            setBin(table, index, node.next);
+                        else
+                            previous.next = node.next;
+                        size.decrement();
+                    }
+                    return value;
+                }
+                return null;
+            }
+        }
+    }
+
+    /// Starts a resize if the map got too full, or helps with the one which is already in progress
+    private void checkResize() {
+        while (true) {
+            int control = sizeControl;
+
+            if (control < 0) {
+                Resize<K, V> current = resize;
+                if (current != null)
+                    transfer(current);
+                return;
+            }
+
+            Node<K, V>[] table = this.table;
+            if (size.sum() < control || table.length >= MAX_CAPACITY)
+                return;
+
+            if (SIZE_CONTROL.compareAndSet(this, control, -1)) {
+                Resize<K, V> started = new Resize<>(table, newTable(table.length * 2));
+                resize = started;
+                transfer(started);
+            }
+        }
+    }
+
+    /// Helps with the resize which has moved the bin, and returns the table the bin was moved to
+    private Node<K, V>[] helpResize(ForwardingNode<K, V> forwarding) {
+        Resize<K, V> forwardingResize = forwarding.resize;
+        if (resize == forwardingResize)
+            transfer(forwardingResize);
+
+        return forwardingResize.destination;
+    }
+
+    /// Claims ranges of bins of the resize and moves them until there are none left. The thread which moves the last
+    /// bin publishes the new table
+    private void transfer(Resize<K, V> resize) {
+        int tableSize = resize.source.length;
+
+        while (true) {
+            int end = resize.unclaimedBins.get();
+            if (end <= 0)
+                return;
+
+            int start = Math.max(0, end - resize.stride);
+            if (!resize.unclaimedBins.compareAndSet(end, start))
+                continue;
+
+            for (int index = end - 1; index >= start; index--)
+                moveBin(resize, index);
+
+            if (resize.movedBins.addAndGet(end - start) == tableSize) {
+                this.table = resize.destination;
+                this.resize = null;
+                this.sizeControl = threshold(resize.destination.length);
+                return;
+            }
+        }
+    }
+
+    /// Splits the bin between the two bins of the new table, which are at the same index and at the index shifted by
+    /// the old table size, and replaces it with the forwarding entry. The entries are copied, so that the readers which
+    /// are still going over the old bin are not affected
+    private void moveBin(Resize<K, V> resize, int index) {
+        Node<K, V>[] source = resize.source;
+        int tableSize = source.length;
+
+        while (true) {
+            Node<K, V> head = binAt(source, index);
+
+            if (head == null) {
+                if (casBin(source, index, null, resize.forwarding))
+                    return;
+                continue;
+            }
+
+            synchronized (head) {
+                if (binAt(source, index) != head)
+                    continue;
+
+                Node<K, V> low = null;
+                Node<K, V> high = null;
+
+                for (Node<K, V> node = head; node != null; node = node.next) {
+                    if ((node.hash & tableSize) == 0)
+                        low = new Node<>(node.hash, node.key, node.value, low);
+                    else
+                        high = new Node<>(node.hash, node.key, node.value, high);
+                }
+
+                setBin(resize.destination, index, low);
+                setBin(resize.destination, index + tableSize, high);
+                setBin(source, index, resize.forwarding);
+                return;
+            }
+        }
+    }
+
+    private static void checkKey(Object key) {
+        if (key == null)
+            throw new IllegalArgumentException("Key cannot be null");
+    }
+
+    private static void checkValue(Object value) {
+        if (value == null)
+            throw new IllegalArgumentException("Value cannot be null");
+    }
+
+    @Override
+    public V get(K key) {
+        Node<K, V> node = findNode(key);
+        return node == null ? null : node.value;
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        Node<K, V> node = findNode(key);
+        return node == null ? defaultValue : node.value;
+    }
+
+    /// @throws IllegalArgumentException if the key or the value is `null`
+    @Override
+    public void put(K key, V value) {
+        insert(key, value, true);
+    }
+
+    /// @throws IllegalArgumentException if the key or the value is `null`
+    @Override
+    public void put(Entry<K, V> entry) {
+        insert(entry.getKey(), entry.getValue(), true);
+    }
+
+    /// Adds a new value to the map with the specified key if there is already no given key in the map. The check and
+    /// the addition are done atomically
+    ///
+    /// @throws IllegalArgumentException if the key or the value is `null`
+    @Override
+    public void putIfAbsent(K key, V value) {
+        insert(key, value, false);
+    }
+
+    /// Adds a new key-value pair (entry) to the map if there is already no given key in the map. The check and the
+    /// addition are done atomically
+    ///
+    /// @throws IllegalArgumentException if the key or the value is `null`
+    @Override
+    public void putIfAbsent(Entry<K, V> entry) {
+        insert(entry.getKey(), entry.getValue(), false);
+    }
+
+    @Override
+    public V remove(K key) {
+        return update(key, null, null);
+    }
+
+    /// Replaces the value at the specified key atomically. If the key doesn't exist, will **not** create a new
+    /// key-value pair
+    ///
+    /// @throws IllegalArgumentException if the new value is `null`
+    @Override
+    public void replace(K key, V newValue) {
+        checkValue(newValue);
+        update(key, newValue, null);
+    }
+
+    /// Replaces the value at the specified key only if it is currently equal to the expected value. The check and the
+    /// replacement are done atomically, so this can be used to update a value based on its previous value
+    ///
+    /// @return whether the value was replaced
+    /// @throws IllegalArgumentException if the expected or the new value is `null`
+    public boolean replace(K key, V expectedValue, V newValue) {
+        checkValue(expectedValue);
+        checkValue(newValue);
+        return update(key, newValue, expectedValue) != null;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return findNode(key) != null;
+    }
+
+    /// Checks if the given value is in the map
+    ///
+    /// This is a `O(n)` operation
+    ///
+    /// @return if the value is in the map
+    @Override
+    public boolean containsValue(V value) {
+        for (NodeIterator iterator = new NodeIterator(); iterator.hasNext(); ) {
+            if (Objects.equals(iterator.next().value, value))
+                return true;
+        }
+
+        return false;
+    }
+
+    /// Get all of map's keys as a new set. Changing the returned set will **not** change the map
+    ///
+    /// @return set of map's keys
+    @Override
+    public Set<K> keySet() {
+        Set<K> keySet = new HashSet<>(Math.max(size() * 2, 1));
+
+        for (NodeIterator iterator = new NodeIterator(); iterator.hasNext(); )
+            keySet.add(iterator.next().key);
+
+        return keySet;
+    }
+
+    /// Get all of map's entries (key-value pairs) as a new set. Changing the returned set or its entries will **not**
+    /// change the map
+    ///
+    /// @return set of map's entries
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        Set<Entry<K, V>> entrySet = new HashSet<>(Math.max(size() * 2, 1));
+
+        for (NodeIterator iterator = new NodeIterator(); iterator.hasNext(); ) {
+            Node<K, V> node = iterator.next();
+            entrySet.add(new SimpleEntry<>(node.key, node.value));
+        }
+
+        return entrySet;
+    }
+
+    /// Get all of map's values as a new list. Changing the returned list will **not** change the map
+    ///
+    /// @return collection of map's values
+    @Override
+    public Collection<V> values() {
+        ArrayList<V> values = new ArrayList<>(Math.max(size(), 1));
+
+        for (V value : this)
+            values.add(value);
+
+        return values;
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.max(0, Math.min(size.sum(), Integer.MAX_VALUE));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size.sum() <= 0;
+    }
+
+    /// Checks if the given value is in the map. Same as `containsValue()`
+    ///
+    /// This is a `O(n)` operation
+    @Override
+    public boolean contains(V value) {
+        return containsValue(value);
+    }
+
+    /// Removes all the entries from the map, one bin at a time. Entries added concurrently may or may not be removed
+    @Override
+    public void clear() {
+        Node<K, V>[] table = this.table;
+        int index = 0;
+
+        while (index < table.length) {
+            Node<K, V> head = binAt(table, index);
+
+            if (head == null) {
+                index++;
+            } else if (head instanceof ForwardingNode<K, V> forwarding) {
+                table = helpResize(forwarding);
+                index = 0;
+            } else {
+                synchronized (head) {
+                    if (binAt(table, index) != head)
+                        continue;
+
+                    int removed = 0;
+                    for (Node<K, V> node = head; node != null; node = node.next)
+                        removed++;
+
+                    setBin(table, index, null);
+                    size.add(-removed);
+                    index++;
+                }
+            }
+        }
+    }
+
+    /// Returns a weakly consistent iterator over the map's values, since the map is a collection of values. The order
+    /// of the values is not defined
+    @Override
+    public Iterator<V> iterator() {
+        return new ValueIterator();
+    }
+
+    @Override
+    public Spliterator<V> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.NONNULL | Spliterator.CONCURRENT);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+
+        for (NodeIterator iterator = new NodeIterator(); iterator.hasNext(); ) {
+            Node<K, V> node = iterator.next();
+            builder.append(node.key);
+            builder.append("=");
+            builder.append(node.value);
+            builder.append(", ");
+        }
+
+        if (builder.length() > 2)
+            builder.delete(builder.length() - 2, builder.length());
+
+        builder.append("}");
+        return builder.toString();
+    }
+
+    /// The inner `Node` structure which holds a single entry of the map and a reference to the next entry in its bin.
+    /// The value and the `next` reference are only changed while holding the monitor of the first entry of the bin
+    ///
+    /// @param <K> map's key type
+    /// @param <V> map's value type
+    private static class Node<K, V> {
+        private final int hash;
+        private final K key;
+        private volatile V value;
+        private volatile Node<K, V> next;
+
+        public Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /// A special entry which is placed into a bin of the old table once the bin has been moved to the new one
+    ///
+    /// @param <K> map's key type
+    /// @param <V> map's value type
+    private static final class ForwardingNode<K, V> extends Node<K, V> {
+        private final Resize<K, V> resize;
+
+        public ForwardingNode(Resize<K, V> resize) {
+            super(0, null, null, null);
+            this.resize = resize;
+        }
+    }
+
+    /// The state of a single resize, which is shared between all the threads helping with it. The bins are claimed
+    /// in ranges from the end of the old table to its start
+    ///
+    /// @param <K> map's key type
+    /// @param <V> map's value type
+    private static final class Resize<K, V> {
+        private final Node<K, V>[] source;
+        private final Node<K, V>[] destination;
+        private final ForwardingNode<K, V> forwarding;
+        private final int stride;
+        /// Bins in range `[0, unclaimedBins)` have not been claimed by any thread yet
+        private final AtomicInteger unclaimedBins;
+        private final AtomicInteger movedBins;
+
+        public Resize(Node<K, V>[] source, Node<K, V>[] destination) {
+            this.source = source;
+            this.destination = destination;
+            this.forwarding = new ForwardingNode<>(this);
+            this.stride = Math.max(MIN_TRANSFER_STRIDE, source.length / (CPUS * 8));
+            this.unclaimedBins = new AtomicInteger(source.length);
+            this.movedBins = new AtomicInteger(0);
+        }
+    }
+
+    /// A weakly consistent iterator over the entries of the map. It goes over the bins of the table which was current
+    /// when it was created, and follows the bins which were moved by a resize into the new table, where the entries of
+    /// one old bin are split between two new bins
+    private class NodeIterator implements Iterator<Node<K, V>> {
+        private final Node<K, V>[] table = ConcurrentHashMap.this.table;
+        /// First entries of the new bins which still have to be visited
+        private final ArrayDeque<Node<K, V>> pendingBins = new ArrayDeque<>(4);
+        private int index = 0;
+        private Node<K, V> nextNode = null;
+
+        @Override
+        public boolean hasNext() {
+            while (nextNode == null) {
+                if (!pendingBins.isEmpty())
+                    nextNode = pendingBins.pollFirst();
+                else if (index < table.length)
+                    nextNode = resolveBin(table, index++);
+                else
+                    return false;
+            }
+
+            return true;
+        }
+
+        @Override
+        public Node<K, V> next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            Node<K, V> node = nextNode;
+            nextNode = node.next;
+            return node;
+        }
+
+        /// Returns the first entry of the bin, following its forwarding entries. The other halves of the moved bins are
+        /// added to the pending bins
+        private Node<K, V> resolveBin(Node<K, V>[] table, int index) {
+            Node<K, V> head = binAt(table, index);
+
+            while (head instanceof ForwardingNode<K, V> forwarding) {
+                int tableSize = table.length;
+                table = forwarding.resize.destination;
+
+                Node<K, V> high = resolveBin(table, index + tableSize);
+                if (high != null)
+                    pendingBins.addFirst(high);
+
+                head = binAt(table, index);
+            }
+
+            return head;
+        }
+    }
+
+    /// A weakly consistent iterator over the values of the map
+    private class ValueIterator implements Iterator<V> {
+        private final NodeIterator nodes = new NodeIterator();
+
+        @Override
+        public boolean hasNext() {
+            return nodes.hasNext();
+        }
+
+        @Override
+        public V next() {
+            return nodes.next().value;
+        }
+    }
+}
@@ -0,0 +1,426 @@
+package io.github.duckysmacky.dsa.collections.map;
+
+import io.github.duckysmacky.dsa.collections.Collection;
+import io.github.duckysmacky.dsa.collections.list.ArrayList;
+import io.github.duckysmacky.dsa.collections.set.HashSet;
+import io.github.duckysmacky.dsa.collections.set.Set;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/// A `Hash Map` is an implementation of `Map` which uses Hash Functions in order to assert indexes for the keys. Unlike
+/// `HashSet`, it doesn't place entries in linked buckets, but uses **open addressing**: all the keys and values are
+/// stored directly in flat parallel arrays, and if the computed slot is already taken, the following slots are probed
+/// one by one (*linear probing*) until a free one is found. This means that a lookup usually touches only one or two
+/// cache lines instead of following references to separate entry objects.
+///
+/// The probing is done using the **Robin Hood** strategy: each key remembers how far it is from its preferred slot
+/// (*probe distance*), and a key which is further away from its own slot can take the place of a key which is closer
+/// to its own. This keeps all probe distances short and allows a lookup to stop early, as soon as it meets a key which
+/// is closer to its slot than the searched one would be. Removal uses **backward shift deletion**: the following keys
+/// are moved one slot back, so there are no "deleted" markers (tombstones) left in the table.
+///
+/// The capacity is always a power of two, so the slot can be computed with a bit mask instead of a division. Because
+/// of that the hash codes are additionally mixed (*spread*) so that keys whose hash codes only differ in the higher
+/// bits don't end up in the same slots. Keys cannot be `null`.
+///
+/// Adding, fetching and removing elements are `O(1)` operations on average.
+///
+/// @param <K> map's key type
+/// @param <V> map's value type
+public class HashMap<K, V> implements Map<K, V> {
+    private final double loadFactor;
+    private Object[] keys;
+    private Object[] values;
+    private int[] hashes;
+    private int mask;
+    private int threshold;
+    private int size;
+    private int modCount;
+
+    /// Creates an empty `Hash Map` with default `capacity` of `16` and `load factor` of `0.75` (`75%`)
+    public HashMap() {
+        this(16, 0.75d);
+    }
+
+    /// Creates an empty `Hash Map` with specified `capacity` and default `load factor` of `0.75` (`75%`). The capacity
+    /// is rounded up to the closest power of two
+    public HashMap(int capacity) {
+        this(capacity, 0.75d);
+    }
+
+    /// Creates an empty `Hash Map` with default `capacity` of `16` and specified `load factor`
+    public HashMap(double loadFactor) {
+        this(16, loadFactor);
+    }
+
+    /// Creates an empty `Hash Map` with specified `capacity` and `load factor`. The capacity is rounded up to the
+    /// closest power of two
+    public HashMap(int capacity, double loadFactor) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity cannot be less than 1");
+        if (loadFactor <= 0 || loadFactor >= 1)
+            throw new IllegalArgumentException("Load factor must be between 0 and 1");
+
+        this.loadFactor = loadFactor;
+        this.size = 0;
+        allocate(tableSizeFor(capacity));
+    }
+
+    /// Returns the smallest power of two which is not less than the provided capacity
+    private static int tableSizeFor(int capacity) {
+        if (capacity >= 1 << 30)
+            return 1 << 30;
+
+        return Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+    }
+
+    /// Spreads the hash code of the key, so that the higher bits also affect the slot chosen by the bit mask
+    private static int hash(Object key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /// Creates new empty inner arrays of the specified size (which has to be a power of two)
+    private void allocate(int tableSize) {
+        this.keys = new Object[tableSize];
+        this.values = new Object[tableSize];
+        this.hashes = new int[tableSize];
+        this.mask = tableSize - 1;
+        // at least one slot always has to stay empty, so that the probing is guaranteed to end
+        this.threshold = Math.min((int) (tableSize * loadFactor), tableSize - 1);
+    }
+
+    /// Returns how far the key in the specified slot is from the slot it would have taken if there were no collisions
+    private int probeDistance(int slot) {
+        return (slot - (hashes[slot] & mask)) & mask;
+    }
+
+    /// Searches the table for the provided key. Returns the slot of the key if it was found, else will return `-1`
+    private int findSlot(Object key) {
+        if (key == null)
+            return -1;
+
+        int hash = hash(key);
+        int slot = hash & mask;
+
+        for (int distance = 0; ; distance++) {
+            Object current = keys[slot];
+
+            // a Robin Hood table guarantees that the key would have taken this slot if it was in the table
+            if (current == null || probeDistance(slot) < distance)
+                return -1;
+            if (hashes[slot] == hash && (current == key || current.equals(key)))
+                return slot;
+
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /// Places a key, which is known to be absent from the table, into a free slot. If on its way it meets a key which
+    /// is closer to its own slot, it will take its place and the displaced key will continue the search instead
+    private void place(Object key, Object value, int hash) {
+        int slot = hash & mask;
+        int distance = 0;
+
+        while (keys[slot] != null) {
+            int currentDistance = probeDistance(slot);
+
+            if (currentDistance < distance) {
+                Object displacedKey = keys[slot];
+                Object displacedValue = values[slot];
+                int displacedHash = hashes[slot];
+
+                keys[slot] = key;
+                values[slot] = value;
+                hashes[slot] = hash;
+
+                key = displacedKey;
+                value = displacedValue;
+                hash = displacedHash;
+                distance = currentDistance;
+            }
+
+            slot = (slot + 1) & mask;
+            distance++;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        hashes[slot] = hash;
+    }
+
+    /// Reallocates the inner arrays with doubled capacity and places all the entries again
+    private void resize() {
+        Object[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+        int[] oldHashes = this.hashes;
+
+        allocate(oldKeys.length * 2);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null)
+                place(oldKeys[i], oldValues[i], oldHashes[i]);
+        }
+    }
+
+    /// Inserts a new key-value pair into the map. If the key is already present, will replace its value only if
+    /// `replace` is `true`
+    private void insert(K key, V value, boolean replace) {
+        if (key == null)
+            throw new IllegalArgumentException("Key cannot be null");
+
+        int slot = findSlot(key);
+        if (slot != -1) {
+            if (replace)
+                values[slot] = value;
+            return;
+        }
+
+        if (size >= threshold)
+            resize();
+
+        place(key, value, hash(key));
+        size++;
+        modCount++;
+    }
+
+    /// Removes the entry at the specified slot and shifts all the following entries, which are not at their preferred
+    /// slots, one slot back
+    private void removeAtSlot(int slot) {
+        int next = (slot + 1) & mask;
+
+        while (keys[next] != null && probeDistance(next) > 0) {
+            keys[slot] = keys[next];
+            values[slot] = values[next];
+            hashes[slot] = hashes[next];
+
+            slot = next;
+            next = (next + 1) & mask;
+        }
+
+        keys[slot] = null;
+        values[slot] = null;
+        hashes[slot] = 0;
+        size--;
+        modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(K key) {
+        int slot = findSlot(key);
+        if (slot == -1)
+            return null;
+
+        return (V) values[slot];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        int slot = findSlot(key);
+        if (slot == -1)
+            return defaultValue;
+
+        return (V) values[slot];
+    }
+
+    /// @throws IllegalArgumentException if the key is `null`
+    @Override
+    public void put(K key, V value) {
+        insert(key, value, true);
+    }
+
+    /// @throws IllegalArgumentException if the key is `null`
+    @Override
+    public void put(Entry<K, V> entry) {
+        insert(entry.getKey(), entry.getValue(), true);
+    }
+
+    /// @throws IllegalArgumentException if the key is `null`
+    @Override
+    public void putIfAbsent(K key, V value) {
+        insert(key, value, false);
+    }
+
+    /// @throws IllegalArgumentException if the key is `null`
+    @Override
+    public void putIfAbsent(Entry<K, V> entry) {
+        insert(entry.getKey(), entry.getValue(), false);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V remove(K key) {
+        int slot = findSlot(key);
+        if (slot == -1)
+            return null;
+
+        V removed = (V) values[slot];
+        removeAtSlot(slot);
+        return removed;
+    }
+
+    @Override
+    public void replace(K key, V newValue) {
+        int slot = findSlot(key);
+        if (slot == -1)
+            return;
+
+        values[slot] = newValue;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return findSlot(key) != -1;
+    }
+
+    /// Checks if the given value is in the map
+    ///
+    /// This is a `O(n)` operation
+    ///
+    /// @return if the value is in the map
+    @Override
+    public boolean containsValue(V value) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null && Objects.equals(values[i], value))
+                return true;
+        }
+
+        return false;
+    }
+
+    /// Get all of map's keys as a new set. Changing the returned set will **not** change the map
+    ///
+    /// @return set of map's keys
+    @SuppressWarnings("unchecked")
+    @Override
+    public Set<K> keySet() {
+        Set<K> keySet = new HashSet<>(Math.max(size * 2, 1));
+
+        for (Object key : keys) {
+            if (key != null)
+                keySet.add((K) key);
+        }
+
+        return keySet;
+    }
+
+    /// Get all of map's entries (key-value pairs) as a new set. Changing the returned set or its entries will **not**
+    /// change the map
+    ///
+    /// @return set of map's entries
+    @SuppressWarnings("unchecked")
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        Set<Entry<K, V>> entrySet = new HashSet<>(Math.max(size * 2, 1));
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null)
+                entrySet.add(new SimpleEntry<>((K) keys[i], (V) values[i]));
+        }
+
+        return entrySet;
+    }
+
+    /// Get all of map's values as a new list. Changing the returned list will **not** change the map
+    ///
+    /// @return collection of map's values
+    @SuppressWarnings("unchecked")
+    @Override
+    public Collection<V> values() {
+        ArrayList<V> values = new ArrayList<>(Math.max(size, 1));
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null)
+                values.add((V) this.values[i]);
+        }
+
+        return values;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /// Checks if the given value is in the map. Same as `containsValue()`
+    ///
+    /// This is a `O(n)` operation
+    @Override
+    public boolean contains(V value) {
+        return containsValue(value);
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = null;
+            values[i] = null;
+            hashes[i] = 0;
+        }
+
+        size = 0;
+        modCount++;
+    }
+
+    /// Returns a fail-fast iterator over the map's values, since the map is a collection of values. The order of the
+    /// values is not defined
+    @Override
+    public Iterator<V> iterator() {
+        return new ValueIterator();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == null) continue;
+
+            builder.append(keys[i]);
+            builder.append("=");
+            builder.append(values[i]);
+            builder.append(", ");
+        }
+
+        if (builder.length() > 2)
+            builder.delete(builder.length() - 2, builder.length());
+
+        builder.append("}");
+        return builder.toString();
+    }
+
+    /// A fail-fast iterator which goes over the inner arrays in order, skipping the empty slots
+    private class ValueIterator implements Iterator<V> {
+        private final int expectedModCount = modCount;
+        private int slot = 0;
+
+        @Override
+        public boolean hasNext() {
+            while (slot < keys.length && keys[slot] == null)
+                slot++;
+
+            return slot < keys.length;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public V next() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            return (V) values[slot++];
+        }
+    }
+}
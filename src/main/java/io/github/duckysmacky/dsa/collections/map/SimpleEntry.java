@@ -0,0 +1,57 @@
+package io.github.duckysmacky.dsa.collections.map;
+
+import java.util.Objects;
+
+/// A basic mutable implementation of the `Map.Entry`, which simply holds a key and a value. It is not connected to any
+/// map, so changing an entry will **not** change the map it came from
+///
+/// @param <K> entry's key type
+/// @param <V> entry's value type
+public class SimpleEntry<K, V> implements Map.Entry<K, V> {
+    private K key;
+    private V value;
+
+    /// Creates a new entry with the provided key and value
+    public SimpleEntry(K key, V value) {
+        this.key = key;
+        this.value = value;
+    }
+
+    @Override
+    public void setKey(K key) {
+        this.key = key;
+    }
+
+    @Override
+    public void setValue(V value) {
+        this.value = value;
+    }
+
+    @Override
+    public K getKey() {
+        return key;
+    }
+
+    @Override
+    public V getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return key + "=" + value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(key) ^ Objects.hashCode(value);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof Map.Entry<?, ?> entry)
+            return Objects.equals(key, entry.getKey()) && Objects.equals(value, entry.getValue());
+
+        return false;
+    }
+}
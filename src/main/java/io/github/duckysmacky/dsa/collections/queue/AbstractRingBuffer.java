@@ -0,0 +1,264 @@
+package io.github.duckysmacky.dsa.collections.queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/// The consumer side shared by the lock-free ring buffers. The buffer is a circular array like the one of
+/// `ArrayQueue`, but its capacity is always a power of two, so the slot of an index is found with a bit mask instead
+/// of a division, and the indices are never wrapped around, but only ever grow.
+///
+/// A slot which holds `null` is free. A producer publishes an element by writing it into its slot with a release
+/// store, and the consumer frees the slot by writing `null` back, so the element itself is the signal that it can be
+/// read. The indices are only used to tell a full or empty buffer apart from a slot which was claimed by a producer,
+/// but not written yet.
+///
+/// @param <E> type of elements in the ring buffer
+abstract class AbstractRingBuffer<E> extends RingBufferPadding.TailPadding implements Queue<E> {
+    static final VarHandle PRODUCER_INDEX;
+    static final VarHandle PRODUCER_LIMIT;
+    static final VarHandle CONSUMER_INDEX;
+    static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            PRODUCER_INDEX = lookup.findVarHandle(RingBufferPadding.ProducerFields.class, "producerIndex", long.class);
+            PRODUCER_LIMIT = lookup.findVarHandle(RingBufferPadding.ProducerFields.class, "producerLimit", long.class);
+            CONSUMER_INDEX = lookup.findVarHandle(RingBufferPadding.ConsumerFields.class, "consumerIndex", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    final Object[] buffer;
+    final int capacity;
+    final int mask;
+
+    /// Creates a ring buffer which can fit at least the specified amount of elements. The capacity is rounded up to the
+    /// next power of two
+    AbstractRingBuffer(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity cannot be less than 1");
+        if (capacity > 1 << 30)
+            throw new IllegalArgumentException("Capacity cannot be greater than 2^30");
+
+        this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.buffer = new Object[this.capacity];
+        this.producerLimit = this.capacity;
+    }
+
+    /// Returns the actual capacity of the ring buffer, which is a power of two
+    public int capacity() {
+        return capacity;
+    }
+
+    /// Adds as many elements from the range `[from, to)` of the array as there is free space for, in their order. This
+    /// is cheaper than offering them one by one, since the free space is claimed for all the elements at once
+    ///
+    /// @throws IllegalArgumentException if any of the added elements is `null`
+    /// @return the amount of added elements
+    public abstract int offerAll(E[] elements, int from, int to);
+
+    /// Adds as many elements of the array as there is free space for, in their order
+    ///
+    /// @throws IllegalArgumentException if any of the added elements is `null`
+    /// @return the amount of added elements
+    public int offerAll(E[] elements) {
+        return offerAll(elements, 0, elements.length);
+    }
+
+    /// Add (enqueue) an element to the end of the ring buffer
+    ///
+    /// @throws IllegalStateException if the ring buffer is full
+    /// @throws IllegalArgumentException if the element is `null`
+    @Override
+    public void add(E element) {
+        if (!offer(element))
+            throw new IllegalStateException("Queue is full, cannot add a new element");
+    }
+
+    /// Returns the element at the start of the ring buffer without removing it, or `null` if it is empty. Must only be
+    /// called by the consumer thread
+    @Override
+    public E peek() {
+        long index = consumerIndex;
+        return index < producerIndex ? awaitElement(index) : null;
+    }
+
+    /// Removes the element at the start of the ring buffer. Must only be called by the consumer thread
+    ///
+    /// @throws NoSuchElementException if the ring buffer is empty
+    @Override
+    public E remove() {
+        E element = poll();
+        if (element == null)
+            throw new NoSuchElementException("Queue is empty, nothing to remove");
+
+        return element;
+    }
+
+    /// Removes the element at the start of the ring buffer, or returns `null` if it is empty. Must only be called by
+    /// the consumer thread
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long index = consumerIndex;
+        int slot = (int) index & mask;
+        E element = (E) SLOT.getAcquire(buffer, slot);
+
+        if (element == null) {
+            if (index >= producerIndex)
+                return null;
+
+            // The slot was claimed by a producer which has not written the element yet
+            element = awaitElement(index);
+        }
+
+        SLOT.setRelease(buffer, slot, null);
+        CONSUMER_INDEX.setRelease(this, index + 1);
+        return element;
+    }
+
+    /// Removes up to `limit` elements from the start of the ring buffer, passing each of them to the action, and
+    /// returns the amount of removed elements. The consumer index is only published once, after the whole batch. Stops
+    /// early at the first element which is not published yet. Must only be called by the consumer thread
+    @SuppressWarnings("unchecked")
+    public int drainTo(Consumer<? super E> action, int limit) {
+        long index = consumerIndex;
+        int drained = 0;
+
+        while (drained < limit) {
+            int slot = (int) (index + drained) & mask;
+            E element = (E) SLOT.getAcquire(buffer, slot);
+            if (element == null)
+                break;
+
+            SLOT.setRelease(buffer, slot, null);
+            drained++;
+            action.accept(element);
+        }
+
+        if (drained > 0)
+            CONSUMER_INDEX.setRelease(this, index + drained);
+
+        return drained;
+    }
+
+    /// Removes all the elements which are currently published, passing each of them to the action, and returns the
+    /// amount of removed elements. Must only be called by the consumer thread
+    public int drainTo(Consumer<? super E> action) {
+        return drainTo(action, capacity);
+    }
+
+    /// Spins until the producer which claimed the index publishes its element
+    @SuppressWarnings("unchecked")
+    private E awaitElement(long index) {
+        int slot = (int) index & mask;
+        E element;
+
+        while ((element = (E) SLOT.getAcquire(buffer, slot)) == null)
+            Thread.onSpinWait();
+
+        return element;
+    }
+
+    @Override
+    public boolean isFull() {
+        return size() == capacity;
+    }
+
+    /// Returns the amount of elements in the ring buffer. It is exact when the buffer is not being modified, but may be
+    /// slightly off while the producers or the consumer are active
+    @Override
+    public int size() {
+        long consumer = consumerIndex;
+        long producer = producerIndex;
+        return (int) Math.max(0, Math.min(producer - consumer, capacity));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return consumerIndex >= producerIndex;
+    }
+
+    /// Checks whether the ring buffer has the element in it. Must only be called by the consumer thread
+    @Override
+    public boolean contains(E element) {
+        for (E e : this)
+            if (Objects.equals(e, element)) return true;
+        return false;
+    }
+
+    /// Removes all the elements which are in the ring buffer at the moment of the call. Must only be called by the
+    /// consumer thread
+    @Override
+    public void clear() {
+        while (poll() != null);
+    }
+
+    /// Returns a weakly consistent iterator which goes over the published elements from the start to the end (in the
+    /// removal order), without removing them. Must only be used by the consumer thread
+    @Override
+    public Iterator<E> iterator() {
+        return new RingBufferIterator();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        Iterator<E> iterator = iterator();
+
+        while (iterator.hasNext()) {
+            builder.append(iterator.next());
+            if (iterator.hasNext())
+                builder.append(" < ");
+        }
+
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /// Checks that none of the elements in the range are `null`, before any of them is published
+    static void checkElements(Object[] elements, int from, int to) {
+        Objects.checkFromToIndex(from, to, elements.length);
+        for (int i = from; i < to; i++) {
+            if (elements[i] == null)
+                throw new IllegalArgumentException("Element cannot be null");
+        }
+    }
+
+    /// A weakly consistent iterator which goes over the elements from the consumer index up to the first slot which
+    /// is not published yet
+    private class RingBufferIterator implements Iterator<E> {
+        private long index = consumerIndex;
+        private E nextElement = read();
+
+        @SuppressWarnings("unchecked")
+        private E read() {
+            if (index - consumerIndex >= capacity)
+                return null;
+            return (E) SLOT.getAcquire(buffer, (int) index & mask);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextElement != null;
+        }
+
+        @Override
+        public E next() {
+            if (nextElement == null)
+                throw new NoSuchElementException();
+
+            E element = nextElement;
+            index++;
+            nextElement = read();
+            return element;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package io.github.duckysmacky.dsa.collections.queue;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/// A thread-safe `BlockingQueue` implementation which has a **fixed** size (capacity). It is a blocking sibling of
+/// `ArrayQueue`: a circular buffer which cannot grow, guarded by a single lock.
+///
+/// Producers which find the queue full wait on the `notFull` condition, and consumers which find it empty wait on the
+/// `notEmpty` condition. The waiting is done with a `ReentrantLock` instead of `synchronized` monitors, so a virtual
+/// thread which waits for the queue unmounts from its carrier thread instead of pinning it.
+///
+/// The iterator goes over a snapshot of the queue, which is taken under the lock when the iterator is created, so it
+/// never throws a `ConcurrentModificationException` and doesn't see the later changes.
+///
+/// @param <E> type of elements in the queue
+public class ArrayBlockingQueue<E> implements BlockingQueue<E> {
+    private final Object[] innerArray;
+    private final ReentrantLock lock;
+    private final Condition notEmpty;
+    private final Condition notFull;
+    private int size;
+    private int takeIndex;
+    private int putIndex;
+
+    /// Initiate a new `Array Blocking Queue` of specified capacity
+    ///
+    /// @throws IllegalArgumentException if the capacity is less than 1
+    public ArrayBlockingQueue(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity cannot be less than 1");
+
+        this.innerArray = new Object[capacity];
+        this.lock = new ReentrantLock();
+        this.notEmpty = lock.newCondition();
+        this.notFull = lock.newCondition();
+        this.size = 0;
+        this.takeIndex = 0;
+        this.putIndex = 0;
+    }
+
+    /// Add (enqueue) an element to the end of the queue without waiting
+    ///
+    /// @throws IllegalStateException if the queue is full
+    /// @throws IllegalArgumentException if the element is `null`
+    @Override
+    public void add(E element) {
+        if (!offer(element))
+            throw new IllegalStateException("Queue is full, cannot add a new element");
+    }
+
+    /// @throws IllegalArgumentException if the element is `null`
+    @Override
+    public boolean offer(E element) {
+        checkElement(element);
+        lock.lock();
+        try {
+            if (size == innerArray.length)
+                return false;
+
+            enqueue(element);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(E element, long timeout, TimeUnit unit) throws InterruptedException {
+        checkElement(element);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == innerArray.length) {
+                if (nanos <= 0)
+                    return false;
+                nanos = notFull.awaitNanos(nanos);
+            }
+
+            enqueue(element);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(E element) throws InterruptedException {
+        checkElement(element);
+        lock.lockInterruptibly();
+        try {
+            while (size == innerArray.length)
+                notFull.await();
+
+            enqueue(element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        lock.lock();
+        try {
+            return (E) innerArray[takeIndex];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E remove() {
+        E element = poll();
+        if (element == null)
+            throw new NoSuchElementException("Queue is empty, nothing to remove");
+
+        return element;
+    }
+
+    @Override
+    public E poll() {
+        lock.lock();
+        try {
+            return size == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                if (nanos <= 0)
+                    return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size == 0)
+                notEmpty.await();
+
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return innerArray.length - size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isFull() {
+        return remainingCapacity() == 0;
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean contains(E element) {
+        lock.lock();
+        try {
+            for (int i = 0; i < size; i++)
+                if (Objects.equals(innerArray[(takeIndex + i) % innerArray.length], element)) return true;
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            Arrays.fill(innerArray, null);
+            size = 0;
+            takeIndex = 0;
+            putIndex = 0;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /// Returns an iterator over a snapshot of the queue, from the start to the end (in the removal order)
+    @Override
+    public Iterator<E> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /// Returns a spliterator over a snapshot of the queue, which splits the snapshot array evenly
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(snapshot(), Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        Object[] elements = snapshot();
+
+        for (int i = 0; i < elements.length; i++) {
+            builder.append(elements[i]);
+
+            if (i < elements.length - 1)
+                builder.append(" < ");
+        }
+
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /// Puts the element into the next slot and wakes up one waiting consumer. Must be called while holding the lock
+    private void enqueue(E element) {
+        innerArray[putIndex] = element;
+        putIndex = (putIndex + 1) % innerArray.length;
+        size++;
+        notEmpty.signal();
+    }
+
+    /// Takes the element out of the first slot and wakes up one waiting producer. Must be called while holding the
+    /// lock on a non-empty queue
+    @SuppressWarnings("unchecked")
+    private E dequeue() {
+        E element = (E) innerArray[takeIndex];
+        innerArray[takeIndex] = null;
+        takeIndex = (takeIndex + 1) % innerArray.length;
+        size--;
+        notFull.signal();
+        return element;
+    }
+
+    /// Copies the elements of the queue into a new array, in the removal order
+    private Object[] snapshot() {
+        lock.lock();
+        try {
+            Object[] elements = new Object[size];
+            for (int i = 0; i < size; i++)
+                elements[i] = innerArray[(takeIndex + i) % innerArray.length];
+            return elements;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void checkElement(Object element) {
+        if (element == null)
+            throw new IllegalArgumentException("Element cannot be null");
+    }
+}
@@ -0,0 +1,430 @@
+package io.github.duckysmacky.dsa.collections.queue;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/// A `Deque` implementation which has a **dynamic** size (capacity). It is based on a circular array, where both the
+/// start and the end of the deque can move in either direction, wrapping around the array. This makes adding and
+/// removing elements at both ends a `O(1)` operation, unlike the `LinkedList`, which has to walk the whole list to
+/// remove its last element, and doesn't allocate a node for every element.
+///
+/// The capacity is always a power of two, so the position of an element is found with a bit mask instead of a
+/// division. Once the deque runs out of space, its capacity is doubled and the elements are unrolled into the new
+/// array, so that the start of the deque is moved back to index `0`. Each grow is a `O(n)` operation, which makes
+/// adding an element an amortized `O(1)` operation. The starting capacity is `16` (if not set by the user).
+///
+/// The deque can also be used as a FIFO `Queue`, which adds elements to its end and removes them from its start.
+/// Since `poll()`, `peek()` and the `get` methods use `null` to signal an empty deque, `null` elements are not
+/// allowed.
+///
+/// @param <E> type of elements in the deque
+public class ArrayDeque<E> implements Deque<E>, Queue<E> {
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private Object[] innerArray;
+    private int mask;
+    private int head;
+    private int size;
+    private int modCount;
+
+    /// Initiate a new empty `Array Deque` with default starting capacity of `16`
+    public ArrayDeque() {
+        this(16);
+    }
+
+    /// Initiate a new empty `Array Deque` which can fit at least the specified amount of elements without growing.
+    /// The capacity is rounded up to the next power of two
+    ///
+    /// @throws IllegalArgumentException if the capacity is less than 1 or greater than `2^30`
+    public ArrayDeque(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity cannot be less than 1");
+        if (capacity > MAX_CAPACITY)
+            throw new IllegalArgumentException("Capacity cannot be greater than 2^30");
+
+        int actualCapacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.innerArray = new Object[actualCapacity];
+        this.mask = actualCapacity - 1;
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /// Returns the current capacity of the deque, which is the amount of elements it can fit without growing
+    public int capacity() {
+        return innerArray.length;
+    }
+
+    /// Add an element to the start of the deque
+    ///
+    /// This is an amortized `O(1)` operation
+    ///
+    /// @throws IllegalArgumentException if the element is `null`
+    @Override
+    public void addFirst(E element) {
+        checkElement(element);
+        if (size == innerArray.length)
+            grow();
+
+        head = (head - 1) & mask;
+        innerArray[head] = element;
+        size++;
+        modCount++;
+    }
+
+    /// Add an element to the end of the deque
+    ///
+    /// This is an amortized `O(1)` operation
+    ///
+    /// @throws IllegalArgumentException if the element is `null`
+    @Override
+    public void addLast(E element) {
+        checkElement(element);
+        if (size == innerArray.length)
+            grow();
+
+        innerArray[(head + size) & mask] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public boolean offerFirst(E element) {
+        addFirst(element);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(E element) {
+        addLast(element);
+        return true;
+    }
+
+    /// Replaces the first element of the deque with the provided element
+    ///
+    /// @throws NoSuchElementException if the deque is empty
+    /// @throws IllegalArgumentException if the element is `null`
+    @Override
+    public void setFirst(E element) {
+        checkElement(element);
+        if (size == 0)
+            throw new NoSuchElementException("Deque is empty, nothing to replace");
+
+        innerArray[head] = element;
+    }
+
+    /// Replaces the last element of the deque with the provided element
+    ///
+    /// @throws NoSuchElementException if the deque is empty
+    /// @throws IllegalArgumentException if the element is `null`
+    @Override
+    public void setLast(E element) {
+        checkElement(element);
+        if (size == 0)
+            throw new NoSuchElementException("Deque is empty, nothing to replace");
+
+        innerArray[(head + size - 1) & mask] = element;
+    }
+
+    /// Removes the element at the start of the deque and returns it
+    ///
+    /// This is a `O(1)` operation
+    ///
+    /// @throws NoSuchElementException if the deque is empty
+    @Override
+    public E removeFirst() {
+        E element = pollFirst();
+        if (element == null)
+            throw new NoSuchElementException("Deque is empty, nothing to remove");
+
+        return element;
+    }
+
+    /// Removes the element at the end of the deque and returns it
+    ///
+    /// This is a `O(1)` operation
+    ///
+    /// @throws NoSuchElementException if the deque is empty
+    @Override
+    public E removeLast() {
+        E element = pollLast();
+        if (element == null)
+            throw new NoSuchElementException("Deque is empty, nothing to remove");
+
+        return element;
+    }
+
+    /// Removes the element at the start of the deque and returns it, or returns `null` if the deque is empty
+    ///
+    /// This is a `O(1)` operation
+    @Override
+    @SuppressWarnings("unchecked")
+    public E pollFirst() {
+        if (size == 0)
+            return null;
+
+        E element = (E) innerArray[head];
+        innerArray[head] = null;
+        head = (head + 1) & mask;
+        size--;
+        modCount++;
+        return element;
+    }
+
+    /// Removes the element at the end of the deque and returns it, or returns `null` if the deque is empty
+    ///
+    /// This is a `O(1)` operation
+    @Override
+    @SuppressWarnings("unchecked")
+    public E pollLast() {
+        if (size == 0)
+            return null;
+
+        int last = (head + size - 1) & mask;
+        E element = (E) innerArray[last];
+        innerArray[last] = null;
+        size--;
+        modCount++;
+        return element;
+    }
+
+    /// Get the element at the start of the deque, or `null` if the deque is empty
+    ///
+    /// This is a `O(1)` operation
+    @Override
+    @SuppressWarnings("unchecked")
+    public E getFirst() {
+        return (E) innerArray[head];
+    }
+
+    /// Get the element at the end of the deque, or `null` if the deque is empty
+    ///
+    /// This is a `O(1)` operation
+    @Override
+    @SuppressWarnings("unchecked")
+    public E getLast() {
+        return (E) innerArray[(head + size - 1) & mask];
+    }
+
+    /// Get the element at the specified position, counting from the start of the deque
+    ///
+    /// This is a `O(1)` operation
+    ///
+    /// @throws IndexOutOfBoundsException if the index is out of range
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) innerArray[(head + index) & mask];
+    }
+
+    /// Add (enqueue) an element to the end of the deque. Since the deque grows, this never fails
+    ///
+    /// @throws IllegalArgumentException if the element is `null`
+    @Override
+    public void add(E element) {
+        addLast(element);
+    }
+
+    /// Add (enqueue) an element to the end of the deque. Since the deque grows, this always returns `true`
+    ///
+    /// @throws IllegalArgumentException if the element is `null`
+    @Override
+    public boolean offer(E element) {
+        addLast(element);
+        return true;
+    }
+
+    @Override
+    public E peek() {
+        return getFirst();
+    }
+
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public boolean isFull() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(E element) {
+        for (int i = 0; i < size; i++)
+            if (Objects.equals(innerArray[(head + i) & mask], element)) return true;
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++)
+            innerArray[(head + i) & mask] = null;
+
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /// Returns a fail-fast iterator which goes over the deque from the start to the end
+    @Override
+    public Iterator<E> iterator() {
+        return new ArrayDequeIterator();
+    }
+
+    /// Returns a fail-fast spliterator which splits the deque in half on each split, wrapping around the inner array
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ArrayDequeSpliterator(0, -1, 0);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+
+        for (int i = 0; i < size; i++) {
+            builder.append(innerArray[(head + i) & mask]);
+
+            if (i < size - 1)
+                builder.append(" < ");
+        }
+
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /// Doubles the capacity of the inner array, unrolling the elements so that the start of the deque is at index `0`
+    private void grow() {
+        int capacity = innerArray.length;
+        if (capacity == MAX_CAPACITY)
+            throw new OutOfMemoryError("Required array size is too large");
+
+        Object[] newInner = new Object[capacity << 1];
+        int firstPart = capacity - head;
+        System.arraycopy(innerArray, head, newInner, 0, firstPart);
+        System.arraycopy(innerArray, 0, newInner, firstPart, head);
+
+        innerArray = newInner;
+        mask = newInner.length - 1;
+        head = 0;
+    }
+
+    private static void checkElement(Object element) {
+        if (element == null)
+            throw new IllegalArgumentException("Element cannot be null");
+    }
+
+    /// A fail-fast iterator which goes over the deque from the start to the end, wrapping around the inner array
+    private class ArrayDequeIterator implements Iterator<E> {
+        private int cursor = 0;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (cursor >= size)
+                throw new NoSuchElementException();
+
+            return (E) innerArray[(head + cursor++) & mask];
+        }
+    }
+
+    /// A fail-fast spliterator over the range `[index, fence)` of the deque's positions, counted from the start of the
+    /// deque. The fence is bound lazily, on the first use
+    private class ArrayDequeSpliterator implements Spliterator<E> {
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        private ArrayDequeSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        /// Returns the end of the range, initializing it with the current size on the first use
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int high = getFence();
+            int low = index;
+            int middle = (low + high) >>> 1;
+
+            if (low >= middle)
+                return null;
+
+            index = middle;
+            return new ArrayDequeSpliterator(low, middle, expectedModCount);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            int high = getFence();
+            if (index >= high)
+                return false;
+
+            E element = (E) innerArray[(head + index++) & mask];
+            action.accept(element);
+
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            int high = getFence();
+
+            for (int i = index; i < high; i++)
+                action.accept((E) innerArray[(head + i) & mask]);
+            index = high;
+
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+    }
+}
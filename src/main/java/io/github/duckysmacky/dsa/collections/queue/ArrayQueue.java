@@ -1,30 +1,135 @@
 package io.github.duckysmacky.dsa.collections.queue;
 
+import io.github.duckysmacky.dsa.collections.list.GrowthPolicy;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
-/// A `Queue` implementation which has a **fixed** size (capacity). It is based on array and cannot grow in size
+/// A `Queue` implementation based on a circular array. By default, it has a **fixed** size (capacity) and cannot grow
+/// in size.
+///
+/// If created with a `GrowthPolicy`, the queue is **growable** instead: once it runs out of space, the inner array is
+/// reallocated according to the policy, so adding never fails. The elements are unrolled into the new array, so that
+/// the start of the queue is moved back to index `0`. A growable queue can also shrink back once it is mostly drained,
+/// if a shrink threshold is set with `setShrinkThreshold()`.
 ///
 /// @param <E> type of elements in the queue
 public class ArrayQueue<E> implements Queue<E> {
-    private final int capacity;
-    private final Object[] innerArray;
+    private final int initialCapacity;
+    private final GrowthPolicy growthPolicy;
+    private int capacity;
+    private Object[] innerArray;
     private int size;
+    private int modCount;
     private int start;
     private int end;
+    private double shrinkThreshold;
 
-    /// Initiate a new `Sized Stack` of specified capacity
+    /// Initiate a new `Array Queue` of specified fixed capacity
     public ArrayQueue(int capacity) {
+        this.initialCapacity = capacity;
+        this.growthPolicy = null;
         this.capacity = capacity;
         this.innerArray = new Object[capacity];
         this.size = 0;
         this.start = -1;
         this.end = -1;
+        this.shrinkThreshold = 0;
+    }
+
+    /// Initiate a new growable `Array Queue` of specified starting capacity, which grows according to the provided
+    /// policy
+    ///
+    /// @throws IllegalArgumentException if the capacity is less than 1 or the policy is `null`
+    public ArrayQueue(int capacity, GrowthPolicy growthPolicy) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity cannot be less than 1");
+        if (growthPolicy == null)
+            throw new IllegalArgumentException("Growth policy cannot be null");
+
+        this.initialCapacity = capacity;
+        this.growthPolicy = growthPolicy;
+        this.capacity = capacity;
+        this.innerArray = new Object[capacity];
+        this.size = 0;
+        this.start = -1;
+        this.end = -1;
+        this.shrinkThreshold = 0;
+    }
+
+    /// Returns whether the queue grows once it runs out of space, instead of rejecting new elements
+    public boolean isGrowable() {
+        return growthPolicy != null;
+    }
+
+    /// Returns the current capacity of the queue, which is the amount of elements it can fit without growing
+    public int capacity() {
+        return capacity;
+    }
+
+    /// Sets the threshold for automatic shrinking of a growable queue. Once the queue is filled by less than the given
+    /// fraction of its capacity after a removal, the inner array is reallocated to twice the size of the queue (but
+    /// never below the starting capacity). A threshold of `0` disables the shrinking, which is the default
+    ///
+    /// @throws IllegalStateException if the queue is not growable
+    /// @throws IllegalArgumentException if the threshold is not within `[0, 0.5)`
+    public void setShrinkThreshold(double shrinkThreshold) {
+        if (growthPolicy == null)
+            throw new IllegalStateException("Only a growable queue can shrink");
+        if (!(shrinkThreshold >= 0 && shrinkThreshold < 0.5))
+            throw new IllegalArgumentException("Shrink threshold must be within [0, 0.5)");
+
+        this.shrinkThreshold = shrinkThreshold;
+        shrinkIfSparse();
+    }
+
+    /// Reallocate the inner array so that it can fit at least one more element. The new capacity is given by the
+    /// growth policy
+    private void grow() {
+        int minCapacity = capacity + 1;
+        if (minCapacity < 0)
+            throw new OutOfMemoryError("Required array size is too large");
+
+        reallocate(Math.max(growthPolicy.grow(capacity, minCapacity), minCapacity));
+    }
+
+    /// Shrinks the inner array if the queue is filled by less than the shrink threshold
+    private void shrinkIfSparse() {
+        if (capacity <= initialCapacity || size >= capacity * shrinkThreshold)
+            return;
+
+        reallocate(Math.max(size * 2, initialCapacity));
+    }
+
+    /// Moves the elements into a new inner array of the given capacity, unrolling the ring so that the start of the
+    /// queue is at index `0`. This takes a single copy if the elements don't wrap around, or two copies otherwise
+    private void reallocate(int newCapacity) {
+        Object[] newInner = new Object[newCapacity];
+
+        if (size > 0) {
+            int firstPart = Math.min(size, capacity - start);
+            System.arraycopy(innerArray, start, newInner, 0, firstPart);
+            System.arraycopy(innerArray, 0, newInner, firstPart, size - firstPart);
+
+            start = 0;
+            end = size - 1;
+        }
+
+        innerArray = newInner;
+        capacity = newCapacity;
     }
 
     @Override
     public void add(E element) {
-        if (size == capacity)
-            throw new IllegalStateException("Queue is full, cannot add a new element");
+        if (size == capacity) {
+            if (growthPolicy == null)
+                throw new IllegalStateException("Queue is full, cannot add a new element");
+            grow();
+        }
 
         end = (end + 1) % capacity;
         innerArray[end] = element;
@@ -33,12 +138,16 @@ public class ArrayQueue<E> implements Queue<E> {
             start = end;
 
         size++;
+        modCount++;
     }
 
     @Override
     public boolean offer(E element) {
-        if (size == capacity)
-            return false;
+        if (size == capacity) {
+            if (growthPolicy == null)
+                return false;
+            grow();
+        }
 
         end = (end + 1) % capacity;
         innerArray[end] = element;
@@ -47,6 +156,7 @@ public class ArrayQueue<E> implements Queue<E> {
             start = end;
 
         size++;
+        modCount++;
         return true;
     }
 
@@ -64,14 +174,17 @@ public class ArrayQueue<E> implements Queue<E> {
             throw new NoSuchElementException("Queue is empty, nothing to remove");
 
         E removedElement = (E) innerArray[start];
+        innerArray[start] = null;
         start = (start + 1) % capacity;
         size--;
+        modCount++;
 
         if (size == 0) {
             start = -1;
             end = -1;
         }
 
+        shrinkIfSparse();
         return removedElement;
     }
 
@@ -81,20 +194,23 @@ public class ArrayQueue<E> implements Queue<E> {
             return null;
 
         E removedElement = (E) innerArray[start];
+        innerArray[start] = null;
         start = (start + 1) % capacity;
         size--;
+        modCount++;
 
         if (size == 0) {
             start = -1;
             end = -1;
         }
 
+        shrinkIfSparse();
         return removedElement;
     }
 
     @Override
     public boolean isFull() {
-        return size == capacity;
+        return growthPolicy == null && size == capacity;
     }
 
     @Override
@@ -109,16 +225,33 @@ public class ArrayQueue<E> implements Queue<E> {
 
     @Override
     public boolean contains(E element) {
-        for (Object e : innerArray)
-            if (e.equals(element)) return true;
+        for (int i = 0; i < size; i++)
+            if (Objects.equals(innerArray[(start + i) % capacity], element)) return true;
         return false;
     }
 
     @Override
     public void clear() {
+        for (int i = 0; i < size; i++)
+            innerArray[(start + i) % capacity] = null;
+
         start = -1;
         end = -1;
         size = 0;
+        modCount++;
+        shrinkIfSparse();
+    }
+
+    /// Returns a fail-fast iterator which goes over the queue from the start to the end (in the removal order)
+    @Override
+    public Iterator<E> iterator() {
+        return new ArrayQueueIterator();
+    }
+
+    /// Returns a fail-fast spliterator which splits the queue in half on each split, wrapping around the inner array
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ArrayQueueSpliterator(0, -1, 0);
     }
 
     @Override
@@ -138,4 +271,100 @@ public class ArrayQueue<E> implements Queue<E> {
         builder.append("]");
         return builder.toString();
     }
+
+    /// A fail-fast iterator which goes over the queue from the start to the end, wrapping around the inner array
+    private class ArrayQueueIterator implements Iterator<E> {
+        private int cursor = 0;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (cursor >= size)
+                throw new NoSuchElementException();
+
+            return (E) innerArray[(start + cursor++) % capacity];
+        }
+    }
+
+    /// A fail-fast spliterator over the range `[index, fence)` of the queue's positions, counted from the start of the
+    /// queue. The fence is bound lazily, on the first use
+    private class ArrayQueueSpliterator implements Spliterator<E> {
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        private ArrayQueueSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        /// Returns the end of the range, initializing it with the current size on the first use
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                fence = size;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int high = getFence();
+            int low = index;
+            int middle = (low + high) >>> 1;
+
+            if (low >= middle)
+                return null;
+
+            index = middle;
+            return new ArrayQueueSpliterator(low, middle, expectedModCount);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            int high = getFence();
+            if (index >= high)
+                return false;
+
+            E element = (E) innerArray[(start + index++) % capacity];
+            action.accept(element);
+
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            int high = getFence();
+
+            for (int i = index; i < high; i++)
+                action.accept((E) innerArray[(start + i) % capacity]);
+            index = high;
+
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
 }
@@ -0,0 +1,45 @@
+package io.github.duckysmacky.dsa.collections.queue;
+
+import java.util.concurrent.TimeUnit;
+
+/// A `BlockingQueue` is a thread-safe `Queue` which can also wait: a producer can wait for the queue to have free
+/// space before adding an element, and a consumer can wait for the queue to have an element before removing it. It is
+/// used to hand work over between threads, like between a pool of producers and a pool of consumers.
+///
+/// The non-blocking methods of `Queue` keep their meaning and never wait. Since `poll()` and `peek()` use `null` to
+/// signal an empty queue, `null` elements are not allowed.
+///
+/// @param <E> type of elements in the queue
+public interface BlockingQueue<E> extends Queue<E> {
+    /// Adds (enqueues) an element to the end of the queue, waiting for free space if the queue is full
+    ///
+    /// @throws InterruptedException if interrupted while waiting
+    /// @throws IllegalArgumentException if the element is `null`
+    void put(E element) throws InterruptedException;
+    /// Adds (enqueues) an element to the end of the queue, waiting up to the specified time for free space if the
+    /// queue is full
+    ///
+    /// @throws InterruptedException if interrupted while waiting
+    /// @throws IllegalArgumentException if the element is `null`
+    ///
+    /// @return whether was able to add the element before the time ran out
+    boolean offer(E element, long timeout, TimeUnit unit) throws InterruptedException;
+    /// Removes (dequeues) the element from the start of the queue, waiting for an element if the queue is empty
+    ///
+    /// @throws InterruptedException if interrupted while waiting
+    ///
+    /// @return first element in the queue
+    E take() throws InterruptedException;
+    /// Removes (dequeues) the element from the start of the queue, waiting up to the specified time for an element if
+    /// the queue is empty
+    ///
+    /// @throws InterruptedException if interrupted while waiting
+    ///
+    /// @return first element in the queue or `null` if the time ran out
+    E poll(long timeout, TimeUnit unit) throws InterruptedException;
+    /// Returns the amount of elements which can be added to the queue without waiting, or `Integer.MAX_VALUE` if the
+    /// queue is unbounded
+    ///
+    /// @return free space in the queue
+    int remainingCapacity();
+}
@@ -0,0 +1,266 @@
+package io.github.duckysmacky.dsa.collections.queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.LongAdder;
+
+/// A thread-safe, lock-free `Queue` implementation which has a **dynamic** size (capacity). It is a concurrent sibling
+/// of `LinkedQueue`, which can be shared between any amount of producer and consumer threads without external locking.
+///
+/// The implementation follows the Michael-Scott algorithm: the queue is a singly linked list which always starts with
+/// a dummy node, and both its `head` and `tail` references are only ever changed with an atomic compare-and-set. A
+/// producer links a new node after the last one and then swings the `tail` to it, and a consumer moves the `head` to
+/// the next node, which becomes the new dummy. If a thread finds the `tail` lagging behind the last node, it helps to
+/// move it forward instead of waiting, so no thread can block the others. Every operation is linearizable.
+///
+/// Since `poll()` and `peek()` use `null` to signal an empty queue, `null` elements are not allowed.
+///
+/// The size is tracked with a striped counter, so `size()` is a `O(1)` operation which is exact when the queue is not
+/// being modified, but may be slightly off while other threads are adding or removing elements. The iterator is
+/// **weakly consistent** rather than fail-fast: it never throws a `ConcurrentModificationException`, and returns the
+/// elements which were in the queue at some point since its creation.
+///
+/// @param <E> type of elements in the queue
+public class ConcurrentLinkedQueue<E> implements Queue<E> {
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+    private static final VarHandle ITEM;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(ConcurrentLinkedQueue.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(ConcurrentLinkedQueue.class, "tail", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+            ITEM = lookup.findVarHandle(Node.class, "item", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node<E> head;
+    private volatile Node<E> tail;
+    private final LongAdder size;
+
+    /// Initiate a new empty `Concurrent Linked Queue`
+    public ConcurrentLinkedQueue() {
+        Node<E> dummy = new Node<>(null);
+        this.head = dummy;
+        this.tail = dummy;
+        this.size = new LongAdder();
+    }
+
+    /// Add (enqueue) an element to the end of the queue. Since the queue is unbounded, this never fails
+    ///
+    /// @throws IllegalArgumentException if the element is `null`
+    @Override
+    public void add(E element) {
+        offer(element);
+    }
+
+    /// Add (enqueue) an element to the end of the queue. Since the queue is unbounded, this always returns `true`
+    ///
+    /// @throws IllegalArgumentException if the element is `null`
+    @Override
+    public boolean offer(E element) {
+        if (element == null)
+            throw new IllegalArgumentException("Element cannot be null");
+
+        Node<E> newNode = new Node<>(element);
+
+        while (true) {
+            Node<E> last = tail;
+            Node<E> next = last.next;
+
+            if (last != tail)
+                continue;
+
+            if (next == null) {
+                if (NEXT.compareAndSet(last, null, newNode)) {
+                    // Failing here is fine, it means another thread has already moved the tail forward
+                    TAIL.compareAndSet(this, last, newNode);
+                    size.increment();
+                    return true;
+                }
+            } else {
+                // The tail is lagging behind, help moving it forward
+                TAIL.compareAndSet(this, last, next);
+            }
+        }
+    }
+
+    @Override
+    public E peek() {
+        while (true) {
+            Node<E> first = head;
+            Node<E> next = first.next;
+
+            if (next == null)
+                return null;
+
+            E item = next.item;
+            if (first == head && item != null)
+                return item;
+        }
+    }
+
+    @Override
+    public E remove() {
+        E element = poll();
+        if (element == null)
+            throw new NoSuchElementException("Queue is empty, nothing to remove");
+
+        return element;
+    }
+
+    @Override
+    public E poll() {
+        while (true) {
+            Node<E> first = head;
+            Node<E> last = tail;
+            Node<E> next = first.next;
+
+            if (first != head)
+                continue;
+
+            if (first == last) {
+                if (next == null)
+                    return null;
+
+                // The tail is lagging behind, help moving it forward before the head can pass it
+                TAIL.compareAndSet(this, last, next);
+            } else {
+                E item = next.item;
+
+                if (HEAD.compareAndSet(this, first, next)) {
+                    // The next node is now the dummy, so drop its element to not keep it reachable
+                    ITEM.setRelease(next, null);
+                    size.decrement();
+                    return item;
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean isFull() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.max(0, Math.min(size.sum(), Integer.MAX_VALUE));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+
+    @Override
+    public boolean contains(E element) {
+        for (E e : this)
+            if (Objects.equals(e, element)) return true;
+        return false;
+    }
+
+    /// Removes all the elements which are in the queue at the moment of the call. Elements added concurrently may or
+    /// may not be removed
+    @Override
+    public void clear() {
+        while (poll() != null);
+    }
+
+    /// Returns a weakly consistent iterator which goes over the queue from the start to the end (in the removal order)
+    @Override
+    public Iterator<E> iterator() {
+        return new ConcurrentLinkedQueueIterator();
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliteratorUnknownSize(
+            iterator(), Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.CONCURRENT);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        Iterator<E> iterator = iterator();
+
+        while (iterator.hasNext()) {
+            builder.append(iterator.next());
+            if (iterator.hasNext())
+                builder.append(" < ");
+        }
+
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /// The inner `Node` structure which contains the data and a reference to the next node in the list. Both are
+    /// `volatile`, so that a node linked by one thread is fully visible to the others
+    ///
+    /// @param <T> the type of contained data
+    private static class Node<T> {
+        private volatile T item;
+        private volatile Node<T> next;
+
+        /// Constructs a new `Node` with no `next` node
+        public Node(T item) {
+            this.item = item;
+            this.next = null;
+        }
+    }
+
+    /// A weakly consistent iterator which goes over the queue from the start to the end (in the removal order). It
+    /// reads the next element ahead, so `hasNext()` and `next()` always agree, and skips the elements which were removed
+    /// from the queue in the meantime
+    private class ConcurrentLinkedQueueIterator implements Iterator<E> {
+        private Node<E> nextNode;
+        private E nextItem;
+
+        private ConcurrentLinkedQueueIterator() {
+            advance(head);
+        }
+
+        /// Moves to the first node after the given one which still holds an element
+        private void advance(Node<E> node) {
+            Node<E> next = node.next;
+
+            while (next != null) {
+                E item = next.item;
+                if (item != null) {
+                    nextNode = next;
+                    nextItem = item;
+                    return;
+                }
+                next = next.next;
+            }
+
+            nextNode = null;
+            nextItem = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public E next() {
+            if (nextNode == null)
+                throw new NoSuchElementException();
+
+            E item = nextItem;
+            advance(nextNode);
+            return item;
+        }
+    }
+}
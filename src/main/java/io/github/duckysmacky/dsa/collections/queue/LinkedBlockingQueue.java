@@ -0,0 +1,416 @@
+package io.github.duckysmacky.dsa.collections.queue;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/// A thread-safe `BlockingQueue` implementation which has a **dynamic** size, optionally limited by a capacity. It is a
+/// blocking sibling of `LinkedQueue`, based on a `Singly Linked List` which always starts with a dummy node.
+///
+/// The queue uses two locks: producers only take the `putLock` to link a node after the last one, and consumers only
+/// take the `takeLock` to move the start to the next node, so a producer and a consumer never wait for each other. The
+/// size is an atomic counter shared between both sides, which is how each side finds out whether the queue is full or
+/// empty. A thread which makes the queue non-empty (or non-full) wakes up the other side, and a thread which leaves
+/// room for more waiters wakes up the next one of its own side, so most signals don't need the other lock.
+///
+/// The waiting is done with `ReentrantLock` conditions instead of `synchronized` monitors, so a virtual thread which
+/// waits for the queue unmounts from its carrier thread instead of pinning it.
+///
+/// The iterator goes over a snapshot of the queue, which is taken under both locks when the iterator is created, so
+/// it never throws a `ConcurrentModificationException` and doesn't see the later changes.
+///
+/// @param <E> type of elements in the queue
+public class LinkedBlockingQueue<E> implements BlockingQueue<E> {
+    private final int capacity;
+    private final AtomicInteger size;
+    private final ReentrantLock takeLock;
+    private final Condition notEmpty;
+    private final ReentrantLock putLock;
+    private final Condition notFull;
+    /// The dummy node, its `next` node holds the first element. Only changed while holding the `takeLock`
+    private Node<E> start;
+    /// The last node. Only changed while holding the `putLock`
+    private Node<E> end;
+
+    /// Initiate a new empty `Linked Blocking Queue` which is unbounded
+    public LinkedBlockingQueue() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /// Initiate a new empty `Linked Blocking Queue` which can hold at most the specified amount of elements
+    ///
+    /// @throws IllegalArgumentException if the capacity is less than 1
+    public LinkedBlockingQueue(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity cannot be less than 1");
+
+        this.capacity = capacity;
+        this.size = new AtomicInteger();
+        this.takeLock = new ReentrantLock();
+        this.notEmpty = takeLock.newCondition();
+        this.putLock = new ReentrantLock();
+        this.notFull = putLock.newCondition();
+        this.start = new Node<>(null);
+        this.end = start;
+    }
+
+    /// Add (enqueue) an element to the end of the queue without waiting
+    ///
+    /// @throws IllegalStateException if the queue is full
+    /// @throws IllegalArgumentException if the element is `null`
+    @Override
+    public void add(E element) {
+        if (!offer(element))
+            throw new IllegalStateException("Queue is full, cannot add a new element");
+    }
+
+    /// @throws IllegalArgumentException if the element is `null`
+    @Override
+    public boolean offer(E element) {
+        checkElement(element);
+        if (size.get() == capacity)
+            return false;
+
+        int previousSize;
+        putLock.lock();
+        try {
+            if (size.get() == capacity)
+                return false;
+
+            enqueue(element);
+            previousSize = incrementSize();
+        } finally {
+            putLock.unlock();
+        }
+
+        afterEnqueue(previousSize);
+        return true;
+    }
+
+    @Override
+    public boolean offer(E element, long timeout, TimeUnit unit) throws InterruptedException {
+        checkElement(element);
+        long nanos = unit.toNanos(timeout);
+
+        int previousSize;
+        putLock.lockInterruptibly();
+        try {
+            while (size.get() == capacity) {
+                if (nanos <= 0)
+                    return false;
+                nanos = notFull.awaitNanos(nanos);
+            }
+
+            enqueue(element);
+            previousSize = incrementSize();
+        } finally {
+            putLock.unlock();
+        }
+
+        afterEnqueue(previousSize);
+        return true;
+    }
+
+    @Override
+    public void put(E element) throws InterruptedException {
+        checkElement(element);
+
+        int previousSize;
+        putLock.lockInterruptibly();
+        try {
+            while (size.get() == capacity)
+                notFull.await();
+
+            enqueue(element);
+            previousSize = incrementSize();
+        } finally {
+            putLock.unlock();
+        }
+
+        afterEnqueue(previousSize);
+    }
+
+    @Override
+    public E peek() {
+        if (size.get() == 0)
+            return null;
+
+        takeLock.lock();
+        try {
+            Node<E> first = start.next;
+            return first == null ? null : first.data;
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    @Override
+    public E remove() {
+        E element = poll();
+        if (element == null)
+            throw new NoSuchElementException("Queue is empty, nothing to remove");
+
+        return element;
+    }
+
+    @Override
+    public E poll() {
+        if (size.get() == 0)
+            return null;
+
+        E element;
+        int previousSize;
+        takeLock.lock();
+        try {
+            if (size.get() == 0)
+                return null;
+
+            element = dequeue();
+            previousSize = decrementSize();
+        } finally {
+            takeLock.unlock();
+        }
+
+        afterDequeue(previousSize);
+        return element;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+
+        E element;
+        int previousSize;
+        takeLock.lockInterruptibly();
+        try {
+            while (size.get() == 0) {
+                if (nanos <= 0)
+                    return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+
+            element = dequeue();
+            previousSize = decrementSize();
+        } finally {
+            takeLock.unlock();
+        }
+
+        afterDequeue(previousSize);
+        return element;
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        E element;
+        int previousSize;
+        takeLock.lockInterruptibly();
+        try {
+            while (size.get() == 0)
+                notEmpty.await();
+
+            element = dequeue();
+            previousSize = decrementSize();
+        } finally {
+            takeLock.unlock();
+        }
+
+        afterDequeue(previousSize);
+        return element;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity == Integer.MAX_VALUE ? Integer.MAX_VALUE : capacity - size.get();
+    }
+
+    @Override
+    public boolean isFull() {
+        return size.get() == capacity;
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size.get() == 0;
+    }
+
+    @Override
+    public boolean contains(E element) {
+        fullyLock();
+        try {
+            for (Node<E> node = start.next; node != null; node = node.next)
+                if (Objects.equals(node.data, element)) return true;
+            return false;
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        fullyLock();
+        try {
+            start.next = null;
+            end = start;
+
+            if (size.getAndSet(0) == capacity)
+                notFull.signalAll();
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    /// Returns an iterator over a snapshot of the queue, from the start to the end (in the removal order)
+    @Override
+    public Iterator<E> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /// Returns a spliterator over a snapshot of the queue, which splits the snapshot array evenly
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(snapshot(), Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        Object[] elements = snapshot();
+
+        for (int i = 0; i < elements.length; i++) {
+            builder.append(elements[i]);
+
+            if (i < elements.length - 1)
+                builder.append(" < ");
+        }
+
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /// Links a new node after the last one. Must be called while holding the `putLock` on a non-full queue
+    private void enqueue(E element) {
+        Node<E> newNode = new Node<>(element);
+        end.next = newNode;
+        end = newNode;
+    }
+
+    /// Unlinks the first node, which becomes the new dummy node. Must be called while holding the `takeLock` on a
+    /// non-empty queue
+    private E dequeue() {
+        Node<E> dummy = start;
+        Node<E> first = dummy.next;
+        E element = first.data;
+
+        first.data = null;
+        dummy.next = null;
+        start = first;
+        return element;
+    }
+
+    /// Counts an added element and wakes up the next waiting producer if there is still free space. Must be called
+    /// while holding the `putLock`
+    ///
+    /// @return the size of the queue before the element was added
+    private int incrementSize() {
+        int previousSize = size.getAndIncrement();
+        if (previousSize + 1 < capacity)
+            notFull.signal();
+
+        return previousSize;
+    }
+
+    /// Counts a removed element and wakes up the next waiting consumer if there are still elements left. Must be
+    /// called while holding the `takeLock`
+    ///
+    /// @return the size of the queue before the element was removed
+    private int decrementSize() {
+        int previousSize = size.getAndDecrement();
+        if (previousSize > 1)
+            notEmpty.signal();
+
+        return previousSize;
+    }
+
+    /// Wakes up a waiting consumer if the queue was empty before an element was added. Must be called without holding
+    /// the `putLock`
+    private void afterEnqueue(int previousSize) {
+        if (previousSize != 0)
+            return;
+
+        takeLock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    /// Wakes up a waiting producer if the queue was full before an element was removed. Must be called without holding
+    /// the `takeLock`
+    private void afterDequeue(int previousSize) {
+        if (previousSize != capacity)
+            return;
+
+        putLock.lock();
+        try {
+            notFull.signal();
+        } finally {
+            putLock.unlock();
+        }
+    }
+
+    /// Copies the elements of the queue into a new array, in the removal order
+    private Object[] snapshot() {
+        fullyLock();
+        try {
+            Object[] elements = new Object[size.get()];
+            int i = 0;
+            for (Node<E> node = start.next; node != null; node = node.next)
+                elements[i++] = node.data;
+            return elements;
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    /// Takes both locks, so that neither side can change the queue
+    private void fullyLock() {
+        putLock.lock();
+        takeLock.lock();
+    }
+
+    private void fullyUnlock() {
+        takeLock.unlock();
+        putLock.unlock();
+    }
+
+    private static void checkElement(Object element) {
+        if (element == null)
+            throw new IllegalArgumentException("Element cannot be null");
+    }
+
+    /// The inner `Node` structure which contains the data and a reference to the next node in the list
+    ///
+    /// @param <T> the type of contained data
+    private static class Node<T> {
+        private T data;
+        private Node<T> next;
+
+        /// Constructs a new `Node` with no `next` node
+        public Node(T data) {
+            this.data = data;
+            this.next = null;
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package io.github.duckysmacky.dsa.collections.queue;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /// A `Queue` implementation which has a **dynamic** size (capacity). It is based on a `Singly Linked List`, where each
 /// element is connected to the next via nodes, which allows it to grow in size without reallocation
@@ -8,6 +13,7 @@ import java.util.NoSuchElementException;
 /// @param <E> type of elements in the queue
 public class LinkedQueue<E> implements Queue<E> {
     private int size;
+    private int modCount;
     private Node<E> start;
     private Node<E> end;
 
@@ -31,6 +37,7 @@ public class LinkedQueue<E> implements Queue<E> {
             start = newNode;
         }
         size++;
+        modCount++;
     }
 
     @Override
@@ -52,11 +59,15 @@ public class LinkedQueue<E> implements Queue<E> {
         Node<E> removedNode = start;
 
         if (removedNode == null)
-            throw new NoSuchElementException("Stack is empty, nothing to remove");
+            throw new NoSuchElementException("Queue is empty, nothing to remove");
 
         start = start.next;
+        if (start == null)
+            end = null;
+
         removedNode.next = null;
         size--;
+        modCount++;
         return removedNode.data;
     }
 
@@ -67,8 +78,12 @@ public class LinkedQueue<E> implements Queue<E> {
             return null;
 
         start = start.next;
+        if (start == null)
+            end = null;
+
         removedNode.next = null;
         size--;
+        modCount++;
         return removedNode.data;
     }
 
@@ -90,8 +105,8 @@ public class LinkedQueue<E> implements Queue<E> {
     @Override
     public boolean contains(E element) {
         Node<E> currentNode = start;
-        while (currentNode.next != null) {
-            if (currentNode.data.equals(element)) return true;
+        while (currentNode != null) {
+            if (Objects.equals(currentNode.data, element)) return true;
             currentNode = currentNode.next;
         }
         return false;
@@ -102,6 +117,18 @@ public class LinkedQueue<E> implements Queue<E> {
         start = null;
         end = null;
         size = 0;
+        modCount++;
+    }
+
+    /// Returns a fail-fast iterator which goes over the queue from the start to the end (in the removal order)
+    @Override
+    public Iterator<E> iterator() {
+        return new LinkedQueueIterator();
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
     }
 
     @Override
@@ -147,4 +174,29 @@ public class LinkedQueue<E> implements Queue<E> {
             return String.format("{%s -> %s}", data.toString(), next);
         }
     }
+
+    /// A fail-fast iterator which goes over the queue from the start to the end (in the removal order)
+    private class LinkedQueueIterator implements Iterator<E> {
+        private Node<E> nextNode = start;
+        private int remaining = size;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (remaining <= 0)
+                throw new NoSuchElementException();
+
+            E data = nextNode.data;
+            nextNode = nextNode.next;
+            remaining--;
+            return data;
+        }
+    }
 }
@@ -0,0 +1,91 @@
+package io.github.duckysmacky.dsa.collections.queue;
+
+/// A lock-free, bounded multi-producer/single-consumer `Queue` implementation. It is a concurrent sibling of
+/// `ArrayQueue`: a circular buffer of a **fixed** capacity, which can be shared between any amount of producer threads
+/// and exactly one consumer thread without any locking.
+///
+/// The producers claim slots by moving the shared producer index forward with a compare-and-set, and then publish
+/// their elements into the claimed slots with a release store. The consumer frees the slots and moves its own index
+/// forward without any atomic read-modify-write operation. To check for free space, the producers use a cached limit
+/// instead of reading the consumer index every time, so the consumer's cache line is only read when the buffer looks
+/// full. The producer and consumer indices are padded to lie on separate cache lines.
+///
+/// The capacity is rounded up to the next power of two, and `null` elements are not allowed. Any thread may call
+/// `add()`, `offer()` and `offerAll()`, but only the consumer thread may call the other methods, except for `size()`,
+/// `isEmpty()` and `isFull()`, which can be called from any thread, but are only estimates while the buffer is in use.
+///
+/// @param <E> type of elements in the ring buffer
+public class MpscRingBuffer<E> extends AbstractRingBuffer<E> {
+
+    /// Initiate a new `MPSC Ring Buffer` which can fit at least the specified amount of elements
+    ///
+    /// @throws IllegalArgumentException if the capacity is less than 1 or greater than `2^30`
+    public MpscRingBuffer(int capacity) {
+        super(capacity);
+    }
+
+    /// Will try to add (enqueue) an element to the end of the ring buffer. Returns `false` if it is full. Can be
+    /// called by any thread
+    ///
+    /// @throws IllegalArgumentException if the element is `null`
+    @Override
+    public boolean offer(E element) {
+        if (element == null)
+            throw new IllegalArgumentException("Element cannot be null");
+
+        long limit = producerLimit;
+
+        while (true) {
+            long index = producerIndex;
+
+            if (index >= limit) {
+                limit = consumerIndex + capacity;
+                if (index >= limit)
+                    return false;
+
+                producerLimit = limit;
+            }
+
+            if (PRODUCER_INDEX.compareAndSet(this, index, index + 1)) {
+                SLOT.setRelease(buffer, (int) index & mask, element);
+                return true;
+            }
+        }
+    }
+
+    /// Adds as many elements from the range `[from, to)` of the array as there is free space for, in their order. The
+    /// slots for all the elements are claimed with a single compare-and-set, so the elements are never interleaved with
+    /// the elements of the other producers. Can be called by any thread
+    ///
+    /// @throws IllegalArgumentException if any of the added elements is `null`
+    /// @return the amount of added elements
+    @Override
+    public int offerAll(E[] elements, int from, int to) {
+        checkElements(elements, from, to);
+        if (from == to)
+            return 0;
+
+        long limit = producerLimit;
+
+        while (true) {
+            long index = producerIndex;
+
+            if (limit - index < to - from) {
+                limit = consumerIndex + capacity;
+                producerLimit = limit;
+
+                if (index >= limit)
+                    return 0;
+            }
+
+            int count = (int) Math.min(to - from, limit - index);
+
+            if (PRODUCER_INDEX.compareAndSet(this, index, index + count)) {
+                for (int i = 0; i < count; i++)
+                    SLOT.setRelease(buffer, (int) (index + i) & mask, elements[from + i]);
+
+                return count;
+            }
+        }
+    }
+}
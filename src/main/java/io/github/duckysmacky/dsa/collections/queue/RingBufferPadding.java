@@ -0,0 +1,41 @@
+package io.github.duckysmacky.dsa.collections.queue;
+
+/// The padded producer and consumer indices of the ring buffers. The JVM lays out the fields of a superclass before
+/// the fields of its subclasses, so a chain of classes is used to put at least a cache line worth of unused fields
+/// around each index. This keeps the producer and the consumer indices on separate cache lines, so that the writes of
+/// one thread do not invalidate the cache line which the other thread is reading (false sharing).
+final class RingBufferPadding {
+
+    private RingBufferPadding() {}
+
+    @SuppressWarnings("unused")
+    abstract static class HeadPadding {
+        private long p00, p01, p02, p03, p04, p05, p06, p07;
+        private long p10, p11, p12, p13, p14, p15, p16;
+    }
+
+    abstract static class ProducerFields extends HeadPadding {
+        /// The index of the next slot to be claimed by a producer. Only ever grows, the slot is `index & mask`
+        volatile long producerIndex;
+        /// A cached lower bound of `consumerIndex + capacity`, which lets the producers check for free space without
+        /// reading the consumer's cache line on every offer
+        volatile long producerLimit;
+    }
+
+    @SuppressWarnings("unused")
+    abstract static class MiddlePadding extends ProducerFields {
+        private long p00, p01, p02, p03, p04, p05, p06, p07;
+        private long p10, p11, p12, p13, p14, p15, p16;
+    }
+
+    abstract static class ConsumerFields extends MiddlePadding {
+        /// The index of the next slot to be read by the consumer. Only ever grows, the slot is `index & mask`
+        volatile long consumerIndex;
+    }
+
+    @SuppressWarnings("unused")
+    abstract static class TailPadding extends ConsumerFields {
+        private long p00, p01, p02, p03, p04, p05, p06, p07;
+        private long p10, p11, p12, p13, p14, p15, p16;
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.duckysmacky.dsa.collections.queue;
+
+/// A lock-free, bounded single-producer/single-consumer `Queue` implementation. It is a concurrent sibling of
+/// `ArrayQueue`: a circular buffer of a **fixed** capacity, which can be shared between exactly one producer thread
+/// and exactly one consumer thread without any locking.
+///
+/// Since there is only one producer, claiming a slot needs no atomic read-modify-write operation: the producer checks
+/// that its next slot was freed by the consumer, writes the element into it with a release store and moves its own
+/// index forward. The consumer does the same in reverse, so neither thread ever waits for the other. The producer and
+/// consumer indices are padded to lie on separate cache lines.
+///
+/// The capacity is rounded up to the next power of two, and `null` elements are not allowed. Only the producer thread
+/// may call `add()`, `offer()` and `offerAll()`, and only the consumer thread may call the other methods, except for
+/// `size()`, `isEmpty()` and `isFull()`, which can be called from any thread, but are only estimates while the buffer
+/// is in use. Using the ring buffer from more threads silently breaks it; `MpscRingBuffer` supports multiple producers.
+///
+/// @param <E> type of elements in the ring buffer
+public class SpscRingBuffer<E> extends AbstractRingBuffer<E> {
+
+    /// Initiate a new `SPSC Ring Buffer` which can fit at least the specified amount of elements
+    ///
+    /// @throws IllegalArgumentException if the capacity is less than 1 or greater than `2^30`
+    public SpscRingBuffer(int capacity) {
+        super(capacity);
+    }
+
+    /// Will try to add (enqueue) an element to the end of the ring buffer. Returns `false` if it is full. Must only be
+    /// called by the producer thread
+    ///
+    /// @throws IllegalArgumentException if the element is `null`
+    @Override
+    public boolean offer(E element) {
+        if (element == null)
+            throw new IllegalArgumentException("Element cannot be null");
+
+        long index = producerIndex;
+        int slot = (int) index & mask;
+        if (SLOT.getAcquire(buffer, slot) != null)
+            return false;
+
+        SLOT.setRelease(buffer, slot, element);
+        PRODUCER_INDEX.setRelease(this, index + 1);
+        return true;
+    }
+
+    /// Adds as many elements from the range `[from, to)` of the array as there is free space for, in their order. Must
+    /// only be called by the producer thread
+    ///
+    /// @throws IllegalArgumentException if any of the added elements is `null`
+    /// @return the amount of added elements
+    @Override
+    public int offerAll(E[] elements, int from, int to) {
+        checkElements(elements, from, to);
+
+        // The consumer index may lag behind the slots freed by a batch drain, so this may underestimate the free space
+        long index = producerIndex;
+        long free = Math.max(0, consumerIndex + capacity - index);
+        int count = (int) Math.min(to - from, free);
+
+        for (int i = 0; i < count; i++)
+            SLOT.setRelease(buffer, (int) (index + i) & mask, elements[from + i]);
+
+        if (count > 0)
+            PRODUCER_INDEX.setRelease(this, index + count);
+
+        return count;
+    }
+}
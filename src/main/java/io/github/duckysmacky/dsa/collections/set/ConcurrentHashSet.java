@@ -0,0 +1,185 @@
+package io.github.duckysmacky.dsa.collections.set;
+
+import io.github.duckysmacky.dsa.collections.Collection;
+import io.github.duckysmacky.dsa.collections.map.ConcurrentHashMap;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/// A thread-safe `Set` implementation, which can be shared between any amount of threads without external locking.
+/// It is backed by a `ConcurrentHashMap`, where each element is stored as both the key and the value, so the map's
+/// value iterator goes over the elements directly.
+///
+/// This gives the set the same guarantees as the map: `contains()` never blocks, `add()` and `remove()` only lock the
+/// bin of the element (or place it into an empty bin with a single compare-and-set), and once the set gets too full,
+/// its table is doubled bin by bin by all the threads which write to it at the moment, while the other writers keep
+/// working on the bins which have not been moved yet. So no writer is ever stalled on a rehash of the whole set.
+///
+/// Elements cannot be `null`. The size is exact only when the set is not being modified. The iterators are weakly
+/// consistent: they never throw a `ConcurrentModificationException` and may or may not see the changes made during
+/// the iteration. The set operations (`union()`, `intersection()` and so on) are not atomic, they see the set as it is
+/// while they go over it.
+///
+/// @param <E> type of element in hash set
+public class ConcurrentHashSet<E> implements Set<E> {
+    private final ConcurrentHashMap<E, E> map;
+
+    /// Creates an empty `Concurrent Hash Set` with default `capacity` of `16`
+    public ConcurrentHashSet() {
+        this.map = new ConcurrentHashMap<>();
+    }
+
+    /// Creates an empty `Concurrent Hash Set` with specified `capacity`. The capacity is rounded up to the closest
+    /// power of two
+    ///
+    /// @throws IllegalArgumentException if the capacity is less than 1
+    public ConcurrentHashSet(int capacity) {
+        this.map = new ConcurrentHashMap<>(capacity);
+    }
+
+    /// Add a new element to the set. If the element is already present in the set, it won't be added. The check and
+    /// the addition are done atomically
+    ///
+    /// @throws IllegalArgumentException if the element is `null`
+    @Override
+    public void add(E element) {
+        if (element == null)
+            throw new IllegalArgumentException("Element cannot be null");
+
+        map.putIfAbsent(element, element);
+    }
+
+    @Override
+    public void remove(E element) {
+        map.remove(element);
+    }
+
+    /// Checks if the set has the supplied element in it. This never blocks, even while the set is being resized
+    @Override
+    public boolean contains(E element) {
+        return map.containsKey(element);
+    }
+
+    @Override
+    public Set<E> union(Set<E> other) {
+        ConcurrentHashSet<E> union = new ConcurrentHashSet<>(Math.max((size() + other.size()) * 2, 1));
+
+        for (E element : this)
+            union.add(element);
+        for (E element : other)
+            union.add(element);
+
+        return union;
+    }
+
+    @Override
+    public Set<E> intersection(Set<E> other) {
+        ConcurrentHashSet<E> intersection = new ConcurrentHashSet<>();
+
+        for (E element : this)
+            if (other.contains(element)) intersection.add(element);
+
+        return intersection;
+    }
+
+    @Override
+    public Set<E> difference(Set<E> other) {
+        ConcurrentHashSet<E> difference = new ConcurrentHashSet<>();
+
+        for (E element : this)
+            if (!other.contains(element)) difference.add(element);
+
+        return difference;
+    }
+
+    @Override
+    public boolean subset(Set<E> other) {
+        if (size() > other.size())
+            return false;
+
+        for (E element : this)
+            if (!other.contains(element)) return false;
+
+        return true;
+    }
+
+    /// Keep only the elements of the set which are contained in the provided collection, removing all the others. The
+    /// elements are removed while the set is iterated over, without collecting them first. The elements added
+    /// concurrently may or may not be checked
+    ///
+    /// @return whether any element was removed
+    @Override
+    public boolean retainAll(Collection<E> other) {
+        return filter(other, true);
+    }
+
+    /// Remove all the elements of the set which are contained in the provided collection. The elements are removed
+    /// while the set is iterated over, without collecting them first. The elements added concurrently may or may not
+    /// be checked
+    ///
+    /// @return whether any element was removed
+    @Override
+    public boolean removeAll(Collection<E> other) {
+        return filter(other, false);
+    }
+
+    /// Removes the elements for which the result of `other.contains()` is not equal to `keepContained`. The iterator is
+    /// weakly consistent, so the elements can be removed from the map right as it goes over them
+    ///
+    /// @return whether any element was removed
+    private boolean filter(Collection<E> other, boolean keepContained) {
+        boolean removed = false;
+
+        for (E element : this) {
+            if (other.contains(element) != keepContained && map.remove(element) != null)
+                removed = true;
+        }
+
+        return removed;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    /// Removes all the elements from the set, one bin at a time. Elements added concurrently may or may not be removed
+    @Override
+    public void clear() {
+        map.clear();
+    }
+
+    /// Returns a weakly consistent iterator over the set. The order of the elements is not defined
+    @Override
+    public Iterator<E> iterator() {
+        return map.iterator();
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliteratorUnknownSize(
+            iterator(), Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.CONCURRENT);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+
+        for (E element : this) {
+            builder.append(element);
+            builder.append(", ");
+        }
+
+        if (builder.length() > 2)
+            builder.delete(builder.length() - 2, builder.length());
+
+        builder.append("}");
+        return builder.toString();
+    }
+}
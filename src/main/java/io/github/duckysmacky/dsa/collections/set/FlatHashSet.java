@@ -0,0 +1,477 @@
+package io.github.duckysmacky.dsa.collections.set;
+
+import io.github.duckysmacky.dsa.collections.Collection;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/// A `Flat Hash Set` is an implementation of `Set` which, just like `HashSet`, uses Hash Functions in order to assert
+/// indexes for the data, but doesn't place them in linked *buckets*. Instead, all the elements are stored directly in a
+/// single flat array (with their hash codes cached in a parallel array), and if the computed slot is already taken,
+/// the following slots are probed one by one until a free one is found (*open addressing* with *linear probing*).
+///
+/// Compared to `HashSet`, this removes the need to allocate a separate bucket object for each element and to follow
+/// the references between them, which makes it much more memory efficient and friendly to the CPU cache, especially
+/// for big sets. The probing uses the **Robin Hood** strategy and removal uses **backward shift deletion**, the same
+/// way as in `HashMap`, so probe sequences stay short and there are no "deleted" markers (tombstones) left in the
+/// array.
+///
+/// The capacity is always a power of two, so the index is computed with a bit mask instead of a division, and the hash
+/// codes are additionally mixed (*spread*) before that. Elements cannot be `null`.
+///
+/// @param <E> type of element in hash set
+public class FlatHashSet<E> implements Set<E> {
+    private final double loadFactor;
+    private Object[] elements;
+    private int[] hashes;
+    private int mask;
+    private int threshold;
+    private int size;
+    private int modCount;
+
+    /// Creates an empty `Flat Hash Set` with default `capacity` of `16` and `load factor` of `0.75` (`75%`)
+    public FlatHashSet() {
+        this(16, 0.75d);
+    }
+
+    /// Creates an empty `Flat Hash Set` with specified `capacity` and default `load factor` of `0.75` (`75%`). The
+    /// capacity is rounded up to the closest power of two
+    public FlatHashSet(int capacity) {
+        this(capacity, 0.75d);
+    }
+
+    /// Creates an empty `Flat Hash Set` with default `capacity` of `16` and specified `load factor`
+    public FlatHashSet(double loadFactor) {
+        this(16, loadFactor);
+    }
+
+    /// Creates an empty `Flat Hash Set` with specified `capacity` and `load factor`. The capacity is rounded up to the
+    /// closest power of two
+    public FlatHashSet(int capacity, double loadFactor) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity cannot be less than 1");
+        if (loadFactor <= 0 || loadFactor >= 1)
+            throw new IllegalArgumentException("Load factor must be between 0 and 1");
+
+        this.loadFactor = loadFactor;
+        this.size = 0;
+        allocate(tableSizeFor(capacity));
+    }
+
+    /// Returns the smallest power of two which is not less than the provided capacity
+    private static int tableSizeFor(int capacity) {
+        if (capacity >= 1 << 30)
+            return 1 << 30;
+
+        return Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+    }
+
+    /// Spreads the hash code of the element, so that the higher bits also affect the index chosen by the bit mask
+    private static int hash(Object element) {
+        int hash = element.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /// Creates new empty inner arrays of the specified size (which has to be a power of two)
+    private void allocate(int tableSize) {
+        this.elements = new Object[tableSize];
+        this.hashes = new int[tableSize];
+        this.mask = tableSize - 1;
+        // at least one slot always has to stay empty, so that the probing is guaranteed to end
+        this.threshold = Math.min((int) (tableSize * loadFactor), tableSize - 1);
+    }
+
+    /// Returns how far the element in the specified slot is from the slot it would have taken if there were no
+    /// collisions
+    private int probeDistance(int slot) {
+        return (slot - (hashes[slot] & mask)) & mask;
+    }
+
+    /// Searches the array for the provided element. Returns the slot of the element if it was found, else will return
+    /// `-1`
+    private int findSlot(Object element, int hash) {
+        int slot = hash & mask;
+
+        for (int distance = 0; ; distance++) {
+            Object current = elements[slot];
+
+            // a Robin Hood table guarantees that the element would have taken this slot if it was in the set
+            if (current == null || probeDistance(slot) < distance)
+                return -1;
+            if (hashes[slot] == hash && (current == element || current.equals(element)))
+                return slot;
+
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /// Places an element, which is known to be absent from the set, into a free slot. If on its way it meets an element
+    /// which is closer to its own slot, it will take its place and the displaced element will continue the search
+    private void place(Object element, int hash) {
+        int slot = hash & mask;
+        int distance = 0;
+
+        while (elements[slot] != null) {
+            int currentDistance = probeDistance(slot);
+
+            if (currentDistance < distance) {
+                Object displacedElement = elements[slot];
+                int displacedHash = hashes[slot];
+
+                elements[slot] = element;
+                hashes[slot] = hash;
+
+                element = displacedElement;
+                hash = displacedHash;
+                distance = currentDistance;
+            }
+
+            slot = (slot + 1) & mask;
+            distance++;
+        }
+
+        elements[slot] = element;
+        hashes[slot] = hash;
+    }
+
+    /// Reallocates the inner arrays with doubled capacity and places all the elements again. Cached hashes are reused,
+    /// so no `hashCode()` is called during the resize
+    private void resize() {
+        Object[] oldElements = this.elements;
+        int[] oldHashes = this.hashes;
+
+        allocate(oldElements.length * 2);
+
+        for (int i = 0; i < oldElements.length; i++) {
+            if (oldElements[i] != null)
+                place(oldElements[i], oldHashes[i]);
+        }
+    }
+
+    /// Add a new element to the set. If the element is already present in the set, it won't be added
+    ///
+    /// This is a `O(1)` operation on average
+    ///
+    /// @throws IllegalArgumentException if the element is `null`
+    @Override
+    public void add(E element) {
+        if (element == null)
+            throw new IllegalArgumentException("Element cannot be null");
+
+        int hash = hash(element);
+        if (findSlot(element, hash) != -1)
+            return;
+
+        if (size >= threshold)
+            resize();
+
+        place(element, hash);
+        size++;
+        modCount++;
+    }
+
+    /// Removes an element from the set. If the element is not present in the set, nothing will be done. All the
+    /// following elements which are not in their preferred slots are shifted one slot back
+    ///
+    /// This is a `O(1)` operation on average
+    @Override
+    public void remove(E element) {
+        if (element == null)
+            return;
+
+        int slot = findSlot(element, hash(element));
+        if (slot != -1)
+            removeSlot(slot);
+    }
+
+    /// Removes the element in the specified slot. All the following elements which are not in their preferred slots are
+    /// shifted one slot back, so the slot is taken by the next element of the probe sequence (if there is one)
+    private void removeSlot(int slot) {
+        int next = (slot + 1) & mask;
+        while (elements[next] != null && probeDistance(next) > 0) {
+            elements[slot] = elements[next];
+            hashes[slot] = hashes[next];
+
+            slot = next;
+            next = (next + 1) & mask;
+        }
+
+        elements[slot] = null;
+        hashes[slot] = 0;
+        size--;
+        modCount++;
+    }
+
+    /// Checks if the set has the supplied element it in
+    ///
+    /// This is a `O(1)` operation on average
+    @Override
+    public boolean contains(E element) {
+        if (element == null)
+            return false;
+
+        return findSlot(element, hash(element)) != -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Set<E> union(Set<E> other) {
+        FlatHashSet<E> union = new FlatHashSet<>((int) ((size + other.size()) / loadFactor) + 1, loadFactor);
+
+        for (Object element : this.elements)
+            if (element != null) union.add((E) element);
+        for (E element : other)
+            union.add(element);
+
+        return union;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Set<E> intersection(Set<E> other) {
+        FlatHashSet<E> intersection = new FlatHashSet<>(loadFactor);
+
+        for (Object element : this.elements)
+            if (element != null && other.contains((E) element)) intersection.add((E) element);
+
+        return intersection;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Set<E> difference(Set<E> other) {
+        FlatHashSet<E> difference = new FlatHashSet<>(loadFactor);
+
+        for (Object element : this.elements)
+            if (element != null && !other.contains((E) element)) difference.add((E) element);
+
+        return difference;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean subset(Set<E> other) {
+        if (size > other.size())
+            return false;
+
+        for (Object element : this.elements)
+            if (element != null && !other.contains((E) element)) return false;
+
+        return true;
+    }
+
+    /// Keep only the elements of the set which are contained in the provided collection, removing all the others. The
+    /// slots are filtered in place, without creating a new set
+    ///
+    /// This is a `O(n)` operation
+    ///
+    /// @return whether any element was removed
+    @Override
+    public boolean retainAll(Collection<E> other) {
+        return filter(other, true);
+    }
+
+    /// Remove all the elements of the set which are contained in the provided collection. If the collection is smaller
+    /// than the set, its elements are removed one by one, else the slots of the set are filtered in place
+    ///
+    /// This is a `O(min(n, m))` operation when the collection is a set
+    ///
+    /// @return whether any element was removed
+    @Override
+    public boolean removeAll(Collection<E> other) {
+        if (other.size() >= size)
+            return filter(other, false);
+
+        int previousSize = size;
+        for (E element : other)
+            remove(element);
+
+        return size != previousSize;
+    }
+
+    /// Removes the elements for which the result of `other.contains()` is not equal to `keepContained`, going over the
+    /// slots in order. A removal shifts the following elements one slot back, so the same slot is checked again
+    ///
+    /// @return whether any element was removed
+    @SuppressWarnings("unchecked")
+    private boolean filter(Collection<E> other, boolean keepContained) {
+        int previousSize = size;
+
+        for (int slot = 0; slot < elements.length; ) {
+            Object element = elements[slot];
+
+            if (element != null && other.contains((E) element) != keepContained)
+                removeSlot(slot);
+            else
+                slot++;
+        }
+
+        return size != previousSize;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = null;
+            hashes[i] = 0;
+        }
+
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /// Returns a fail-fast iterator which goes over the inner array slot by slot. The order of the elements is not
+    /// defined
+    @Override
+    public Iterator<E> iterator() {
+        return new FlatHashSetIterator();
+    }
+
+    /// Returns a fail-fast spliterator which splits the set by ranges of slots of the inner array
+    @Override
+    public Spliterator<E> spliterator() {
+        return new FlatHashSetSpliterator(0, -1, 0, 0);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+
+        for (Object element : this.elements) {
+            if (element == null) continue;
+
+            builder.append(element);
+            builder.append(", ");
+        }
+
+        if (builder.length() > 2)
+            builder.delete(builder.length() - 2, builder.length());
+
+        builder.append("}");
+        return builder.toString();
+    }
+
+    /// A fail-fast iterator which goes over the inner array in order, skipping the empty slots
+    private class FlatHashSetIterator implements Iterator<E> {
+        private final int expectedModCount = modCount;
+        private int slot = 0;
+
+        @Override
+        public boolean hasNext() {
+            while (slot < elements.length && elements[slot] == null)
+                slot++;
+
+            return slot < elements.length;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            return (E) elements[slot++];
+        }
+    }
+
+    /// A fail-fast spliterator over the range `[index, fence)` of slots. The fence is bound lazily, on the first use.
+    /// The exact size is only known before the first split, after which it is estimated as a half of the parent's
+    private class FlatHashSetSpliterator implements Spliterator<E> {
+        private int index;
+        private int fence;
+        private int estimate;
+        private int expectedModCount;
+
+        private FlatHashSetSpliterator(int origin, int fence, int estimate, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.estimate = estimate;
+            this.expectedModCount = expectedModCount;
+        }
+
+        /// Returns the end of the slot range, initializing it with the current array length on the first use
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                estimate = size;
+                fence = elements.length;
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int high = getFence();
+            int low = index;
+            int middle = (low + high) >>> 1;
+
+            if (low >= middle)
+                return null;
+
+            index = middle;
+            estimate >>>= 1;
+            return new FlatHashSetSpliterator(low, middle, estimate, expectedModCount);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            int high = getFence();
+
+            while (index < high) {
+                Object element = elements[index++];
+                if (element == null) continue;
+
+                action.accept((E) element);
+
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                return true;
+            }
+
+            return false;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            int high = getFence();
+            Object[] elements = FlatHashSet.this.elements;
+
+            for (int i = index; i < high; i++) {
+                if (elements[i] != null)
+                    action.accept((E) elements[i]);
+            }
+            index = high;
+
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize() {
+            getFence();
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return (fence < 0 || estimate == size ? Spliterator.SIZED : 0) | Spliterator.DISTINCT;
+        }
+    }
+}
@@ -1,197 +1,542 @@
 package io.github.duckysmacky.dsa.collections.set;
 
 import io.github.duckysmacky.dsa.collections.Array;
+import io.github.duckysmacky.dsa.collections.Collection;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 
 /// A `Hash Set` is implementation of `Set` which uses Hash Functions in order to assert indexes for the data and places
 /// them in *buckets*. It is really efficient at adding, fetching and removing elements because of that.
 ///
+/// Once the set is filled up to its load factor, the bucket array is doubled and all the elements are rehashed into
+/// it. By default, this is done at once, by the `add()` which crossed the load factor, so that single `add()` is a
+/// `O(n)` operation. In the **incremental resize** mode, the old bucket array is kept alive next to the new one, and
+/// each following `add()` and `remove()` moves only a few of the old buckets into the new array, until the old one is
+/// empty. Lookups check both arrays in the meantime. This spreads the cost of the resize over many operations, so no
+/// single operation pays for the whole rehash.
+///
+/// The hash codes are mixed with a random seed, chosen for each set, before the index of the bucket is computed. This
+/// spreads the poorly distributed hash codes (like the ones of sequential numbers) evenly over the buckets, and makes
+/// it hard to predict which elements will end up in the same bucket. Elements whose hash codes are *equal*
+/// still share a bucket, so once a bucket list gets too long and all of its elements are of the same `Comparable`
+/// class, it is turned into a balanced (AVL) tree ordered by the hash and then by `compareTo()`. This keeps the lookups
+/// `O(log n)` in the worst case, even for the elements crafted to collide. The ordering of such elements has to be
+/// consistent with `equals()`.
+///
 /// @param <E> type of element in hash set
 public class HashSet<E> implements Set<E> {
+    /// The least amount of old buckets moved by each operation during an incremental resize
+    private static final int MIN_MIGRATION_STEP = 4;
+    /// A bucket list which reaches this length is turned into a tree, if its elements can be compared
+    private static final int TREEIFY_THRESHOLD = 8;
+    /// A tree which gets lower than this height (holds at most 3 elements) is turned back into a list
+    private static final int UNTREEIFY_HEIGHT = 3;
+
     private int capacity;
     private double loadFactor;
     private int size;
+    private int modCount;
     private Array<Bucket<E>> buckets;
+    private final boolean incrementalResize;
+    private final int migrationStep;
+    /// The bucket array which is being moved into `buckets` during an incremental resize, or `null` if there is none
+    private Array<Bucket<E>> oldBuckets;
+    private int oldCapacity;
+    /// Old buckets in range `[0, migrationIndex)` have already been moved into the new bucket array
+    private int migrationIndex;
+    /// Random seed which is mixed into every hash code, so that the bucket of an element is hard to predict
+    private final int seed;
 
     /// Creates an empty `Hash Set` with default `capacity` of `10` and `load factor` of `0.75` (`75%`)
     public HashSet() {
-        this.capacity = 10;
-        this.loadFactor = 0.75d;
-        this.size = 0;
-        this.buckets = new Array<>(capacity);
+        this(10, 0.75d, false);
     }
 
     /// Creates an empty `Hash Set` with specified `capacity` and default `load factor` of `0.75` (`75%`)
     public HashSet(int capacity) {
-        this.capacity = capacity;
-        this.loadFactor = 0.75d;
-        this.size = 0;
-        this.buckets = new Array<>(capacity);
+        this(capacity, 0.75d, false);
     }
 
     /// Creates an empty `Hash Set` with default `capacity` of `10` and specified `load factor`
     public HashSet(double loadFactor) {
-        this.capacity = 10;
-        this.loadFactor = loadFactor;
-        this.size = 0;
-        this.buckets = new Array<>(capacity);
+        this(10, loadFactor, false);
     }
 
     /// Creates an empty `Hash Set` with specified `capacity` and `load factor`
     public HashSet(int capacity, double loadFactor) {
+        this(capacity, loadFactor, false);
+    }
+
+    /// Creates an empty `Hash Set` with specified `capacity` and `load factor`, which resizes either at once or
+    /// incrementally, spreading the rehash over the following operations
+    public HashSet(int capacity, double loadFactor, boolean incrementalResize) {
         this.capacity = capacity;
         this.loadFactor = loadFactor;
         this.size = 0;
         this.buckets = new Array<>(capacity);
+        this.incrementalResize = incrementalResize;
+        // the old buckets have to be moved before the set doubles again, which takes `capacity * loadFactor` adds
+        this.migrationStep = Math.max(MIN_MIGRATION_STEP, (int) Math.ceil(1 / loadFactor));
+        this.oldBuckets = null;
+        this.seed = ThreadLocalRandom.current().nextInt();
+    }
+
+    /// Returns whether the set resizes incrementally
+    public boolean isIncrementalResize() {
+        return incrementalResize;
+    }
+
+    /// Returns whether an incremental resize is in progress, meaning that some elements are still in the old buckets
+    public boolean isResizing() {
+        return oldBuckets != null;
+    }
+
+    /// Returns the amount of buckets in the current (newest) bucket array
+    public int capacity() {
+        return capacity;
+    }
+
+    /// Computes an index based on the provided hash and the capacity of a bucket array. The index is never negative,
+    /// even if the hash is
+    private static int getIndex(int hash, int capacity) {
+        return Math.floorMod(hash, capacity);
     }
 
-    /// Computes an index based on the provided hash and own capacity
-    private int getIndex(int hash) {
-        return hash % this.capacity;
+    /// Mixes the hash code of the element with the seed of the set, so that every bit of the hash code affects every
+    /// bit of the result (the finalizer of the MurmurHash3)
+    private int hash(Object element) {
+        int hash = element.hashCode() ^ seed;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        return hash ^ (hash >>> 16);
     }
 
-    /// Inserts a new `element` at the specified `index` in the provided `buckets` array of `Bucket`. Will traverse the
-    /// linked bucket list for each index in order to find a free space and check if the value hasn't been already
-    /// inserted.
+    /// Searches the bucket at the specified `index` of the provided `buckets` array for the element. A tree is searched
+    /// by its order, unless the element is of a different class than the elements in the tree
     ///
-    /// *This is a separate method as it's functionality is being used multiple times*
-    private void insertAtIndex(Array<Bucket<E>> buckets, int index, E element) {
+    /// @return the bucket which holds the element or `null` if there is none
+    private Bucket<E> find(Array<Bucket<E>> buckets, int index, int hash, E element) {
         Bucket<E> bucket = buckets.get(index);
 
-        if (bucket == null) {
-            buckets.set(index, new Bucket<>(element));
-            return;
+        if (bucket instanceof TreeNode<E> root && root.data.getClass() == element.getClass())
+            return TreeNode.find(root, hash, element);
+
+        for (; bucket != null; bucket = bucket.next)
+            if (bucket.hash == hash && bucket.data.equals(element)) return bucket;
+
+        return null;
+    }
+
+    /// Inserts a new `element` at the specified `index` in the provided `buckets` array of `Bucket`. Will search the
+    /// bucket at the index in order to check if the value hasn't been already inserted.
+    ///
+    /// @return whether the element was inserted
+    private boolean insertAtIndex(Array<Bucket<E>> buckets, int index, int hash, E element) {
+        if (find(buckets, index, hash, element) != null)
+            return false;
+
+        place(buckets, index, new Bucket<>(hash, element));
+        return true;
+    }
+
+    /// Places the bucket of an element, which is known to be absent, at the specified `index` of the provided `buckets`
+    /// array. A bucket list which gets too long is turned into a tree, and a tree which can't hold the element (because
+    /// it is of a different class) is turned back into a list
+    private void place(Array<Bucket<E>> buckets, int index, Bucket<E> bucket) {
+        Bucket<E> head = buckets.get(index);
+
+        if (head instanceof TreeNode<E> root) {
+            if (root.data.getClass() == bucket.data.getClass()) {
+                buckets.set(index, TreeNode.insert(root, bucket.hash, bucket.data));
+                return;
+            }
+
+            head = untreeify(root);
         }
 
-        while (bucket.next != null) {
-            if (bucket.data.equals(element)) return;
+        bucket.next = head;
+        buckets.set(index, bucket);
+
+        int length = 0;
+        for (Bucket<E> current = bucket; current != null; current = current.next)
+            length++;
+
+        if (length >= TREEIFY_THRESHOLD)
+            treeify(buckets, index);
+    }
+
+    /// Unlinks the `element` from the bucket at the specified `index` of the provided `buckets` array. A tree which
+    /// gets too small is turned back into a list
+    ///
+    /// @return whether the element was removed
+    private boolean removeAtIndex(Array<Bucket<E>> buckets, int index, int hash, E element) {
+        Bucket<E> head = buckets.get(index);
+
+        if (head instanceof TreeNode<E> root) {
+            if (root.data.getClass() == element.getClass()) {
+                if (TreeNode.find(root, hash, element) == null)
+                    return false;
+
+                TreeNode<E> newRoot = TreeNode.remove(root, hash, element);
+                if (newRoot != null && newRoot.height < UNTREEIFY_HEIGHT)
+                    buckets.set(index, untreeify(newRoot));
+                else
+                    buckets.set(index, newRoot);
+                return true;
+            }
+
+            // a tree only holds the elements of a single class, so an element of any other class can't be in it
+            return false;
+        }
+
+        Bucket<E> previousBucket = null;
+        for (Bucket<E> bucket = head; bucket != null; bucket = bucket.next) {
+            if (bucket.hash != hash || !bucket.data.equals(element)) {
+                previousBucket = bucket;
+                continue;
+            }
+
+            if (previousBucket == null)
+                buckets.set(index, bucket.next);
+            else
+                previousBucket.next = bucket.next;
 
-            bucket = bucket.next;
+            bucket.next = null;
+            return true;
         }
 
-        if (bucket.data.equals(element)) return;
-        bucket.next = new Bucket<>(element);
+        return false;
+    }
+
+    /// Turns the bucket list at the specified `index` into a tree, if all of its elements are of the same `Comparable`
+    /// class
+    private void treeify(Array<Bucket<E>> buckets, int index) {
+        Bucket<E> head = buckets.get(index);
+        Class<?> elementClass = head.data.getClass();
+
+        if (!(head.data instanceof Comparable<?>))
+            return;
+        for (Bucket<E> bucket = head; bucket != null; bucket = bucket.next)
+            if (bucket.data.getClass() != elementClass) return;
+
+        TreeNode<E> root = new TreeNode<>(head.hash, head.data);
+        for (Bucket<E> bucket = head.next; bucket != null; bucket = bucket.next)
+            root = TreeNode.insert(root, bucket.hash, bucket.data);
+
+        buckets.set(index, root);
+    }
+
+    /// Turns the tree into a plain bucket list of the same elements
+    private Bucket<E> untreeify(TreeNode<E> root) {
+        Bucket<E> head = null;
+
+        for (Bucket<E> node = root; node != null; node = node.next) {
+            Bucket<E> bucket = new Bucket<>(node.hash, node.data);
+            bucket.next = head;
+            head = bucket;
+        }
+
+        return head;
     }
 
     /// Checks if the current size is bigger than the allowed capacity (`capacity * loadFactor`) and resizes with
     /// doubled capacity.
     ///
     /// In other terms, if the set is filled up to the load factor, will create a new inner bucket array of
-    /// double the current `capacity`, rehash all the values with new `capacity` in mind and place them in the new
-    /// bucket array
+    /// double the current `capacity` and start moving the elements into it. Unless the set resizes incrementally, all
+    /// the elements are rehashed with new `capacity` in mind and moved right away
     ///
     /// This is so there won't be too many elements in the same bucket making the set operations perform much faster
     /// compared to when you need to iterate over multiple items in the same bucket
     private void checkLoadFactor() {
         if (size < capacity * loadFactor) return;
 
-        int newCapacity = capacity * 2;
-        Array<Bucket<E>> newBuckets = new Array<>(newCapacity);
+        resize(capacity * 2);
+    }
+
+    /// Creates a new inner bucket array of the specified capacity and starts moving the elements into it
+    private void resize(int newCapacity) {
+        // the previous resize has to be finished first, as only two bucket arrays can be alive at a time
+        if (oldBuckets != null)
+            migrate(oldCapacity);
+
+        this.oldBuckets = this.buckets;
+        this.oldCapacity = this.capacity;
+        this.migrationIndex = 0;
+        this.capacity = newCapacity;
+        this.buckets = new Array<>(capacity);
+
+        migrate(incrementalResize ? migrationStep : oldCapacity);
+    }
 
-        for (int i = 0; i < this.capacity; i++) {
-            Bucket<E> originalBucket = buckets.get(i);
+    /// Returns the capacity at which the specified amount of elements fits without crossing the load factor
+    private int capacityFor(int expectedSize) {
+        return (int) Math.min(Integer.MAX_VALUE - 8, (long) (expectedSize / loadFactor) + 1);
+    }
 
-            if (originalBucket == null) continue;
+    /// Creates a new empty set with the same settings, which can hold the specified amount of elements without resizing
+    private HashSet<E> newPresizedSet(int expectedSize) {
+        return new HashSet<>(capacityFor(expectedSize), loadFactor, incrementalResize);
+    }
 
-            while (originalBucket.next != null) {
-                int newIndex = getIndex(originalBucket.data.hashCode());
-                insertAtIndex(newBuckets, newIndex, originalBucket.data);
+    /// Adds an element which is known to be absent from the set, skipping the search for a duplicate
+    private void addAbsent(E element) {
+        int hash = hash(element);
+        place(buckets, getIndex(hash, capacity), new Bucket<>(hash, element));
+
+        this.size++;
+        this.modCount++;
+        checkLoadFactor();
+    }
 
-                originalBucket = originalBucket.next;
+    /// Removes the elements of the bucket at the specified index for which the result of `other.contains()` is not
+    /// equal to `keepContained`. The kept elements are placed back into the emptied bucket
+    ///
+    /// @return amount of removed elements
+    private int filterBucket(int index, Collection<E> other, boolean keepContained) {
+        Bucket<E> kept = null;
+        int removed = 0;
+
+        for (Bucket<E> bucket = buckets.get(index); bucket != null; bucket = bucket.next) {
+            if (other.contains(bucket.data) != keepContained) {
+                removed++;
+                continue;
             }
 
-            int newIndex = getIndex(originalBucket.data.hashCode());
-            insertAtIndex(newBuckets, newIndex, originalBucket.data);
+            Bucket<E> copy = new Bucket<>(bucket.hash, bucket.data);
+            copy.next = kept;
+            kept = copy;
         }
 
-        this.capacity = newCapacity;
-        this.buckets = newBuckets;
+        if (removed == 0)
+            return 0;
+
+        buckets.set(index, null);
+        while (kept != null) {
+            Bucket<E> next = kept.next;
+            place(buckets, index, kept);
+            kept = next;
+        }
+
+        return removed;
+    }
+
+    /// Removes the elements for which the result of `other.contains()` is not equal to `keepContained`, going over
+    /// every bucket. Any resize in progress is finished first, since every element is visited anyway
+    ///
+    /// @return whether any element was removed
+    private boolean filter(Collection<E> other, boolean keepContained) {
+        if (oldBuckets != null)
+            migrate(oldCapacity);
+
+        int removed = 0;
+        for (int i = 0; i < capacity; i++)
+            removed += filterBucket(i, other, keepContained);
+
+        if (removed == 0)
+            return false;
+
+        this.size -= removed;
+        this.modCount++;
+        return true;
+    }
+
+    /// Moves the specified amount of the old buckets into the new bucket array. The bucket objects of the lists are
+    /// relinked instead of being copied, and their cached hashes are reused. Once the last old bucket is moved, the old
+    /// bucket array is dropped
+    private void migrate(int bucketCount) {
+        int end = Math.min(oldCapacity, migrationIndex + bucketCount);
+
+        for (; migrationIndex < end; migrationIndex++) {
+            Bucket<E> bucket = oldBuckets.get(migrationIndex);
+            oldBuckets.set(migrationIndex, null);
+            // the nodes of a tree can't be relinked into the new buckets, as they would keep their tree links
+            if (bucket instanceof TreeNode<E> root)
+                bucket = untreeify(root);
+
+            while (bucket != null) {
+                Bucket<E> next = bucket.next;
+                place(buckets, getIndex(bucket.hash, capacity), bucket);
+                bucket = next;
+            }
+        }
+
+        this.modCount++;
+        if (migrationIndex == oldCapacity) {
+            this.oldBuckets = null;
+            this.oldCapacity = 0;
+            this.migrationIndex = 0;
+        }
+    }
+
+    /// Returns the amount of bucket positions in both bucket arrays
+    private int bucketCount() {
+        return oldBuckets == null ? capacity : oldCapacity + capacity;
+    }
+
+    /// Returns the bucket at the specified position, where the positions of the old bucket array (if there is one)
+    /// come before the positions of the new one
+    private Bucket<E> bucketAt(int position) {
+        if (oldBuckets == null)
+            return buckets.get(position);
+
+        return position < oldCapacity ? oldBuckets.get(position) : buckets.get(position - oldCapacity);
     }
 
     @Override
     public void add(E element) {
-        int index = getIndex(element.hashCode());
-        insertAtIndex(this.buckets, index, element);
+        if (oldBuckets != null)
+            migrate(migrationStep);
+
+        int hash = hash(element);
+        // the old buckets which were already moved are empty, so a lookup there only finds the elements yet to move
+        if (oldBuckets != null && find(oldBuckets, getIndex(hash, oldCapacity), hash, element) != null)
+            return;
+        if (!insertAtIndex(this.buckets, getIndex(hash, capacity), hash, element))
+            return;
 
         this.size++;
+        this.modCount++;
         checkLoadFactor();
     }
 
     @Override
     public void remove(E element) {
-        int index = getIndex(element.hashCode());
-        Bucket<E> bucket = buckets.get(index);
+        if (oldBuckets != null)
+            migrate(migrationStep);
 
-        if (bucket == null) return;
+        int hash = hash(element);
+        boolean removed = removeAtIndex(this.buckets, getIndex(hash, capacity), hash, element)
+            || oldBuckets != null && removeAtIndex(oldBuckets, getIndex(hash, oldCapacity), hash, element);
 
-        if (bucket.data.equals(element)) {
-            if (bucket.next != null) {
-                buckets.set(index, bucket.next);
-            } else {
-                buckets.set(index, null);
-            }
-            this.size--;
-            return;
-        }
-
-        Bucket<E> previousBucket = bucket;
-        bucket = bucket.next;
-        while (bucket.next != null) {
-            if (bucket.data.equals(element)) {
-                previousBucket.next = bucket.next;
-                bucket.next = null;
-                this.size--;
-                return;
-            }
-
-            previousBucket = bucket;
-            bucket = bucket.next;
-        }
-
-        if (bucket.data.equals(element)) {
-            previousBucket.next = null;
+        if (removed) {
             this.size--;
+            this.modCount++;
         }
     }
 
     @Override
     public boolean contains(E element) {
-        int index = getIndex(element.hashCode());
-        Bucket<E> bucket = buckets.get(index);
-
-        if (bucket == null) return false;
+        int hash = hash(element);
 
-        while (bucket.next != null) {
-            if (bucket.data.equals(element)) return true;
+        if (find(buckets, getIndex(hash, capacity), hash, element) != null)
+            return true;
 
-            bucket = bucket.next;
-        }
-        if (bucket.data.equals(element)) return true;
-
-        return false;
+        return oldBuckets != null && find(oldBuckets, getIndex(hash, oldCapacity), hash, element) != null;
     }
 
+    /// Returns a new set with the elements of both sets. The result is sized for both sets up front, so it never
+    /// resizes, and the elements of this set are added without searching for duplicates
+    ///
+    /// This is a `O(n + m)` operation
     @Override
     public Set<E> union(Set<E> other) {
-        // TODO
-        return null;
+        HashSet<E> union = newPresizedSet(size + other.size());
+
+        for (E element : this)
+            union.addAbsent(element);
+        for (E element : other)
+            union.add(element);
+
+        return union;
     }
 
+    /// Returns a new set with the elements which are in both sets. Goes over the smaller set and searches the larger
+    /// one, and the result is sized for the smaller set up front
+    ///
+    /// This is a `O(min(n, m))` operation
     @Override
     public Set<E> intersection(Set<E> other) {
-        // TODO
-        return null;
+        Set<E> smaller = size <= other.size() ? this : other;
+        Set<E> larger = smaller == this ? other : this;
+        HashSet<E> intersection = newPresizedSet(smaller.size());
+
+        for (E element : smaller)
+            if (larger.contains(element)) intersection.addAbsent(element);
+
+        return intersection;
     }
 
+    /// Returns a new set with the elements of this set which are not in the other set. The result is sized for this set
+    /// up front
+    ///
+    /// This is a `O(n)` operation
     @Override
     public Set<E> difference(Set<E> other) {
-        // TODO
-        return null;
+        HashSet<E> difference = newPresizedSet(size);
+
+        for (E element : this)
+            if (!other.contains(element)) difference.addAbsent(element);
+
+        return difference;
     }
 
+    /// Checks if all the elements of this set are in the other set. A set which is larger than the other one can't be
+    /// its subset, so it is rejected without searching
+    ///
+    /// This is a `O(n)` operation
     @Override
     public boolean subset(Set<E> other) {
-        // TODO
-        return false;
+        if (size > other.size())
+            return false;
+
+        for (E element : this)
+            if (!other.contains(element)) return false;
+
+        return true;
+    }
+
+    /// Add all the elements of the provided collection to the set. The set is grown to fit all of them at once, instead
+    /// of doubling several times on the way. It grows at least twice, so that many small additions to a full set still
+    /// resize it only a logarithmic amount of times. An incremental resize which is still in progress is not forced to
+    /// finish, the set is left to grow on its own instead
+    @Override
+    public void addAll(Collection<? extends E> elements) {
+        if (elements == this)
+            return;
+
+        int expectedCapacity = capacityFor(size + elements.size());
+        if (expectedCapacity > capacity && oldBuckets == null)
+            resize(Math.max(expectedCapacity, capacity * 2));
+
+        for (E element : elements)
+            add(element);
+    }
+
+    /// Keep only the elements of the set which are contained in the provided collection, removing all the others. The
+    /// buckets are filtered in place, without creating a new set
+    ///
+    /// This is a `O(n)` operation
+    ///
+    /// @return whether any element was removed
+    @Override
+    public boolean retainAll(Collection<E> other) {
+        return filter(other, true);
+    }
+
+    /// Remove all the elements of the set which are contained in the provided collection. If the collection is smaller
+    /// than the set, its elements are removed one by one, else the buckets of the set are filtered in place
+    ///
+    /// This is a `O(min(n, m))` operation when the collection is a set
+    ///
+    /// @return whether any element was removed
+    @Override
+    public boolean removeAll(Collection<E> other) {
+        if (other.size() >= size)
+            return filter(other, false);
+
+        int previousSize = size;
+        for (E element : other)
+            remove(element);
+
+        return size != previousSize;
     }
 
     @Override
@@ -201,38 +546,39 @@ public class HashSet<E> implements Set<E> {
 
     @Override
     public boolean isEmpty() {
-        for (int i = 0; i < this.capacity; i++) {
-            if (buckets.get(i) != null) return false;
-        }
-        return true;
+        return this.size == 0;
     }
 
     @Override
     public void clear() {
-        for (int i = 0; i < this.capacity; i++) {
-            Bucket<E> bucket = buckets.get(i);
+        buckets.clear();
+        this.oldBuckets = null;
+        this.oldCapacity = 0;
+        this.migrationIndex = 0;
 
-            if (bucket == null) continue;
-            if (bucket.next == null) {
-                buckets.set(i, null);
-            }
+        this.size = 0;
+        this.modCount++;
+    }
 
-            Bucket<E> previousBucket;
-            while (bucket.next != null) {
-                previousBucket = bucket;
-                bucket = bucket.next;
-                previousBucket.next = null;
-            }
-            buckets.set(i, null);
-        }
+    /// Returns a fail-fast iterator which goes over the set bucket by bucket. The order of the elements is not defined
+    @Override
+    public Iterator<E> iterator() {
+        return new HashSetIterator();
+    }
+
+    /// Returns a fail-fast spliterator which splits the set by ranges of buckets, so that the parallel streams over the
+    /// set can process different parts of the bucket array on different threads
+    @Override
+    public Spliterator<E> spliterator() {
+        return new HashSetSpliterator(0, -1, 0, 0);
     }
 
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder("{");
 
-        for (int i = 0; i < this.capacity; i++) {
-            Bucket<E> bucket = buckets.get(i);
+        for (int i = 0; i < bucketCount(); i++) {
+            Bucket<E> bucket = bucketAt(i);
 
             if (bucket == null) continue;
 
@@ -257,8 +603,8 @@ public class HashSet<E> implements Set<E> {
     public String toStringDebug() {
         StringBuilder builder = new StringBuilder("{");
 
-        for (int i = 0; i < this.capacity; i++) {
-            Bucket<E> bucket = buckets.get(i);
+        for (int i = 0; i < bucketCount(); i++) {
+            Bucket<E> bucket = bucketAt(i);
 
             if (bucket == null) continue;
             builder.append("(");
@@ -290,10 +636,14 @@ public class HashSet<E> implements Set<E> {
     ///
     /// @param <T> type of element in a bucket
     private static class Bucket<T> {
-        private T data;
-        private Bucket<T> next;
-
-        public Bucket(T data) {
+        // not private, so that they are also accessible through the tree nodes
+        T data;
+        /// Mixed hash code of the data, cached so that it doesn't have to be recomputed on lookups and resizes
+        int hash;
+        Bucket<T> next;
+
+        public Bucket(int hash, T data) {
+            this.hash = hash;
             this.data = data;
         }
 
@@ -303,4 +653,329 @@ public class HashSet<E> implements Set<E> {
             return String.format("{%s -> %s}", data.toString(), next);
         }
     }
+
+    /// A `Tree Node` is a bucket of a list which was turned into a balanced (AVL) tree, ordered by the hash and then by
+    /// `compareTo()`. The nodes of the tree are still linked with each other as a bucket list, with the root always
+    /// being the first bucket of the list, so the iteration goes over a tree the same way as over a list. Therefore,
+    /// the list is doubly linked, so that a node can be moved or unlinked without searching for its previous node
+    ///
+    /// @param <T> type of element in a bucket
+    private static final class TreeNode<T> extends Bucket<T> {
+        private TreeNode<T> left;
+        private TreeNode<T> right;
+        private TreeNode<T> previous;
+        private int height;
+
+        public TreeNode(int hash, T data) {
+            super(hash, data);
+            this.height = 1;
+        }
+
+        /// Compares the element with the element of the node, by the hash and then by the natural order
+        @SuppressWarnings("unchecked")
+        private static <T> int compare(int hash, T data, TreeNode<T> node) {
+            if (hash != node.hash)
+                return Integer.compare(hash, node.hash);
+
+            return ((Comparable<Object>) data).compareTo(node.data);
+        }
+
+        /// Searches the tree for the node of the element
+        ///
+        /// This is a `O(log n)` operation
+        private static <T> TreeNode<T> find(TreeNode<T> root, int hash, T data) {
+            TreeNode<T> node = root;
+
+            while (node != null) {
+                int comparison = compare(hash, data, node);
+                if (comparison == 0)
+                    return node;
+
+                node = comparison < 0 ? node.left : node.right;
+            }
+
+            return null;
+        }
+
+        /// Inserts a new node of the element, which is known to be absent, into the tree
+        ///
+        /// This is a `O(log n)` operation
+        ///
+        /// @return the new root, which is the first node of the list
+        private static <T> TreeNode<T> insert(TreeNode<T> root, int hash, T data) {
+            TreeNode<T> node = new TreeNode<>(hash, data);
+
+            node.next = root.next;
+            node.previous = root;
+            if (root.next != null)
+                ((TreeNode<T>) root.next).previous = node;
+            root.next = node;
+
+            return moveToFront(root, insertInto(root, node));
+        }
+
+        /// Removes the node of the element, which is known to be present, from the tree
+        ///
+        /// This is a `O(log n)` operation
+        ///
+        /// @return the new root, which is the first node of the list, or `null` if the tree became empty
+        private static <T> TreeNode<T> remove(TreeNode<T> root, int hash, T data) {
+            TreeNode<T> target = find(root, hash, data);
+            // a node with two children takes the element of its successor, whose node is removed instead
+            TreeNode<T> removed = target.left != null && target.right != null ? leftmost(target.right) : target;
+            TreeNode<T> first = removed == root ? (TreeNode<T>) root.next : root;
+
+            TreeNode<T> newRoot = removeFrom(root, hash, data);
+            unlink(removed);
+
+            return newRoot == null ? null : moveToFront(first, newRoot);
+        }
+
+        private static <T> TreeNode<T> insertInto(TreeNode<T> node, TreeNode<T> inserted) {
+            if (node == null)
+                return inserted;
+
+            if (compare(inserted.hash, inserted.data, node) < 0)
+                node.left = insertInto(node.left, inserted);
+            else
+                node.right = insertInto(node.right, inserted);
+
+            return rebalance(node);
+        }
+
+        private static <T> TreeNode<T> removeFrom(TreeNode<T> node, int hash, T data) {
+            int comparison = compare(hash, data, node);
+
+            if (comparison < 0) {
+                node.left = removeFrom(node.left, hash, data);
+            } else if (comparison > 0) {
+                node.right = removeFrom(node.right, hash, data);
+            } else if (node.left == null || node.right == null) {
+                return node.left != null ? node.left : node.right;
+            } else {
+                TreeNode<T> successor = leftmost(node.right);
+                node.hash = successor.hash;
+                node.data = successor.data;
+                node.right = removeLeftmost(node.right);
+            }
+
+            return rebalance(node);
+        }
+
+        private static <T> TreeNode<T> removeLeftmost(TreeNode<T> node) {
+            if (node.left == null)
+                return node.right;
+
+            node.left = removeLeftmost(node.left);
+            return rebalance(node);
+        }
+
+        private static <T> TreeNode<T> leftmost(TreeNode<T> node) {
+            while (node.left != null)
+                node = node.left;
+
+            return node;
+        }
+
+        /// Unlinks the node from the list
+        private static <T> void unlink(TreeNode<T> node) {
+            if (node.previous != null)
+                node.previous.next = node.next;
+            if (node.next != null)
+                ((TreeNode<T>) node.next).previous = node.previous;
+
+            node.previous = null;
+            node.next = null;
+        }
+
+        /// Moves the node to the front of the list, which starts with the provided first node
+        private static <T> TreeNode<T> moveToFront(TreeNode<T> first, TreeNode<T> node) {
+            if (node == first)
+                return node;
+
+            unlink(node);
+            node.next = first;
+            first.previous = node;
+            return node;
+        }
+
+        private static int height(TreeNode<?> node) {
+            return node == null ? 0 : node.height;
+        }
+
+        private static <T> TreeNode<T> rotateLeft(TreeNode<T> node) {
+            TreeNode<T> right = node.right;
+            node.right = right.left;
+            right.left = node;
+
+            node.height = 1 + Math.max(height(node.left), height(node.right));
+            right.height = 1 + Math.max(height(right.left), height(right.right));
+            return right;
+        }
+
+        private static <T> TreeNode<T> rotateRight(TreeNode<T> node) {
+            TreeNode<T> left = node.left;
+            node.left = left.right;
+            left.right = node;
+
+            node.height = 1 + Math.max(height(node.left), height(node.right));
+            left.height = 1 + Math.max(height(left.left), height(left.right));
+            return left;
+        }
+
+        /// Updates the height of the node and rotates the subtree if one of its sides got two levels higher than the
+        /// other
+        ///
+        /// @return the new root of the subtree
+        private static <T> TreeNode<T> rebalance(TreeNode<T> node) {
+            node.height = 1 + Math.max(height(node.left), height(node.right));
+            int balance = height(node.left) - height(node.right);
+
+            if (balance > 1) {
+                if (height(node.left.left) < height(node.left.right))
+                    node.left = rotateLeft(node.left);
+                return rotateRight(node);
+            }
+
+            if (balance < -1) {
+                if (height(node.right.right) < height(node.right.left))
+                    node.right = rotateRight(node.right);
+                return rotateLeft(node);
+            }
+
+            return node;
+        }
+    }
+
+    /// A fail-fast iterator which goes over the buckets in order, visiting each element linked in the bucket
+    private class HashSetIterator implements Iterator<E> {
+        private final int expectedModCount = modCount;
+        private int bucketIndex = 0;
+        private Bucket<E> nextBucket;
+
+        private HashSetIterator() {
+            findNext(null);
+        }
+
+        /// Moves to the provided bucket, or to the first bucket of the following indexes if it is `null`
+        private void findNext(Bucket<E> bucket) {
+            nextBucket = bucket;
+
+            while (nextBucket == null && bucketIndex < bucketCount())
+                nextBucket = bucketAt(bucketIndex++);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextBucket != null;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (nextBucket == null)
+                throw new NoSuchElementException();
+
+            E data = nextBucket.data;
+            findNext(nextBucket.next);
+            return data;
+        }
+    }
+
+    /// A fail-fast spliterator over the range `[index, fence)` of bucket positions. The fence is bound lazily, on the
+    /// first use. The exact size is only known before the first split, after which it is estimated as a half of the
+    /// parent's
+    private class HashSetSpliterator implements Spliterator<E> {
+        private int index;
+        private int fence;
+        private int estimate;
+        private int expectedModCount;
+        private Bucket<E> current;
+
+        private HashSetSpliterator(int origin, int fence, int estimate, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.estimate = estimate;
+            this.expectedModCount = expectedModCount;
+        }
+
+        /// Returns the end of the bucket range, initializing it with the current amount of bucket positions on the
+        /// first use
+        private int getFence() {
+            if (fence < 0) {
+                expectedModCount = modCount;
+                estimate = size;
+                fence = bucketCount();
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int high = getFence();
+            int low = index;
+            int middle = (low + high) >>> 1;
+
+            if (low >= middle || current != null)
+                return null;
+
+            index = middle;
+            estimate >>>= 1;
+            return new HashSetSpliterator(low, middle, estimate, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            int high = getFence();
+
+            while (current != null || index < high) {
+                if (current == null) {
+                    current = bucketAt(index++);
+                    continue;
+                }
+
+                E element = current.data;
+                current = current.next;
+                action.accept(element);
+
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            int high = getFence();
+            Bucket<E> bucket = current;
+            current = null;
+
+            while (bucket != null || index < high) {
+                if (bucket == null) {
+                    bucket = bucketAt(index++);
+                    continue;
+                }
+
+                action.accept(bucket.data);
+                bucket = bucket.next;
+            }
+
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize() {
+            getFence();
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return (fence < 0 || estimate == size ? Spliterator.SIZED : 0) | Spliterator.DISTINCT;
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package io.github.duckysmacky.dsa.collections.set;
 
 import io.github.duckysmacky.dsa.collections.Collection;
+import io.github.duckysmacky.dsa.collections.list.ArrayList;
 
 /// A set is a data structure which contains only unique elements.
 ///
@@ -31,4 +32,37 @@ public interface Set<E> extends Collection<E> {
     ///
     /// @return whether the original set is a subset of the other set
     boolean subset(Set<E> other);
+    /// Add all the elements of the provided collection to the set, which is the in-place version of `union()`
+    default void addAll(Collection<? extends E> elements) {
+        for (E element : elements)
+            add(element);
+    }
+    /// Keep only the elements of the set which are contained in the provided collection, removing all the others. This
+    /// is the in-place version of `intersection()`
+    ///
+    /// @return whether any element was removed
+    default boolean retainAll(Collection<E> other) {
+        ArrayList<E> removed = new ArrayList<>();
+
+        for (E element : this)
+            if (!other.contains(element)) removed.add(element);
+        for (E element : removed)
+            remove(element);
+
+        return !removed.isEmpty();
+    }
+    /// Remove all the elements of the set which are contained in the provided collection. This is the in-place version
+    /// of `difference()`
+    ///
+    /// @return whether any element was removed
+    default boolean removeAll(Collection<E> other) {
+        ArrayList<E> removed = new ArrayList<>();
+
+        for (E element : this)
+            if (other.contains(element)) removed.add(element);
+        for (E element : removed)
+            remove(element);
+
+        return !removed.isEmpty();
+    }
 }
@@ -1,41 +1,137 @@
 package io.github.duckysmacky.dsa.collections.stack;
 
+import io.github.duckysmacky.dsa.collections.list.GrowthPolicy;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
-/// A `Stack` implementation which has a **fixed** size (capacity). It is based on array and cannot grow in size
+/// A `Stack` implementation based on array. By default, it has a **fixed** size (capacity) and cannot grow in size.
+///
+/// If created with a `GrowthPolicy`, the stack is **growable** instead: once it runs out of space, the inner array is
+/// reallocated according to the policy, so pushing never fails. A growable stack can also shrink back once it is
+/// mostly drained, if a shrink threshold is set with `setShrinkThreshold()`.
 ///
 /// @param <E> type of elements in the stack
 public class ArrayStack<E> implements Stack<E> {
-    private final Object[] innerArray;
-    private final int capacity;
+    private final int initialCapacity;
+    private final GrowthPolicy growthPolicy;
+    private Object[] innerArray;
+    private int capacity;
     private int size;
+    private int modCount;
     private int top;
+    private double shrinkThreshold;
 
-    /// Initiate a new `Array Stack` of specified capacity
+    /// Initiate a new `Array Stack` of specified fixed capacity
     public ArrayStack(int capacity) {
+        this.initialCapacity = capacity;
+        this.growthPolicy = null;
+        this.innerArray = new Object[capacity];
+        this.capacity = capacity;
+        this.size = 0;
+        this.top = -1;
+        this.shrinkThreshold = 0;
+    }
+
+    /// Initiate a new growable `Array Stack` of specified starting capacity, which grows according to the provided
+    /// policy
+    ///
+    /// @throws IllegalArgumentException if the capacity is less than 1 or the policy is `null`
+    public ArrayStack(int capacity, GrowthPolicy growthPolicy) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity cannot be less than 1");
+        if (growthPolicy == null)
+            throw new IllegalArgumentException("Growth policy cannot be null");
+
+        this.initialCapacity = capacity;
+        this.growthPolicy = growthPolicy;
         this.innerArray = new Object[capacity];
         this.capacity = capacity;
         this.size = 0;
         this.top = -1;
+        this.shrinkThreshold = 0;
+    }
+
+    /// Returns whether the stack grows once it runs out of space, instead of rejecting new elements
+    public boolean isGrowable() {
+        return growthPolicy != null;
+    }
+
+    /// Returns the current capacity of the stack, which is the amount of elements it can fit without growing
+    public int capacity() {
+        return capacity;
+    }
+
+    /// Sets the threshold for automatic shrinking of a growable stack. Once the stack is filled by less than the given
+    /// fraction of its capacity after a removal, the inner array is reallocated to twice the size of the stack (but
+    /// never below the starting capacity). A threshold of `0` disables the shrinking, which is the default
+    ///
+    /// @throws IllegalStateException if the stack is not growable
+    /// @throws IllegalArgumentException if the threshold is not within `[0, 0.5)`
+    public void setShrinkThreshold(double shrinkThreshold) {
+        if (growthPolicy == null)
+            throw new IllegalStateException("Only a growable stack can shrink");
+        if (!(shrinkThreshold >= 0 && shrinkThreshold < 0.5))
+            throw new IllegalArgumentException("Shrink threshold must be within [0, 0.5)");
+
+        this.shrinkThreshold = shrinkThreshold;
+        shrinkIfSparse();
+    }
+
+    /// Reallocate the inner array so that it can fit at least one more element. The new capacity is given by the
+    /// growth policy
+    private void grow() {
+        int minCapacity = capacity + 1;
+        if (minCapacity < 0)
+            throw new OutOfMemoryError("Required array size is too large");
+
+        reallocate(Math.max(growthPolicy.grow(capacity, minCapacity), minCapacity));
+    }
+
+    /// Shrinks the inner array if the stack is filled by less than the shrink threshold
+    private void shrinkIfSparse() {
+        if (capacity <= initialCapacity || size >= capacity * shrinkThreshold)
+            return;
+
+        reallocate(Math.max(size * 2, initialCapacity));
+    }
+
+    /// Moves the elements into a new inner array of the given capacity with a single copy
+    private void reallocate(int newCapacity) {
+        innerArray = Arrays.copyOf(innerArray, newCapacity);
+        capacity = newCapacity;
     }
 
     @Override
     public void push(E element) {
-        if (size >= capacity)
-            throw new IllegalStateException("Stack is full, cannot add a new element");
+        if (size >= capacity) {
+            if (growthPolicy == null)
+                throw new IllegalStateException("Stack is full, cannot add a new element");
+            grow();
+        }
 
         top++;
         size++;
+        modCount++;
         innerArray[top] = element;
     }
 
     @Override
     public boolean offer(E element) {
-        if (size >= capacity)
-            return false;
+        if (size >= capacity) {
+            if (growthPolicy == null)
+                return false;
+            grow();
+        }
 
         top++;
         size++;
+        modCount++;
         innerArray[top] = element;
         return true;
     }
@@ -53,8 +149,11 @@ public class ArrayStack<E> implements Stack<E> {
             throw new NoSuchElementException("Stack is empty, nothing to remove");
 
         E removedElement = (E) innerArray[top];
+        innerArray[top] = null;
         top--;
         size--;
+        modCount++;
+        shrinkIfSparse();
         return removedElement;
     }
 
@@ -64,14 +163,17 @@ public class ArrayStack<E> implements Stack<E> {
             return null;
 
         E removedElement = (E) innerArray[top];
+        innerArray[top] = null;
         top--;
         size--;
+        modCount++;
+        shrinkIfSparse();
         return removedElement;
     }
 
     @Override
     public boolean isFull() {
-        return size == capacity;
+        return growthPolicy == null && size == capacity;
     }
 
     @Override
@@ -86,15 +188,29 @@ public class ArrayStack<E> implements Stack<E> {
 
     @Override
     public boolean contains(E element) {
-        for (Object e : innerArray)
-            if (e.equals(element)) return true;
+        for (int i = 0; i < size; i++)
+            if (Objects.equals(innerArray[i], element)) return true;
         return false;
     }
 
     @Override
     public void clear() {
+        Arrays.fill(innerArray, 0, size, null);
         top = -1;
         size = 0;
+        modCount++;
+        shrinkIfSparse();
+    }
+
+    /// Returns a fail-fast iterator which goes over the stack from the top to the bottom (in the removal order)
+    @Override
+    public Iterator<E> iterator() {
+        return new ArrayStackIterator();
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
     }
 
     @Override
@@ -113,4 +229,26 @@ public class ArrayStack<E> implements Stack<E> {
         builder.append("]");
         return builder.toString();
     }
+
+    /// A fail-fast iterator which goes over the stack from the top to the bottom
+    private class ArrayStackIterator implements Iterator<E> {
+        private int cursor = top;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor >= 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (cursor < 0)
+                throw new NoSuchElementException();
+
+            return (E) innerArray[cursor--];
+        }
+    }
 }
@@ -0,0 +1,276 @@
+package io.github.duckysmacky.dsa.collections.stack;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/// A thread-safe, lock-free `Stack` implementation which has a **dynamic** size (capacity). It is a concurrent sibling
+/// of `LinkedStack`, which can be shared between any amount of threads without external locking.
+///
+/// The implementation follows the Treiber algorithm: the stack is a singly linked list, and its `top` reference is only
+/// ever changed with an atomic compare-and-set. A thread which pushes links a new node to the current top and swings
+/// the `top` to it, and a thread which pops swings the `top` to the next node. If the `top` was changed by another
+/// thread in the meantime, the operation is simply retried. Nodes are never changed after they are pushed.
+///
+/// Under high contention every thread keeps retrying on the same `top` reference. To spread the load, the stack can be
+/// created with an **elimination array**: a thread whose compare-and-set fails goes to a random slot of the array
+/// instead, where a push and a pop which meet cancel each other out and the element is handed over directly, without
+/// touching the `top` at all. A push waits in its slot only for a short while before retrying on the `top` again.
+///
+/// Since `poll()` and `peek()` use `null` to signal an empty stack, `null` elements are not allowed.
+///
+/// The size is tracked with a striped counter, so `size()` is a `O(1)` operation which is exact when the stack is not
+/// being modified, but may be slightly off while other threads are pushing or popping elements. The iterator goes over
+/// the elements which were in the stack when it was created, and never throws a `ConcurrentModificationException`.
+///
+/// @param <E> type of elements in the stack
+public class ConcurrentStack<E> implements Stack<E> {
+    /// How many times a push waits in an elimination slot for a pop before taking its node back
+    private static final int ELIMINATION_SPINS = 64;
+    private static final VarHandle TOP;
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Node[].class);
+
+    static {
+        try {
+            TOP = MethodHandles.lookup().findVarHandle(ConcurrentStack.class, "top", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node<E> top;
+    private final LongAdder size;
+    /// Slots where a contended push offers its node to a contended pop, or `null` if elimination is disabled
+    private final Node<?>[] eliminationArray;
+
+    /// Initiate a new empty `Concurrent Stack` without an elimination array
+    public ConcurrentStack() {
+        this.top = null;
+        this.size = new LongAdder();
+        this.eliminationArray = null;
+    }
+
+    /// Initiate a new empty `Concurrent Stack` with an elimination array of the specified amount of slots. About one
+    /// slot for every two contending threads is a good starting point
+    ///
+    /// @throws IllegalArgumentException if the amount of slots is less than 1
+    public ConcurrentStack(int eliminationSlots) {
+        if (eliminationSlots < 1)
+            throw new IllegalArgumentException("Elimination array must have at least 1 slot");
+
+        this.top = null;
+        this.size = new LongAdder();
+        this.eliminationArray = new Node<?>[eliminationSlots];
+    }
+
+    /// Add (push) an element to the top of the stack. Since the stack is unbounded, this never fails
+    ///
+    /// @throws IllegalArgumentException if the element is `null`
+    @Override
+    public void push(E element) {
+        if (element == null)
+            throw new IllegalArgumentException("Element cannot be null");
+
+        Node<E> newNode = new Node<>(element);
+
+        while (true) {
+            Node<E> current = top;
+            newNode.next = current;
+
+            if (TOP.compareAndSet(this, current, newNode)) {
+                size.increment();
+                return;
+            }
+
+            if (eliminationArray != null && eliminatePush(newNode))
+                return;
+        }
+    }
+
+    /// Add (push) an element to the top of the stack. Since the stack is unbounded, this always returns `true`
+    ///
+    /// @throws IllegalArgumentException if the element is `null`
+    @Override
+    public boolean offer(E element) {
+        push(element);
+        return true;
+    }
+
+    @Override
+    public E peek() {
+        Node<E> current = top;
+        return current == null ? null : current.data;
+    }
+
+    @Override
+    public E pop() {
+        E element = poll();
+        if (element == null)
+            throw new NoSuchElementException("Stack is empty, nothing to remove");
+
+        return element;
+    }
+
+    @Override
+    public E poll() {
+        while (true) {
+            Node<E> current = top;
+            if (current == null)
+                return null;
+
+            if (TOP.compareAndSet(this, current, current.next)) {
+                size.decrement();
+                return current.data;
+            }
+
+            if (eliminationArray != null) {
+                Node<E> eliminated = eliminatePop();
+                if (eliminated != null)
+                    return eliminated.data;
+            }
+        }
+    }
+
+    @Override
+    public boolean isFull() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.max(0, Math.min(size.sum(), Integer.MAX_VALUE));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return top == null;
+    }
+
+    @Override
+    public boolean contains(E element) {
+        for (E e : this)
+            if (Objects.equals(e, element)) return true;
+        return false;
+    }
+
+    /// Removes all the elements which are in the stack at the moment of the call, by detaching them all at once.
+    /// Elements pushed concurrently may or may not be removed
+    @Override
+    public void clear() {
+        Node<E> current;
+        do {
+            current = top;
+        } while (current != null && !TOP.compareAndSet(this, current, null));
+
+        int removed = 0;
+        for (Node<E> node = current; node != null; node = node.next)
+            removed++;
+        size.add(-removed);
+    }
+
+    /// Returns an iterator which goes over the stack from the top to the bottom (in the removal order), as it was when
+    /// the iterator was created
+    @Override
+    public Iterator<E> iterator() {
+        return new ConcurrentStackIterator();
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliteratorUnknownSize(
+            iterator(), Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.CONCURRENT);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+
+        Node<E> currentNode = top;
+        for (int i = 0; currentNode != null; i++) {
+            if (i == 1)
+                builder.insert(1, " > ");
+            else if (i > 1)
+                builder.insert(1, " - ");
+
+            builder.insert(1, currentNode.data);
+            currentNode = currentNode.next;
+        }
+
+        builder.append("]");
+        return builder.toString();
+    }
+
+    /// Offers the node in a random elimination slot and waits for a pop to take it
+    ///
+    /// @return whether the node was taken by a pop, meaning the push is done
+    private boolean eliminatePush(Node<E> node) {
+        int slot = ThreadLocalRandom.current().nextInt(eliminationArray.length);
+        if (!SLOT.compareAndSet(eliminationArray, slot, null, node))
+            return false;
+
+        for (int i = 0; i < ELIMINATION_SPINS; i++) {
+            if (SLOT.getAcquire(eliminationArray, slot) != node)
+                return true;
+            Thread.onSpinWait();
+        }
+
+        // Failing to take the node back means that a pop has taken it in the meantime
+        return !SLOT.compareAndSet(eliminationArray, slot, node, null);
+    }
+
+    /// Tries to take a node offered by a push from a random elimination slot
+    ///
+    /// @return the taken node or `null` if there was nothing to take
+    @SuppressWarnings("unchecked")
+    private Node<E> eliminatePop() {
+        int slot = ThreadLocalRandom.current().nextInt(eliminationArray.length);
+        Node<E> node = (Node<E>) SLOT.getAcquire(eliminationArray, slot);
+
+        if (node != null && SLOT.compareAndSet(eliminationArray, slot, node, null))
+            return node;
+
+        return null;
+    }
+
+    /// The inner `Node` structure which contains the data and a reference to the next node in the list. The `next`
+    /// reference is only changed before the node is pushed, and is published by the compare-and-set of the `top`
+    ///
+    /// @param <T> the type of contained data
+    private static class Node<T> {
+        private final T data;
+        private Node<T> next;
+
+        /// Constructs a new `Node` with no `next` node
+        public Node(T data) {
+            this.data = data;
+            this.next = null;
+        }
+    }
+
+    /// An iterator which goes over the stack from the top to the bottom, starting at the top at the moment of its
+    /// creation. Since pushed nodes are never changed, it always sees a consistent snapshot of the stack
+    private class ConcurrentStackIterator implements Iterator<E> {
+        private Node<E> nextNode = top;
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public E next() {
+            if (nextNode == null)
+                throw new NoSuchElementException();
+
+            E data = nextNode.data;
+            nextNode = nextNode.next;
+            return data;
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package io.github.duckysmacky.dsa.collections.stack;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /// A `Stack` implementation which has a **dynamic** size (capacity). It is based on a `Singly Linked List`, where each
 /// element is connected to the next via nodes, which allows it to grow in size without reallocation
@@ -8,6 +12,7 @@ import java.util.NoSuchElementException;
 /// @param <E> type of elements in the stack
 public class LinkedStack<E> implements Stack<E> {
     private int size;
+    private int modCount;
     private Node<E> top;
 
     /// Initiate a new empty `Linked Stack`
@@ -23,6 +28,7 @@ public class LinkedStack<E> implements Stack<E> {
         newNode.next = top;
         top = newNode;
         size++;
+        modCount++;
     }
 
     @Override
@@ -47,6 +53,7 @@ public class LinkedStack<E> implements Stack<E> {
         top = top.next;
         removedNode.next = null;
         size--;
+        modCount++;
         return removedNode.data;
     }
 
@@ -59,6 +66,7 @@ public class LinkedStack<E> implements Stack<E> {
         top = top.next;
         removedNode.next = null;
         size--;
+        modCount++;
         return removedNode.data;
     }
 
@@ -93,6 +101,18 @@ public class LinkedStack<E> implements Stack<E> {
     public void clear() {
         top = null;
         size = 0;
+        modCount++;
+    }
+
+    /// Returns a fail-fast iterator which goes over the stack from the top to the bottom (in the removal order)
+    @Override
+    public Iterator<E> iterator() {
+        return new LinkedStackIterator();
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
     }
 
     @Override
@@ -140,4 +160,29 @@ public class LinkedStack<E> implements Stack<E> {
             return String.format("{%s -> %s}", data.toString(), next);
         }
     }
+
+    /// A fail-fast iterator which goes over the stack from the top to the bottom (in the removal order)
+    private class LinkedStackIterator implements Iterator<E> {
+        private Node<E> nextNode = top;
+        private int remaining = size;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (remaining <= 0)
+                throw new NoSuchElementException();
+
+            E data = nextNode.data;
+            nextNode = nextNode.next;
+            remaining--;
+            return data;
+        }
+    }
 }
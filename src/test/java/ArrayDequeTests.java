@@ -0,0 +1,116 @@
+import io.github.duckysmacky.dsa.collections.queue.ArrayDeque;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArrayDequeTests {
+    ArrayDeque<String> deque;
+
+    @BeforeEach
+    public void initializeDeque() {
+        deque = new ArrayDeque<>(4);
+        deque.addLast("middle");
+        deque.addFirst("first");
+        deque.addLast("last");
+    }
+
+    @Test
+    public void testGeneralDeque() {
+        assertEquals(3, deque.size());
+        assertEquals(4, deque.capacity());
+        assertFalse(deque.isFull());
+        assertFalse(deque.isEmpty());
+        assertEquals("[first < middle < last]", deque.toString());
+        assertTrue(deque.contains("middle"));
+        assertFalse(deque.contains("other"));
+
+        deque.clear();
+        assertEquals(0, deque.size());
+        assertTrue(deque.isEmpty());
+        assertEquals("[]", deque.toString());
+        assertNull(deque.getFirst());
+        assertNull(deque.getLast());
+
+        Executable addNull = () -> deque.addFirst(null);
+        assertThrows(IllegalArgumentException.class, addNull);
+        assertThrows(IllegalArgumentException.class, () -> new ArrayDeque<>(0));
+    }
+
+    @Test
+    public void testBothEnds() {
+        assertEquals("first", deque.getFirst());
+        assertEquals("last", deque.getLast());
+        assertEquals("middle", deque.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> deque.get(3));
+
+        deque.setFirst("start");
+        deque.setLast("end");
+        assertEquals("[start < middle < end]", deque.toString());
+
+        assertEquals("end", deque.removeLast());
+        assertEquals("start", deque.removeFirst());
+        assertEquals("middle", deque.pollLast());
+        assertNull(deque.pollFirst());
+        assertNull(deque.pollLast());
+
+        Executable removeWhenEmpty = () -> deque.removeLast();
+        assertThrows(NoSuchElementException.class, removeWhenEmpty);
+        assertThrows(NoSuchElementException.class, () -> deque.setFirst("other"));
+    }
+
+    @Test
+    public void testGrow() {
+        // The start has wrapped around to the end of the inner array, so growing has to unroll the elements
+        deque.addFirst("zero");
+        deque.addFirst("minus");
+        assertEquals(8, deque.capacity());
+        assertEquals("[minus < zero < first < middle < last]", deque.toString());
+
+        for (int i = 0; i < 20; i++)
+            deque.offerLast(String.valueOf(i));
+        assertEquals(32, deque.capacity());
+        assertEquals(25, deque.size());
+        assertEquals("minus", deque.getFirst());
+        assertEquals("19", deque.getLast());
+        assertEquals("0", deque.get(5));
+    }
+
+    @Test
+    public void testQueue() {
+        deque.add("final");
+        assertEquals("first", deque.peek());
+        assertEquals("first", deque.remove());
+        assertEquals("middle", deque.poll());
+        assertTrue(deque.offer("extra"));
+        assertEquals("[last < final < extra]", deque.toString());
+    }
+
+    @Test
+    public void testIteration() {
+        deque.pollFirst();
+        deque.addFirst("a");
+        deque.addFirst("b");
+
+        StringBuilder builder = new StringBuilder();
+        for (String element : deque)
+            builder.append(element).append(" ");
+        assertEquals("b a middle last ", builder.toString());
+        assertEquals(4, deque.stream().count());
+    }
+
+    @Test
+    public void testParallelStream() {
+        ArrayDeque<Integer> numbers = new ArrayDeque<>();
+        for (int i = 0; i < 500; i++) {
+            numbers.addLast(500 + i);
+            numbers.addFirst(499 - i);
+        }
+
+        assertEquals(499_500L, numbers.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(numbers.stream().toList(), numbers.parallelStream().toList());
+    }
+}
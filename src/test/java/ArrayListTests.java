@@ -1,6 +1,12 @@
 import io.github.duckysmacky.dsa.collections.list.ArrayList;
+import io.github.duckysmacky.dsa.collections.list.GrowthPolicy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -95,4 +101,125 @@ public class ArrayListTests {
         list.add("y");
         list.add("z");
     }
+
+    @Test
+    void testIteration() {
+        StringBuilder builder = new StringBuilder();
+        for (String element : list)
+            builder.append(element);
+        assertEquals("abcd", builder.toString());
+
+        assertEquals("a-b-c-d", list.stream().collect(Collectors.joining("-")));
+        assertEquals(4, list.spliterator().getExactSizeIfKnown());
+
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+        list.add("x");
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+
+        Iterator<String> reversedIterator = list.iterator();
+        list.reverse();
+        assertThrows(ConcurrentModificationException.class, reversedIterator::next);
+    }
+
+    @Test
+    void testParallelStream() {
+        ArrayList<Integer> numbers = new ArrayList<>();
+        for (int i = 1; i <= 100_000; i++)
+            numbers.add(i);
+
+        assertEquals(5_000_050_000L, numbers.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(50_000, numbers.parallelStream().filter(n -> n % 2 == 0).count());
+    }
+
+    @Test
+    void testAddAll() {
+        list.addAll(ArrayList.of("x", "y"));
+        assertEquals(ArrayList.of("a", "b", "c", "d", "x", "y"), list);
+
+        list.addAll(1, ArrayList.of("p", "q"));
+        assertEquals(ArrayList.of("a", "p", "q", "b", "c", "d", "x", "y"), list);
+
+        list = ArrayList.of("a", "b");
+        list.addAll(1, list);
+        assertEquals(ArrayList.of("a", "a", "b", "b"), list);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(5, ArrayList.of("z")));
+    }
+
+    @Test
+    void testRemoveIf() {
+        assertTrue(list.removeIf(element -> element.equals("b") || element.equals("d")));
+        assertEquals(ArrayList.of("a", "c"), list);
+        assertEquals(2, list.size());
+        assertFalse(list.removeIf(element -> element.equals("z")));
+
+        list.addAll(ArrayList.of("x", "y"));
+        assertTrue(list.retainAll(ArrayList.of("c", "y", "z")));
+        assertEquals(ArrayList.of("c", "y"), list);
+
+        // the predicate runs for every element before anything is moved, so a failure leaves the list as it was
+        list.addAll(ArrayList.of("x", "z"));
+        Executable failingRemoveIf = () -> list.removeIf(element -> {
+            if (element.equals("z"))
+                throw new IllegalStateException();
+            return element.equals("c") || element.equals("x");
+        });
+        assertThrows(IllegalStateException.class, failingRemoveIf);
+        assertEquals(ArrayList.of("c", "y", "x", "z"), list);
+        assertEquals(4, list.size());
+
+        ArrayList<Integer> numbers = new ArrayList<>();
+        for (int i = 0; i < 200; i++)
+            numbers.add(i);
+        assertTrue(numbers.removeIf(number -> number % 3 == 1 || number == 150));
+        assertEquals(132, numbers.size());
+        for (int i = 0, expected = 0; i < numbers.size(); i++, expected++) {
+            while (expected % 3 == 1 || expected == 150)
+                expected++;
+            assertEquals(expected, numbers.get(i));
+        }
+    }
+
+    @Test
+    void testGrowthPolicy() {
+        list = new ArrayList<>(4, GrowthPolicy.increment(3));
+        for (int i = 0; i < 5; i++)
+            list.add(String.valueOf(i));
+        assertEquals(7, list.capacity());
+
+        list.setGrowthPolicy(GrowthPolicy.oneAndHalf());
+        list.addAll(ArrayList.of("a", "b", "c"));
+        assertEquals(11, list.capacity());
+        assertEquals(ArrayList.of("0", "1", "2", "3", "4", "a", "b", "c"), list);
+
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.increment(0));
+    }
+
+    @Test
+    void testCapacityManagement() {
+        list.ensureCapacity(100);
+        assertEquals(100, list.capacity());
+        list.ensureCapacity(10);
+        assertEquals(100, list.capacity());
+
+        list.trimToSize();
+        assertEquals(4, list.capacity());
+        assertEquals(ArrayList.of("a", "b", "c", "d"), list);
+
+        list = new ArrayList<>(4);
+        list.setShrinkThreshold(0.25);
+        for (int i = 0; i < 64; i++)
+            list.add(String.valueOf(i));
+        assertEquals(64, list.capacity());
+
+        list.removeIf(element -> Integer.parseInt(element) >= 10);
+        assertEquals(20, list.capacity());
+        while (list.size() > 1)
+            list.remove();
+        assertEquals(4, list.capacity());
+        assertEquals("0", list.getFirst());
+
+        assertThrows(IllegalArgumentException.class, () -> list.setShrinkThreshold(0.5));
+    }
 }
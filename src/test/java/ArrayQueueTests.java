@@ -1,3 +1,4 @@
+import io.github.duckysmacky.dsa.collections.list.GrowthPolicy;
 import io.github.duckysmacky.dsa.collections.queue.ArrayQueue;
 import io.github.duckysmacky.dsa.collections.queue.Queue;
 import org.junit.jupiter.api.BeforeEach;
@@ -85,4 +86,65 @@ public class ArrayQueueTests {
         assertThrows(NoSuchElementException.class, removeWhenEmpty);
         assertNull(queue.poll());
     }
+
+    @Test
+    public void testIteration() {
+        queue.remove();
+        queue.add("final");
+        queue.add("extra");
+
+        StringBuilder builder = new StringBuilder();
+        for (String element : queue)
+            builder.append(element).append(" ");
+        assertEquals("middle last final extra ", builder.toString());
+        assertEquals(4, queue.stream().count());
+    }
+
+    @Test
+    public void testParallelStream() {
+        Queue<Integer> numbers = new ArrayQueue<>(1000);
+        for (int i = 0; i < 1000; i++)
+            numbers.add(i);
+        for (int i = 0; i < 500; i++)
+            numbers.add(numbers.remove() + 1000);
+
+        assertEquals(999_500L, numbers.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(numbers.stream().toList(), numbers.parallelStream().toList());
+    }
+
+    @Test
+    public void testGrowable() {
+        ArrayQueue<Integer> numbers = new ArrayQueue<>(4, GrowthPolicy.doubling());
+        assertTrue(numbers.isGrowable());
+        assertFalse(new ArrayQueue<>(4).isGrowable());
+
+        // Wrap the ring around before growing, so that growing has to unroll it
+        for (int i = 0; i < 4; i++)
+            numbers.add(i);
+        numbers.remove();
+        numbers.remove();
+        numbers.add(4);
+        numbers.add(5);
+        assertFalse(numbers.isFull());
+
+        assertTrue(numbers.offer(6));
+        assertEquals(8, numbers.capacity());
+        for (int i = 7; i < 20; i++)
+            numbers.add(i);
+        assertEquals(32, numbers.capacity());
+        assertEquals("[2 < 3 < 4 < 5 < 6 < 7 < 8 < 9 < 10 < 11 < 12 < 13 < 14 < 15 < 16 < 17 < 18 < 19]",
+            numbers.toString());
+        assertTrue(numbers.contains(19));
+
+        numbers.setShrinkThreshold(0.25);
+        for (int i = 2; i < 16; i++)
+            assertEquals(i, numbers.remove());
+        assertEquals(14, numbers.capacity());
+        assertEquals("[16 < 17 < 18 < 19]", numbers.toString());
+
+        numbers.clear();
+        assertEquals(4, numbers.capacity());
+        assertThrows(IllegalStateException.class, () -> new ArrayQueue<>(4).setShrinkThreshold(0.25));
+        assertThrows(IllegalArgumentException.class, () -> new ArrayQueue<>(0, GrowthPolicy.doubling()));
+    }
 }
@@ -1,10 +1,10 @@
+import io.github.duckysmacky.dsa.collections.list.GrowthPolicy;
 import io.github.duckysmacky.dsa.collections.stack.ArrayStack;
 import io.github.duckysmacky.dsa.collections.stack.Stack;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
-
 import java.util.NoSuchElementException;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -87,4 +87,37 @@ public class ArrayStackTests {
         stack.push(newTop);
         assertEquals(newTop, stack.pop());
     }
+
+    @Test
+    public void testIteration() {
+        StringBuilder builder = new StringBuilder();
+        for (String element : stack)
+            builder.append(element);
+        assertEquals("dcba", builder.toString());
+        assertEquals(4, stack.stream().count());
+    }
+
+    @Test
+    public void testGrowable() {
+        ArrayStack<Integer> numbers = new ArrayStack<>(4, GrowthPolicy.doubling());
+        assertTrue(numbers.isGrowable());
+
+        for (int i = 0; i < 20; i++)
+            numbers.push(i);
+        assertFalse(numbers.isFull());
+        assertEquals(32, numbers.capacity());
+        assertEquals(19, numbers.peek());
+        assertTrue(numbers.contains(0));
+
+        numbers.setShrinkThreshold(0.25);
+        for (int i = 19; i >= 4; i--)
+            assertEquals(i, numbers.pop());
+        assertEquals(14, numbers.capacity());
+        assertEquals("[0 - 1 - 2 > 3]", numbers.toString());
+
+        numbers.clear();
+        assertEquals(4, numbers.capacity());
+        assertFalse(stack.contains("X"));
+        assertThrows(IllegalStateException.class, () -> new ArrayStack<>(4).setShrinkThreshold(0.25));
+    }
 }
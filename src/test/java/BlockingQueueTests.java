@@ -0,0 +1,176 @@
+import io.github.duckysmacky.dsa.collections.queue.ArrayBlockingQueue;
+import io.github.duckysmacky.dsa.collections.queue.BlockingQueue;
+import io.github.duckysmacky.dsa.collections.queue.LinkedBlockingQueue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlockingQueueTests {
+    private static final int THREADS = 4;
+    private static final int ELEMENTS_PER_THREAD = 50_000;
+
+    private static final List<IntFunction<BlockingQueue<Integer>>> IMPLEMENTATIONS = List.of(
+        ArrayBlockingQueue::new,
+        LinkedBlockingQueue::new
+    );
+
+    @Test
+    public void testGeneralQueue() {
+        for (IntFunction<BlockingQueue<Integer>> implementation : IMPLEMENTATIONS) {
+            BlockingQueue<Integer> queue = implementation.apply(3);
+            queue.add(1);
+            queue.add(2);
+            queue.add(3);
+
+            assertEquals(3, queue.size());
+            assertTrue(queue.isFull());
+            assertEquals(0, queue.remainingCapacity());
+            assertEquals("[1 < 2 < 3]", queue.toString());
+            assertTrue(queue.contains(2));
+            assertFalse(queue.offer(4));
+            Executable addWhenFull = () -> queue.add(4);
+            assertThrows(IllegalStateException.class, addWhenFull);
+
+            assertEquals(1, queue.peek());
+            assertEquals(1, queue.remove());
+            assertEquals(2, queue.poll());
+            queue.add(4);
+            assertEquals(List.of(3, 4), queue.stream().toList());
+
+            queue.clear();
+            assertTrue(queue.isEmpty());
+            assertEquals("[]", queue.toString());
+            assertNull(queue.poll());
+            assertNull(queue.peek());
+            Executable removeWhenEmpty = () -> queue.remove();
+            assertThrows(NoSuchElementException.class, removeWhenEmpty);
+            assertThrows(IllegalArgumentException.class, () -> queue.offer(null));
+        }
+
+        assertEquals(Integer.MAX_VALUE, new LinkedBlockingQueue<>().remainingCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new ArrayBlockingQueue<>(0));
+    }
+
+    @Test
+    public void testTimedOperations() throws InterruptedException {
+        for (IntFunction<BlockingQueue<Integer>> implementation : IMPLEMENTATIONS) {
+            BlockingQueue<Integer> queue = implementation.apply(1);
+
+            assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+            assertTrue(queue.offer(1, 10, TimeUnit.MILLISECONDS));
+            assertFalse(queue.offer(2, 10, TimeUnit.MILLISECONDS));
+            assertEquals(1, queue.poll(10, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    /// A thread which waits in `take()` is woken up by a `put()` from another thread, and an interrupted waiter stops
+    /// waiting with an `InterruptedException`
+    @Test
+    public void testBlockingOperations() throws InterruptedException {
+        for (IntFunction<BlockingQueue<Integer>> implementation : IMPLEMENTATIONS) {
+            BlockingQueue<Integer> queue = implementation.apply(1);
+            List<Integer> taken = new CopyOnWriteArrayList<>();
+
+            Thread consumer = new Thread(() -> {
+                try {
+                    taken.add(queue.take());
+                    taken.add(queue.take());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            consumer.start();
+
+            queue.put(1);
+            queue.put(2);
+            consumer.join();
+            assertEquals(List.of(1, 2), taken);
+
+            queue.put(3);
+            Thread producer = new Thread(() -> {
+                try {
+                    queue.put(4);
+                    fail("put() on a full queue has to wait until interrupted");
+                } catch (InterruptedException e) {
+                    taken.add(-1);
+                }
+            });
+            producer.start();
+            producer.interrupt();
+            producer.join();
+            assertEquals(List.of(1, 2, -1), taken);
+            assertEquals(List.of(3), queue.stream().toList());
+        }
+    }
+
+    /// Several producers `put()` increasing sequences into a small queue while several consumers `take()` them. Every
+    /// element has to be taken exactly once, and each consumer has to see the elements of each producer in order
+    @Test
+    public void testConcurrentProducersAndConsumers() throws InterruptedException {
+        for (IntFunction<BlockingQueue<Integer>> implementation : IMPLEMENTATIONS) {
+            BlockingQueue<Integer> queue = implementation.apply(16);
+            boolean[] seen = new boolean[THREADS * ELEMENTS_PER_THREAD];
+            List<Thread> threads = new ArrayList<>();
+            List<Throwable> failures = new CopyOnWriteArrayList<>();
+
+            for (int p = 0; p < THREADS; p++) {
+                final int producer = p;
+                threads.add(new Thread(() -> {
+                    try {
+                        for (int i = 0; i < ELEMENTS_PER_THREAD; i++)
+                            queue.put(producer * ELEMENTS_PER_THREAD + i);
+                    } catch (InterruptedException e) {
+                        failures.add(e);
+                    }
+                }));
+            }
+
+            for (int c = 0; c < THREADS; c++) {
+                threads.add(new Thread(() -> {
+                    int[] lastSequence = new int[THREADS];
+                    Arrays.fill(lastSequence, -1);
+
+                    try {
+                        for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                            int element = queue.take();
+                            int producer = element / ELEMENTS_PER_THREAD;
+                            int sequence = element % ELEMENTS_PER_THREAD;
+
+                            if (sequence <= lastSequence[producer])
+                                failures.add(new AssertionError("Out of order element " + sequence + " of " + producer));
+                            lastSequence[producer] = sequence;
+
+                            synchronized (seen) {
+                                if (seen[element])
+                                    failures.add(new AssertionError("Duplicate element " + sequence + " of " + producer));
+                                seen[element] = true;
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        failures.add(e);
+                    }
+                }));
+            }
+
+            threads.forEach(Thread::start);
+            for (Thread thread : threads)
+                thread.join();
+
+            assertTrue(failures.isEmpty(), () -> failures.get(0).getMessage());
+            for (boolean element : seen)
+                assertTrue(element);
+
+            assertTrue(queue.isEmpty());
+            assertNull(queue.poll());
+        }
+    }
+}
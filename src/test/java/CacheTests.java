@@ -0,0 +1,154 @@
+import io.github.duckysmacky.dsa.collections.cache.Cache;
+import io.github.duckysmacky.dsa.collections.cache.CacheStats;
+import io.github.duckysmacky.dsa.collections.cache.LfuCache;
+import io.github.duckysmacky.dsa.collections.cache.LruCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CacheTests {
+    @Test
+    public void testLruEviction() {
+        LruCache<String, Integer> cache = new LruCache<>(3);
+        List<String> evicted = new ArrayList<>();
+        cache.setEvictionListener((key, value) -> evicted.add(key + "=" + value));
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        assertEquals(1, cache.get("a"));
+        cache.put("d", 4);
+
+        assertEquals(List.of("b=2"), evicted);
+        assertEquals(3, cache.size());
+        assertFalse(cache.containsKey("b"));
+
+        // Peeking doesn't count as a use, so "c" stays the least recently used one
+        assertEquals(3, cache.peek("c"));
+        cache.put("e", 5);
+        assertEquals(List.of("b=2", "c=3"), evicted);
+
+        // Replacing counts as a use
+        cache.put("a", 10);
+        cache.put("f", 6);
+        assertEquals(List.of("b=2", "c=3", "d=4"), evicted);
+        assertEquals(10, cache.get("a"));
+    }
+
+    @Test
+    public void testLfuEviction() {
+        LfuCache<String, Integer> cache = new LfuCache<>(3);
+        List<String> evicted = new ArrayList<>();
+        cache.setEvictionListener((key, value) -> evicted.add(key));
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+        assertEquals(3, cache.frequency("a"));
+        assertEquals(2, cache.frequency("b"));
+        assertEquals(1, cache.frequency("c"));
+        assertEquals(0, cache.frequency("X"));
+
+        cache.put("d", 4);
+        assertEquals(List.of("c"), evicted);
+
+        // The newly added entry is the least frequently used one, but is never evicted by its own insertion
+        cache.put("e", 5);
+        assertEquals(List.of("c", "d"), evicted);
+
+        // Among equally frequently used entries the least recently used one goes first
+        cache.get("e");
+        cache.put("f", 6);
+        assertEquals(List.of("c", "d", "b"), evicted);
+        assertTrue(cache.containsKey("a"));
+        assertTrue(cache.containsKey("e"));
+        assertTrue(cache.containsKey("f"));
+    }
+
+    @Test
+    public void testWeightEviction() {
+        LruCache<String, String> lru = new LruCache<>(10, (key, value) -> value.length());
+        LfuCache<String, String> lfu = new LfuCache<>(10, (key, value) -> value.length());
+
+        for (Cache<String, String> cache : List.<Cache<String, String>>of(lru, lfu)) {
+            cache.put("a", "aaaa");
+            cache.put("b", "bbbb");
+            assertEquals(8, cache.weight());
+            assertEquals(10, cache.maximumWeight());
+
+            cache.put("c", "cccccc");
+            assertEquals(10, cache.weight());
+            assertEquals(2, cache.size());
+            assertFalse(cache.containsKey("a"));
+
+            cache.put("b", "b");
+            assertEquals(7, cache.weight());
+
+            Executable tooHeavy = () -> cache.put("d", "ddddddddddd");
+            assertThrows(IllegalArgumentException.class, tooHeavy);
+            assertEquals(2, cache.size());
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<>(0));
+        assertThrows(IllegalArgumentException.class, () -> new LfuCache<>(10, null));
+    }
+
+    @Test
+    public void testStats() {
+        for (Cache<String, Integer> cache : List.<Cache<String, Integer>>of(new LruCache<>(2), new LfuCache<>(2))) {
+            cache.put("a", 1);
+            cache.put("b", 2);
+            cache.get("a");
+            cache.get("X");
+            cache.put("c", 3);
+            cache.remove("a");
+            cache.clear();
+
+            CacheStats stats = cache.stats();
+            assertEquals(1, stats.hitCount());
+            assertEquals(1, stats.missCount());
+            assertEquals(2, stats.requestCount());
+            assertEquals(1, stats.evictionCount());
+            assertEquals(0.5, stats.hitRate());
+            assertEquals("{hits: 1, misses: 1, evictions: 1}", stats.toString());
+        }
+    }
+
+    @Test
+    public void testRemoveAndClear() {
+        for (Cache<String, Integer> cache : List.<Cache<String, Integer>>of(new LruCache<>(3), new LfuCache<>(3))) {
+            cache.put("a", 1);
+            cache.put("b", 2);
+            cache.get("b");
+
+            assertEquals(2, cache.remove("b"));
+            assertNull(cache.remove("b"));
+            assertNull(cache.get("b"));
+            assertEquals(1, cache.size());
+            assertEquals(1, cache.weight());
+
+            cache.clear();
+            assertTrue(cache.isEmpty());
+            assertEquals(0, cache.weight());
+
+            cache.put("c", 3);
+            cache.put("d", 4);
+            cache.put("e", 5);
+            cache.put("f", 6);
+            assertEquals(3, cache.size());
+            assertFalse(cache.containsKey("c"));
+
+            Executable putNullKey = () -> cache.put(null, 1);
+            Executable putNullValue = () -> cache.put("g", null);
+            assertThrows(IllegalArgumentException.class, putNullKey);
+            assertThrows(IllegalArgumentException.class, putNullValue);
+        }
+    }
+}
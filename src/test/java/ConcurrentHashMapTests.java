@@ -0,0 +1,180 @@
+import io.github.duckysmacky.dsa.collections.map.ConcurrentHashMap;
+import io.github.duckysmacky.dsa.collections.map.Map;
+import io.github.duckysmacky.dsa.collections.map.SimpleEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentHashMapTests {
+    private static final int THREADS = 4;
+    private static final int ELEMENTS_PER_THREAD = 50_000;
+
+    Map<String, Integer> map;
+
+    @BeforeEach
+    public void initializeMap() {
+        map = new ConcurrentHashMap<>();
+        map.put("one", 1);
+        map.put("two", 2);
+        map.put("three", 3);
+    }
+
+    @Test
+    public void testGeneralMap() {
+        assertEquals(3, map.size());
+        assertFalse(map.isEmpty());
+        assertEquals(2, map.get("two"));
+        assertNull(map.get("four"));
+        assertEquals(4, map.getOrDefault("four", 4));
+        assertTrue(map.containsValue(3));
+        assertEquals(3, map.keySet().size());
+        assertTrue(map.entrySet().contains(new SimpleEntry<>("two", 2)));
+        assertEquals(6, map.stream().mapToInt(Integer::intValue).sum());
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertTrue(map.isEmpty());
+        assertNull(map.get("one"));
+        assertEquals("{}", map.toString());
+    }
+
+    @Test
+    public void testPutAndReplace() {
+        ConcurrentHashMap<String, Integer> map = (ConcurrentHashMap<String, Integer>) this.map;
+
+        map.put("one", 10);
+        assertEquals(10, map.get("one"));
+        map.putIfAbsent("one", 100);
+        assertEquals(10, map.get("one"));
+        map.putIfAbsent(new SimpleEntry<>("four", 4));
+        assertEquals(4, map.get("four"));
+
+        map.replace("five", 5);
+        assertFalse(map.containsKey("five"));
+        assertFalse(map.replace("four", 5, 50));
+        assertTrue(map.replace("four", 4, 40));
+        assertEquals(40, map.get("four"));
+
+        assertEquals(2, map.remove("two"));
+        assertNull(map.remove("two"));
+        assertEquals(3, map.size());
+
+        Executable putNullKey = () -> map.put(null, 0);
+        Executable putNullValue = () -> map.put("six", null);
+        assertThrows(IllegalArgumentException.class, putNullKey);
+        assertThrows(IllegalArgumentException.class, putNullValue);
+    }
+
+    @Test
+    public void testGrowAndCollisions() {
+        Map<Integer, Integer> numbers = new ConcurrentHashMap<>(2);
+
+        for (int i = -5000; i < 5000; i++)
+            numbers.put(i, i * 2);
+        assertEquals(10000, numbers.size());
+
+        for (int i = -5000; i < 5000; i += 2)
+            assertEquals(i * 2, numbers.remove(i));
+        assertEquals(5000, numbers.size());
+
+        int count = 0;
+        for (int ignored : numbers)
+            count++;
+        assertEquals(5000, count);
+
+        Map<Colliding, Integer> colliding = new ConcurrentHashMap<>();
+        for (int i = 0; i < 100; i++)
+            colliding.put(new Colliding(i), i);
+
+        colliding.remove(new Colliding(0));
+        colliding.remove(new Colliding(50));
+        assertEquals(98, colliding.size());
+        assertNull(colliding.get(new Colliding(50)));
+        assertEquals(99, colliding.get(new Colliding(99)));
+    }
+
+    /// Several threads add distinct keys at once, starting from a tiny table, so that the resizes are shared between
+    /// them. Every key has to be in the map afterward
+    @Test
+    public void testConcurrentPut() throws InterruptedException {
+        ConcurrentHashMap<Integer, Integer> map = new ConcurrentHashMap<>(2);
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                int key = thread * ELEMENTS_PER_THREAD + i;
+                map.put(key, key);
+            }
+        });
+
+        assertEquals(THREADS * ELEMENTS_PER_THREAD, map.size());
+        for (int key = 0; key < THREADS * ELEMENTS_PER_THREAD; key++)
+            assertEquals(key, map.get(key));
+    }
+
+    /// Several threads increment the same counters with compare-and-replace, so no increment can be lost
+    @Test
+    public void testConcurrentReplace() throws InterruptedException {
+        ConcurrentHashMap<Integer, Integer> map = new ConcurrentHashMap<>();
+        int keys = 16;
+        int increments = 10_000;
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < increments; i++) {
+                int key = i % keys;
+                map.putIfAbsent(key, 0);
+
+                while (true) {
+                    Integer current = map.get(key);
+                    if (map.replace(key, current, current + 1))
+                        break;
+                }
+            }
+        });
+
+        int total = 0;
+        for (int value : map)
+            total += value;
+        assertEquals(THREADS * increments, total);
+    }
+
+    private static void runConcurrently(ThreadTask task) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            final int thread = t;
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                task.run(thread);
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads)
+            thread.join();
+    }
+
+    private interface ThreadTask {
+        void run(int thread);
+    }
+
+    /// A key which always has the same hash code
+    private record Colliding(int value) {
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+import io.github.duckysmacky.dsa.collections.set.ConcurrentHashSet;
+import io.github.duckysmacky.dsa.collections.set.HashSet;
+import io.github.duckysmacky.dsa.collections.set.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentHashSetTests {
+    private static final int THREADS = 4;
+    private static final int ELEMENTS_PER_THREAD = 50_000;
+
+    Set<String> set;
+
+    @BeforeEach
+    public void initializeSet() {
+        set = new ConcurrentHashSet<>();
+        set.add("a");
+        set.add("b");
+        set.add("c");
+    }
+
+    @Test
+    public void testGeneralSet() {
+        set.add("a");
+        assertEquals(3, set.size());
+        assertFalse(set.isEmpty());
+        assertTrue(set.contains("b"));
+        assertFalse(set.contains("x"));
+
+        set.remove("b");
+        set.remove("x");
+        assertEquals(2, set.size());
+        assertFalse(set.contains("b"));
+        assertEquals(2, set.stream().count());
+
+        set.clear();
+        assertEquals(0, set.size());
+        assertTrue(set.isEmpty());
+        assertEquals("{}", set.toString());
+
+        Executable addNull = () -> set.add(null);
+        assertThrows(IllegalArgumentException.class, addNull);
+    }
+
+    @Test
+    public void testSetOperations() {
+        Set<String> other = new HashSet<>();
+        other.add("b");
+        other.add("c");
+        other.add("d");
+
+        assertEquals(4, set.union(other).size());
+        Set<String> intersection = set.intersection(other);
+        assertEquals(2, intersection.size());
+        assertTrue(intersection.contains("b") && intersection.contains("c"));
+        Set<String> difference = set.difference(other);
+        assertEquals(1, difference.size());
+        assertTrue(difference.contains("a"));
+
+        assertFalse(set.subset(other));
+        other.add("a");
+        assertTrue(set.subset(other));
+    }
+
+    @Test
+    public void testInPlaceOperations() {
+        Set<Integer> numbers = new ConcurrentHashSet<>(4);
+        Set<Integer> even = new ConcurrentHashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            numbers.add(i);
+            if (i % 2 == 0)
+                even.add(i);
+        }
+
+        Set<Integer> more = new ConcurrentHashSet<>();
+        for (int i = 500; i < 1500; i++)
+            more.add(i);
+
+        numbers.addAll(more);
+        assertEquals(1500, numbers.size());
+
+        assertTrue(numbers.removeAll(even));
+        assertFalse(numbers.removeAll(even));
+        assertEquals(1000, numbers.size());
+
+        assertTrue(numbers.retainAll(more));
+        assertFalse(numbers.retainAll(more));
+        assertEquals(750, numbers.size());
+        for (int i = 0; i < 1500; i++)
+            assertEquals(i >= 500 && (i % 2 != 0 || i >= 1000), numbers.contains(i));
+    }
+
+    /// Writers add and remove their own elements while a reader keeps checking the elements which are never removed,
+    /// so that the lookups run across all the resizes
+    @Test
+    public void testConcurrentAddRemove() throws InterruptedException {
+        ConcurrentHashSet<Integer> set = new ConcurrentHashSet<>(2);
+        for (int i = -100; i < 0; i++)
+            set.add(i);
+
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicBoolean lost = new AtomicBoolean(false);
+        List<Thread> writers = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            final int thread = t;
+            writers.add(new Thread(() -> {
+                await(start);
+                for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                    int element = thread * ELEMENTS_PER_THREAD + i;
+                    set.add(element);
+                    if (i % 2 == 0)
+                        set.remove(element);
+                }
+            }));
+        }
+
+        Thread reader = new Thread(() -> {
+            await(start);
+            while (writing.get()) {
+                for (int i = -100; i < 0; i++)
+                    if (!set.contains(i)) lost.set(true);
+                Thread.yield();
+            }
+        });
+
+        writers.forEach(Thread::start);
+        reader.start();
+        start.countDown();
+        for (Thread writer : writers)
+            writer.join();
+        writing.set(false);
+        reader.join();
+
+        assertFalse(lost.get());
+        assertEquals(100 + THREADS * ELEMENTS_PER_THREAD / 2, set.size());
+        for (int element = 0; element < THREADS * ELEMENTS_PER_THREAD; element++)
+            assertEquals(element % 2 != 0, set.contains(element));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
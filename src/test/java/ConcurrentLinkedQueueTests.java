@@ -0,0 +1,179 @@
+import io.github.duckysmacky.dsa.collections.queue.ConcurrentLinkedQueue;
+import io.github.duckysmacky.dsa.collections.queue.Queue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentLinkedQueueTests {
+    private static final int THREADS = 4;
+    private static final int ELEMENTS_PER_THREAD = 100_000;
+
+    Queue<String> queue;
+
+    @BeforeEach
+    public void initializeQueue() {
+        queue = new ConcurrentLinkedQueue<>();
+        queue.add("first");
+        queue.add("middle");
+        queue.add("last");
+    }
+
+    @Test
+    public void testGeneralQueue() {
+        assertEquals(3, queue.size());
+        assertFalse(queue.isFull());
+        assertFalse(queue.isEmpty());
+        assertEquals("[first < middle < last]", queue.toString());
+        assertTrue(queue.contains("middle"));
+        assertFalse(queue.contains("other"));
+
+        queue.clear();
+        assertEquals(0, queue.size());
+        assertTrue(queue.isEmpty());
+        assertEquals("[]", queue.toString());
+
+        Executable addNull = () -> queue.add(null);
+        assertThrows(IllegalArgumentException.class, addNull);
+    }
+
+    @Test
+    public void testPop() {
+        assertEquals("first", queue.peek());
+        assertEquals("first", queue.remove());
+        assertEquals("middle", queue.poll());
+        assertEquals("last", queue.poll());
+        assertNull(queue.poll());
+        assertNull(queue.peek());
+
+        queue.add("final");
+        assertEquals("[final]", queue.toString());
+        assertEquals(1, queue.size());
+        assertEquals("final", queue.remove());
+
+        Executable removeWhenEmpty = () -> queue.remove();
+        assertThrows(NoSuchElementException.class, removeWhenEmpty);
+    }
+
+    @Test
+    public void testIteration() {
+        StringBuilder builder = new StringBuilder();
+        for (String element : queue) {
+            builder.append(element);
+            queue.poll();
+        }
+
+        assertEquals("firstmiddlelast", builder.toString());
+        assertEquals(0, queue.stream().count());
+    }
+
+    /// Several producers add increasing sequences while several consumers remove concurrently. Every element has to be
+    /// removed exactly once, and each consumer has to see the elements of each producer in the order they were added
+    @Test
+    public void testConcurrentProducersAndConsumers() throws InterruptedException {
+        ConcurrentLinkedQueue<Long> queue = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger consumed = new AtomicInteger();
+        boolean[] seen = new boolean[THREADS * ELEMENTS_PER_THREAD];
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+
+        for (int p = 0; p < THREADS; p++) {
+            final long producer = p;
+            threads.add(new Thread(() -> {
+                await(start);
+                for (int i = 0; i < ELEMENTS_PER_THREAD; i++)
+                    queue.offer(producer << 32 | i);
+            }));
+        }
+
+        for (int c = 0; c < THREADS; c++) {
+            threads.add(new Thread(() -> {
+                await(start);
+                int[] lastSequence = new int[THREADS];
+                Arrays.fill(lastSequence, -1);
+
+                while (consumed.get() < THREADS * ELEMENTS_PER_THREAD) {
+                    Long element = queue.poll();
+                    if (element == null)
+                        continue;
+
+                    int producer = (int) (element >>> 32);
+                    int sequence = (int) (long) element;
+                    if (sequence <= lastSequence[producer])
+                        failures.add(new AssertionError("Out of order element " + sequence + " of " + producer));
+                    lastSequence[producer] = sequence;
+
+                    synchronized (seen) {
+                        int index = producer * ELEMENTS_PER_THREAD + sequence;
+                        if (seen[index])
+                            failures.add(new AssertionError("Duplicate element " + sequence + " of " + producer));
+                        seen[index] = true;
+                    }
+                    consumed.incrementAndGet();
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads)
+            thread.join();
+
+        assertTrue(failures.isEmpty(), () -> failures.get(0).getMessage());
+        assertEquals(THREADS * ELEMENTS_PER_THREAD, consumed.get());
+        for (boolean element : seen)
+            assertTrue(element);
+
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+        assertNull(queue.poll());
+    }
+
+    /// Threads which alternate between adding and removing elements never find the queue empty, since each of them
+    /// adds an element before removing one
+    @Test
+    public void testConcurrentOfferPoll() throws InterruptedException {
+        ConcurrentLinkedQueue<Integer> queue = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger misses = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int t = 0; t < THREADS * 2; t++) {
+            threads.add(new Thread(() -> {
+                await(start);
+                for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                    queue.offer(i);
+                    if (queue.poll() == null)
+                        misses.incrementAndGet();
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads)
+            thread.join();
+
+        assertEquals(0, misses.get());
+        assertEquals(0, queue.size());
+        assertTrue(queue.isEmpty());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+import io.github.duckysmacky.dsa.collections.stack.ConcurrentStack;
+import io.github.duckysmacky.dsa.collections.stack.Stack;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentStackTests {
+    private static final int THREADS = 4;
+    private static final int ELEMENTS_PER_THREAD = 100_000;
+
+    Stack<String> stack;
+
+    @BeforeEach
+    public void initializeStack() {
+        stack = new ConcurrentStack<>();
+        stack.push("a");
+        stack.push("b");
+        stack.push("c");
+        stack.push("d");
+    }
+
+    @Test
+    public void testGeneralStack() {
+        assertEquals(4, stack.size());
+        assertFalse(stack.isFull());
+        assertFalse(stack.isEmpty());
+        assertEquals("[a - b - c > d]", stack.toString());
+        assertTrue(stack.contains("b"));
+        assertFalse(stack.contains("X"));
+
+        stack.clear();
+        assertEquals(0, stack.size());
+        assertTrue(stack.isEmpty());
+        assertEquals("[]", stack.toString());
+
+        Executable pushNull = () -> stack.push(null);
+        assertThrows(IllegalArgumentException.class, pushNull);
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentStack<>(0));
+    }
+
+    @Test
+    public void testPop() {
+        stack.push("X");
+        assertEquals("X", stack.peek());
+        assertEquals("X", stack.pop());
+        assertEquals("d", stack.poll());
+        assertEquals(3, stack.size());
+
+        stack.clear();
+        Executable popWhenEmpty = () -> stack.pop();
+        assertThrows(NoSuchElementException.class, popWhenEmpty);
+        assertNull(stack.poll());
+        assertNull(stack.peek());
+    }
+
+    @Test
+    public void testIteration() {
+        StringBuilder builder = new StringBuilder();
+        for (String element : stack) {
+            builder.append(element);
+            stack.poll();
+        }
+
+        assertEquals("dcba", builder.toString());
+        assertEquals(0, stack.stream().count());
+    }
+
+    @Test
+    public void testConcurrentPushPop() throws InterruptedException {
+        testConcurrentPushPop(new ConcurrentStack<>());
+    }
+
+    @Test
+    public void testConcurrentPushPopWithElimination() throws InterruptedException {
+        testConcurrentPushPop(new ConcurrentStack<>(2));
+    }
+
+    /// Several threads push distinct elements while several others pop concurrently. Every element has to be popped
+    /// exactly once, whether it went through the `top` or through the elimination array
+    private static void testConcurrentPushPop(ConcurrentStack<Integer> stack) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger popped = new AtomicInteger();
+        boolean[] seen = new boolean[THREADS * ELEMENTS_PER_THREAD];
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+
+        for (int p = 0; p < THREADS; p++) {
+            final int producer = p;
+            threads.add(new Thread(() -> {
+                await(start);
+                for (int i = 0; i < ELEMENTS_PER_THREAD; i++)
+                    stack.push(producer * ELEMENTS_PER_THREAD + i);
+            }));
+        }
+
+        for (int c = 0; c < THREADS; c++) {
+            threads.add(new Thread(() -> {
+                await(start);
+                while (popped.get() < THREADS * ELEMENTS_PER_THREAD) {
+                    Integer element = stack.poll();
+                    if (element == null) {
+                        Thread.yield();
+                        continue;
+                    }
+
+                    synchronized (seen) {
+                        if (seen[element])
+                            failures.add(new AssertionError("Duplicate element " + element));
+                        seen[element] = true;
+                    }
+                    popped.incrementAndGet();
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (Thread thread : threads)
+            thread.join();
+
+        assertTrue(failures.isEmpty(), () -> failures.get(0).getMessage());
+        for (boolean element : seen)
+            assertTrue(element);
+
+        assertTrue(stack.isEmpty());
+        assertEquals(0, stack.size());
+        assertNull(stack.poll());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
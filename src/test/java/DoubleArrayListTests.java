@@ -0,0 +1,101 @@
+import io.github.duckysmacky.dsa.collections.list.DoubleArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DoubleArrayListTests {
+    DoubleArrayList list;
+
+    @BeforeEach
+    void initializeList() {
+        list = new DoubleArrayList(2);
+        list.add(1.5);
+        list.add(2.5);
+        list.add(3.5);
+        list.add(4.5);
+    }
+
+    @Test
+    void testInitialization() {
+        assertEquals(4, list.size());
+        assertFalse(list.isEmpty());
+        assertEquals(DoubleArrayList.of(1.5, 2.5, 3.5, 4.5), list);
+        assertEquals("[1.5, 2.5, 3.5, 4.5]", list.toString());
+    }
+
+    @Test
+    void testClear() {
+        list.clear();
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+        assertEquals(new DoubleArrayList(), list);
+    }
+
+    @Test
+    void testAddAtIndex() {
+        list.add(2, 9);
+        assertEquals(DoubleArrayList.of(1.5, 2.5, 9, 3.5, 4.5), list);
+
+        list.add(0, -0.5);
+        assertEquals(DoubleArrayList.of(-0.5, 1.5, 2.5, 9, 3.5, 4.5), list);
+
+        list.add(6, 7);
+        assertEquals(DoubleArrayList.of(-0.5, 1.5, 2.5, 9, 3.5, 4.5, 7), list);
+    }
+
+    @Test
+    void testAddAll() {
+        list.addAll(5, 6, 7);
+        assertEquals(DoubleArrayList.of(1.5, 2.5, 3.5, 4.5, 5, 6, 7), list);
+
+        list.addAll(new double[] {10, 11, 12, 13}, 1, 3);
+        assertEquals(DoubleArrayList.of(1.5, 2.5, 3.5, 4.5, 5, 6, 7, 11, 12), list);
+    }
+
+    @Test
+    void testRemove() {
+        assertEquals(4.5, list.remove());
+        assertEquals(2.5, list.remove(1));
+        assertEquals(DoubleArrayList.of(1.5, 3.5), list);
+
+        list.clear();
+        Executable removeWhenEmpty = () -> list.remove();
+        assertThrows(NoSuchElementException.class, removeWhenEmpty);
+    }
+
+    @Test
+    void testAccess() {
+        assertEquals(1.5, list.getFirst());
+        assertEquals(4.5, list.getLast());
+        assertEquals(2, list.find(3.5));
+        assertEquals(-1, list.find(3));
+        assertTrue(list.contains(4.5));
+
+        list.set(0, Double.NaN);
+        assertTrue(Double.isNaN(list.get(0)));
+        assertEquals(0, list.find(Double.NaN));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(4));
+
+        list.reverse();
+        assertArrayEquals(new double[] {4.5, 3.5, 2.5, Double.NaN}, list.toArray());
+    }
+
+    @Test
+    void testIteration() {
+        double[] sum = {0};
+        list.forEach(value -> sum[0] += value);
+        assertEquals(12, sum[0]);
+        assertEquals(12, list.stream().sum());
+
+        PrimitiveIterator.OfDouble iterator = list.iterator();
+        assertEquals(1.5, iterator.nextDouble());
+        list.add(5);
+        assertThrows(ConcurrentModificationException.class, iterator::nextDouble);
+    }
+}
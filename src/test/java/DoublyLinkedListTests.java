@@ -0,0 +1,143 @@
+import io.github.duckysmacky.dsa.collections.list.DoublyLinkedList;
+import io.github.duckysmacky.dsa.collections.list.LinkedList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DoublyLinkedListTests {
+    DoublyLinkedList<String> list;
+
+    @BeforeEach
+    public void initiateList() {
+        list = new DoublyLinkedList<>("a", "b", "c", "d", "e");
+    }
+
+    @Test
+    public void testGeneralList() {
+        assertEquals("[a <-> b <-> c <-> d <-> e]", list.toString());
+        assertEquals(5, list.size());
+        assertEquals(3, list.find("d"));
+        assertTrue(list.contains("e"));
+        assertArrayEquals(new Object[]{"a", "b", "c", "d", "e"}, list.toArray());
+        assertTrue(new DoublyLinkedList<String>().isEmpty());
+    }
+
+    @Test
+    public void testIndexedAccess() {
+        for (int i = 0; i < list.size(); i++)
+            assertEquals(String.valueOf((char) ('a' + i)), list.get(i));
+
+        list.set(1, "x");
+        list.set(3, "y");
+        assertEquals("[a <-> x <-> c <-> y <-> e]", list.toString());
+
+        list.add(4, "z");
+        list.add(6, "end");
+        list.add(0, "start");
+        assertEquals("[start <-> a <-> x <-> c <-> y <-> z <-> e <-> end]", list.toString());
+
+        assertEquals("z", list.remove(5));
+        assertEquals("x", list.remove(2));
+        assertEquals("[start <-> a <-> c <-> y <-> e <-> end]", list.toString());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(6));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(7, "x"));
+    }
+
+    @Test
+    public void testDeque() {
+        list.addFirst("x");
+        list.offerLast("y");
+        assertEquals("x", list.getFirst());
+        assertEquals("y", list.getLast());
+
+        assertEquals("x", list.pollFirst());
+        assertEquals("y", list.removeLast());
+        list.setFirst("first");
+        list.setLast("last");
+        assertEquals("[first <-> b <-> c <-> d <-> last]", list.toString());
+
+        list.clear();
+        assertNull(list.removeFirst());
+        assertNull(list.pollLast());
+
+        list.addLast("only");
+        assertEquals("only", list.removeFirst());
+        assertTrue(list.isEmpty());
+        assertNull(list.getLast());
+    }
+
+    @Test
+    public void testNodeHandles() {
+        DoublyLinkedList.Node<String> c = list.nodeAt(2);
+        assertEquals("c", c.getData());
+        assertEquals("b", c.previous().getData());
+        assertEquals("d", c.next().getData());
+
+        list.insertBefore(c, "x");
+        list.insertAfter(c, "y");
+        assertEquals("[a <-> b <-> x <-> c <-> y <-> d <-> e]", list.toString());
+
+        list.moveToFirst(c);
+        list.moveToLast(list.firstNode().next());
+        assertEquals("[c <-> b <-> x <-> y <-> d <-> e <-> a]", list.toString());
+
+        DoublyLinkedList.Node<String> last = list.linkLast("z");
+        assertEquals("c", list.unlink(list.firstNode()));
+        assertEquals("z", list.unlink(last));
+        assertFalse(last.isLinked());
+        assertEquals(6, list.size());
+        assertEquals("[b <-> x <-> y <-> d <-> e <-> a]", list.toString());
+
+        assertThrows(IllegalArgumentException.class, () -> list.unlink(last));
+        assertThrows(IllegalArgumentException.class, () -> list.moveToFirst(new DoublyLinkedList<>("b").firstNode()));
+    }
+
+    @Test
+    public void testReverse() {
+        list.reverse();
+        assertEquals("[e <-> d <-> c <-> b <-> a]", list.toString());
+        assertEquals("a", list.getLast());
+        assertEquals("d", list.get(1));
+    }
+
+    @Test
+    public void testBulkOperations() {
+        list.addAll(3, new LinkedList<>("x", "y"));
+        assertEquals("[a <-> b <-> c <-> x <-> y <-> d <-> e]", list.toString());
+
+        assertTrue(list.removeIf(element -> element.compareTo("c") > 0 && element.compareTo("x") < 0));
+        assertEquals("[a <-> b <-> c <-> x <-> y]", list.toString());
+        assertEquals("y", list.getLast());
+
+        // the predicate runs for every element before anything is unlinked, so a failure leaves the list as it was
+        Executable failingRemoveIf = () -> list.removeIf(element -> {
+            if (element.equals("y"))
+                throw new IllegalStateException();
+            return element.equals("a");
+        });
+        assertThrows(IllegalStateException.class, failingRemoveIf);
+        assertEquals("[a <-> b <-> c <-> x <-> y]", list.toString());
+        assertEquals(5, list.size());
+        list.addLast("z");
+        assertEquals("z", list.getLast());
+    }
+
+    @Test
+    public void testIteration() {
+        StringBuilder builder = new StringBuilder();
+        for (String element : list)
+            builder.append(element);
+        assertEquals("abcde", builder.toString());
+
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+        list.moveToLast(list.firstNode());
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+}
@@ -0,0 +1,142 @@
+import io.github.duckysmacky.dsa.collections.set.FlatHashSet;
+import io.github.duckysmacky.dsa.collections.set.HashSet;
+import io.github.duckysmacky.dsa.collections.set.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlatHashSetTests {
+    Set<String> set;
+
+    @BeforeEach
+    public void initializeSet() {
+        set = new FlatHashSet<>();
+        set.add("a");
+        set.add("b");
+        set.add("c");
+    }
+
+    @Test
+    public void testGeneralSet() {
+        assertEquals(3, set.size());
+        assertFalse(set.isEmpty());
+        assertTrue(set.contains("b"));
+        assertFalse(set.contains("x"));
+
+        set.clear();
+        assertEquals(0, set.size());
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains("b"));
+        assertEquals("{}", set.toString());
+    }
+
+    @Test
+    public void testAdd() {
+        set.add("a");
+        assertEquals(3, set.size());
+
+        set.add("d");
+        assertEquals(4, set.size());
+        assertTrue(set.contains("d"));
+    }
+
+    @Test
+    public void testRemove() {
+        set.remove("b");
+        assertEquals(2, set.size());
+        assertFalse(set.contains("b"));
+
+        set.remove("x");
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    public void testGrowAndShift() {
+        Set<Integer> numbers = new FlatHashSet<>(2);
+
+        for (int i = -10000; i < 10000; i++)
+            numbers.add(i);
+        assertEquals(20000, numbers.size());
+
+        for (int i = -10000; i < 10000; i += 3)
+            numbers.remove(i);
+
+        for (int i = -10000; i < 10000; i++)
+            assertEquals((i + 10000) % 3 != 0, numbers.contains(i));
+    }
+
+    @Test
+    public void testSetOperations() {
+        Set<String> other = new FlatHashSet<>();
+        other.add("b");
+        other.add("c");
+        other.add("d");
+
+        Set<String> union = set.union(other);
+        assertEquals(4, union.size());
+        assertTrue(union.contains("a") && union.contains("d"));
+
+        Set<String> hashed = new HashSet<>();
+        hashed.add("c");
+        hashed.add("e");
+        Set<String> mixedUnion = set.union(hashed);
+        assertEquals(4, mixedUnion.size());
+        assertTrue(mixedUnion.contains("a") && mixedUnion.contains("e"));
+
+        Set<String> intersection = set.intersection(other);
+        assertEquals(2, intersection.size());
+        assertTrue(intersection.contains("b") && intersection.contains("c"));
+
+        Set<String> difference = set.difference(other);
+        assertEquals(1, difference.size());
+        assertTrue(difference.contains("a"));
+
+        assertFalse(set.subset(other));
+        assertTrue(intersection.subset(set));
+    }
+
+    @Test
+    public void testInPlaceOperations() {
+        Set<Integer> numbers = new FlatHashSet<>(4);
+        Set<Integer> even = new FlatHashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            numbers.add(i);
+            if (i % 2 == 0)
+                even.add(i);
+        }
+
+        Set<Integer> more = new FlatHashSet<>();
+        for (int i = 500; i < 1500; i++)
+            more.add(i);
+
+        numbers.addAll(more);
+        assertEquals(1500, numbers.size());
+
+        assertTrue(numbers.removeAll(even));
+        assertFalse(numbers.removeAll(even));
+        assertEquals(1000, numbers.size());
+
+        assertTrue(numbers.retainAll(more));
+        assertFalse(numbers.retainAll(more));
+        assertEquals(750, numbers.size());
+        for (int i = 0; i < 1500; i++)
+            assertEquals(i >= 500 && (i % 2 != 0 || i >= 1000), numbers.contains(i));
+
+        Set<Integer> few = new FlatHashSet<>();
+        few.add(501);
+        few.add(2000);
+        assertTrue(numbers.removeAll(few));
+        assertEquals(749, numbers.size());
+        assertEquals(749, numbers.stream().count());
+    }
+
+    @Test
+    public void testParallelStream() {
+        Set<Integer> numbers = new FlatHashSet<>();
+        for (int i = 0; i < 10_000; i++)
+            numbers.add(i);
+
+        assertEquals(49_995_000L, numbers.parallelStream().mapToLong(Integer::longValue).sum());
+    }
+}
@@ -0,0 +1,125 @@
+import io.github.duckysmacky.dsa.collections.map.HashMap;
+import io.github.duckysmacky.dsa.collections.map.Map;
+import io.github.duckysmacky.dsa.collections.map.SimpleEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HashMapTests {
+    Map<String, Integer> map;
+
+    @BeforeEach
+    public void initializeMap() {
+        map = new HashMap<>();
+        map.put("one", 1);
+        map.put("two", 2);
+        map.put("three", 3);
+    }
+
+    @Test
+    public void testGeneralMap() {
+        assertEquals(3, map.size());
+        assertFalse(map.isEmpty());
+        assertEquals(2, map.get("two"));
+        assertNull(map.get("four"));
+        assertEquals(4, map.getOrDefault("four", 4));
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertTrue(map.isEmpty());
+        assertNull(map.get("one"));
+        assertEquals("{}", map.toString());
+    }
+
+    @Test
+    public void testPut() {
+        map.put("one", 10);
+        assertEquals(10, map.get("one"));
+        assertEquals(3, map.size());
+
+        map.putIfAbsent("one", 100);
+        assertEquals(10, map.get("one"));
+
+        map.putIfAbsent(new SimpleEntry<>("four", 4));
+        assertEquals(4, map.get("four"));
+        assertEquals(4, map.size());
+
+        map.replace("five", 5);
+        assertFalse(map.containsKey("five"));
+        map.replace("four", 40);
+        assertEquals(40, map.get("four"));
+
+        Executable putNullKey = () -> map.put(null, 0);
+        assertThrows(IllegalArgumentException.class, putNullKey);
+    }
+
+    @Test
+    public void testRemove() {
+        assertEquals(2, map.remove("two"));
+        assertNull(map.remove("two"));
+        assertEquals(2, map.size());
+        assertFalse(map.containsKey("two"));
+        assertTrue(map.containsKey("one"));
+        assertTrue(map.containsKey("three"));
+    }
+
+    @Test
+    public void testContains() {
+        assertTrue(map.containsKey("three"));
+        assertFalse(map.containsKey("four"));
+        assertTrue(map.containsValue(3));
+        assertFalse(map.containsValue(4));
+        assertEquals(3, map.keySet().size());
+        assertTrue(map.keySet().contains("one"));
+        assertTrue(map.entrySet().contains(new SimpleEntry<>("two", 2)));
+        assertTrue(map.values().contains(3));
+    }
+
+    @Test
+    public void testGrowAndShift() {
+        Map<Integer, Integer> numbers = new HashMap<>(2);
+
+        for (int i = -5000; i < 5000; i++)
+            numbers.put(i, i * 2);
+        assertEquals(10000, numbers.size());
+
+        for (int i = -5000; i < 5000; i += 2)
+            assertEquals(i * 2, numbers.remove(i));
+        assertEquals(5000, numbers.size());
+
+        for (int i = -5000; i < 5000; i++) {
+            if (i % 2 == 0)
+                assertFalse(numbers.containsKey(i));
+            else
+                assertEquals(i * 2, numbers.get(i));
+        }
+    }
+
+    @Test
+    public void testCollisions() {
+        Map<Colliding, Integer> colliding = new HashMap<>();
+
+        for (int i = 0; i < 100; i++)
+            colliding.put(new Colliding(i), i);
+
+        colliding.remove(new Colliding(0));
+        colliding.remove(new Colliding(50));
+
+        assertEquals(98, colliding.size());
+        assertNull(colliding.get(new Colliding(50)));
+        for (int i = 1; i < 100; i++) {
+            if (i != 50)
+                assertEquals(i, colliding.get(new Colliding(i)));
+        }
+    }
+
+    /// A key which always has the same hash code
+    private record Colliding(int value) {
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+}
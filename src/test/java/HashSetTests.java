@@ -0,0 +1,231 @@
+import io.github.duckysmacky.dsa.collections.set.HashSet;
+import io.github.duckysmacky.dsa.collections.set.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HashSetTests {
+    Set<String> set;
+
+    @BeforeEach
+    public void initializeSet() {
+        set = new HashSet<>();
+        set.add("a");
+        set.add("b");
+        set.add("c");
+    }
+
+    @Test
+    public void testGeneralSet() {
+        assertEquals(3, set.size());
+        assertFalse(set.isEmpty());
+        assertTrue(set.contains("b"));
+        assertFalse(set.contains("x"));
+
+        set.clear();
+        assertEquals(0, set.size());
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains("b"));
+    }
+
+    @Test
+    public void testIteration() {
+        Set<Integer> numbers = new HashSet<>(4);
+        for (int i = -50; i < 50; i++)
+            numbers.add(i);
+
+        int sum = 0;
+        int count = 0;
+        for (int number : numbers) {
+            sum += number;
+            count++;
+        }
+        assertEquals(100, count);
+        assertEquals(-50, sum);
+        assertEquals(-50, numbers.stream().mapToInt(Integer::intValue).sum());
+
+        Iterator<String> iterator = set.iterator();
+        set.add("d");
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    public void testParallelStream() {
+        Set<Integer> numbers = new HashSet<>();
+        for (int i = 0; i < 10_000; i++)
+            numbers.add(i);
+
+        assertEquals(49_995_000L, numbers.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(10_000, numbers.parallelStream().distinct().count());
+    }
+
+    @Test
+    public void testIncrementalResize() {
+        HashSet<Integer> numbers = new HashSet<>(8, 0.75d, true);
+        assertTrue(numbers.isIncrementalResize());
+
+        boolean resized = false;
+        for (int i = 0; i < 1000; i++) {
+            numbers.add(i);
+            numbers.add(i);
+            resized |= numbers.isResizing();
+
+            assertEquals(i + 1, numbers.size());
+            assertTrue(numbers.contains(i));
+            assertTrue(numbers.contains(i / 2));
+        }
+        assertTrue(resized);
+        assertEquals(1000, numbers.stream().count());
+        assertEquals(499_500, numbers.stream().mapToInt(Integer::intValue).sum());
+
+        for (int i = 0; i < 1000; i += 2)
+            numbers.remove(i);
+        assertEquals(500, numbers.size());
+        assertFalse(numbers.isResizing());
+        for (int i = 0; i < 1000; i++)
+            assertEquals(i % 2 != 0, numbers.contains(i));
+    }
+
+    @Test
+    public void testSetOperations() {
+        Set<String> other = new HashSet<>();
+        other.add("b");
+        other.add("c");
+        other.add("d");
+        other.add("e");
+
+        Set<String> union = set.union(other);
+        assertEquals(5, union.size());
+        assertTrue(union.contains("a") && union.contains("e"));
+
+        Set<String> intersection = set.intersection(other);
+        assertEquals(2, intersection.size());
+        assertTrue(intersection.contains("b") && intersection.contains("c"));
+        assertEquals(intersection.size(), other.intersection(set).size());
+
+        Set<String> difference = set.difference(other);
+        assertEquals(1, difference.size());
+        assertTrue(difference.contains("a"));
+        assertEquals(2, other.difference(set).size());
+
+        assertFalse(set.subset(other));
+        assertTrue(intersection.subset(set));
+        assertTrue(intersection.subset(other));
+        assertFalse(other.subset(set));
+        assertTrue(new HashSet<String>().subset(set));
+    }
+
+    @Test
+    public void testInPlaceOperations() {
+        Set<Integer> numbers = new HashSet<>(4);
+        Set<Integer> even = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            numbers.add(i);
+            if (i % 2 == 0)
+                even.add(i);
+        }
+
+        Set<Integer> more = new HashSet<>();
+        for (int i = 500; i < 1500; i++)
+            more.add(i);
+
+        numbers.addAll(more);
+        assertEquals(1500, numbers.size());
+
+        assertTrue(numbers.removeAll(even));
+        assertFalse(numbers.removeAll(even));
+        assertEquals(1000, numbers.size());
+
+        assertTrue(numbers.retainAll(more));
+        assertFalse(numbers.retainAll(more));
+        assertEquals(750, numbers.size());
+        for (int i = 0; i < 1500; i++)
+            assertEquals(i >= 500 && (i % 2 != 0 || i >= 1000), numbers.contains(i));
+
+        Set<Integer> few = new HashSet<>();
+        few.add(501);
+        few.add(2000);
+        assertTrue(numbers.removeAll(few));
+        assertEquals(749, numbers.size());
+        assertEquals(749, numbers.stream().count());
+
+        // small additions to a full set still have to double it, instead of growing it by a few buckets each time
+        HashSet<Integer> growing = new HashSet<>(16);
+        for (int i = 0; i < 2000; i++) {
+            Set<Integer> single = new HashSet<>();
+            single.add(i);
+            growing.addAll(single);
+        }
+        assertEquals(2000, growing.size());
+        assertEquals(4096, growing.capacity());
+    }
+
+    @Test
+    public void testCollisions() {
+        Set<Colliding> colliding = new HashSet<>();
+        Set<Object> mixed = new HashSet<>();
+
+        for (int i = 0; i < 1000; i++) {
+            colliding.add(new Colliding(i));
+            mixed.add(new Colliding(i));
+            mixed.add(new CollidingUncomparable(i));
+        }
+        assertEquals(1000, colliding.size());
+        assertEquals(2000, mixed.size());
+
+        for (int i = 0; i < 1000; i += 2) {
+            colliding.remove(new Colliding(i));
+            mixed.remove(new Colliding(i));
+            mixed.remove(new CollidingUncomparable(i));
+        }
+        assertEquals(500, colliding.size());
+        assertEquals(1000, mixed.size());
+        assertEquals(500, colliding.stream().count());
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 != 0, colliding.contains(new Colliding(i)));
+            assertEquals(i % 2 != 0, mixed.contains(new Colliding(i)));
+            assertEquals(i % 2 != 0, mixed.contains(new CollidingUncomparable(i)));
+        }
+
+        // an element of another class can't be in the tree, so removing it must leave the tree as it is
+        Set<Object> objects = new HashSet<>();
+        for (int i = 0; i < 100; i++)
+            objects.add(new Colliding(i));
+        for (int i = 0; i < 100; i++)
+            objects.remove(new CollidingUncomparable(i));
+        assertEquals(100, objects.size());
+        for (int i = 0; i < 100; i++)
+            assertTrue(objects.contains(new Colliding(i)));
+
+        for (int i = 1; i < 1000; i += 2)
+            colliding.remove(new Colliding(i));
+        assertTrue(colliding.isEmpty());
+        assertEquals("{}", colliding.toString());
+    }
+
+    /// A comparable element which always has the same hash code
+    private record Colliding(int value) implements Comparable<Colliding> {
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public int compareTo(Colliding other) {
+            return Integer.compare(value, other.value);
+        }
+    }
+
+    /// An element which always has the same hash code as `Colliding`, but can't be compared
+    private record CollidingUncomparable(int value) {
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+import io.github.duckysmacky.dsa.collections.list.IntArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntArrayListTests {
+    IntArrayList list;
+
+    @BeforeEach
+    void initializeList() {
+        list = new IntArrayList(2);
+        list.add(1);
+        list.add(2);
+        list.add(3);
+        list.add(4);
+    }
+
+    @Test
+    void testInitialization() {
+        assertEquals(4, list.size());
+        assertFalse(list.isEmpty());
+        assertEquals(IntArrayList.of(1, 2, 3, 4), list);
+        assertEquals("[1, 2, 3, 4]", list.toString());
+    }
+
+    @Test
+    void testClear() {
+        list.clear();
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+        assertEquals(new IntArrayList(), list);
+    }
+
+    @Test
+    void testAddAtIndex() {
+        list.add(2, 9);
+        assertEquals(IntArrayList.of(1, 2, 9, 3, 4), list);
+
+        list.add(0, 8);
+        assertEquals(IntArrayList.of(8, 1, 2, 9, 3, 4), list);
+
+        list.add(6, 7);
+        assertEquals(IntArrayList.of(8, 1, 2, 9, 3, 4, 7), list);
+    }
+
+    @Test
+    void testAddAll() {
+        list.addAll(5, 6, 7);
+        assertEquals(IntArrayList.of(1, 2, 3, 4, 5, 6, 7), list);
+
+        list.addAll(new int[] {10, 11, 12, 13}, 1, 3);
+        assertEquals(IntArrayList.of(1, 2, 3, 4, 5, 6, 7, 11, 12), list);
+    }
+
+    @Test
+    void testRemove() {
+        assertEquals(4, list.remove());
+        assertEquals(2, list.remove(1));
+        assertEquals(IntArrayList.of(1, 3), list);
+
+        list.clear();
+        Executable removeWhenEmpty = () -> list.remove();
+        assertThrows(NoSuchElementException.class, removeWhenEmpty);
+    }
+
+    @Test
+    void testAccess() {
+        assertEquals(1, list.getFirst());
+        assertEquals(4, list.getLast());
+        assertEquals(2, list.find(3));
+        assertEquals(-1, list.find(5));
+        assertTrue(list.contains(4));
+
+        list.set(0, 0);
+        assertEquals(0, list.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(4));
+
+        list.reverse();
+        assertArrayEquals(new int[] {4, 3, 2, 0}, list.toArray());
+    }
+
+    @Test
+    void testIteration() {
+        int[] sum = {0};
+        list.forEach(value -> sum[0] += value);
+        assertEquals(10, sum[0]);
+        assertEquals(10, list.stream().sum());
+
+        PrimitiveIterator.OfInt iterator = list.iterator();
+        assertEquals(1, iterator.nextInt());
+        list.add(5);
+        assertThrows(ConcurrentModificationException.class, iterator::nextInt);
+    }
+}
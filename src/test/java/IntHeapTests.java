@@ -0,0 +1,87 @@
+import io.github.duckysmacky.dsa.collections.heap.IntHeap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntHeapTests {
+    @Test
+    public void testMinHeap() {
+        IntHeap heap = IntHeap.minHeapify(5, 3, 8, 1, 9, 2);
+        assertEquals(6, heap.size());
+        assertEquals(1, heap.peek());
+
+        heap.add(0);
+        assertEquals(0, heap.peek());
+
+        int[] expected = {0, 1, 2, 3, 5, 8, 9};
+        for (int value : expected)
+            assertEquals(value, heap.remove());
+
+        assertTrue(heap.isEmpty());
+        Executable removeWhenEmpty = heap::remove;
+        assertThrows(NoSuchElementException.class, removeWhenEmpty);
+    }
+
+    @Test
+    public void testMaxHeap() {
+        IntHeap heap = IntHeap.maxHeap();
+        for (int value : new int[] {4, 7, 1, 7, 3})
+            heap.add(value);
+
+        int[] expected = {7, 7, 4, 3, 1};
+        for (int value : expected)
+            assertEquals(value, heap.remove());
+    }
+
+    @Test
+    public void testDecreaseKey() {
+        IntHeap heap = IntHeap.indexedMinHeap(2);
+        int a = heap.add(10);
+        int b = heap.add(20);
+        int c = heap.add(30);
+
+        heap.decreaseKey(c, 5);
+        assertEquals(c, heap.peekHandle());
+        assertEquals(5, heap.get(c));
+
+        heap.increaseKey(c, 25);
+        assertEquals(a, heap.peekHandle());
+
+        Executable increaseWithDecrease = () -> heap.decreaseKey(b, 50);
+        assertThrows(IllegalArgumentException.class, increaseWithDecrease);
+
+        assertEquals(20, heap.remove(b));
+        assertFalse(heap.containsHandle(b));
+        assertThrows(IllegalArgumentException.class, () -> heap.get(b));
+
+        assertEquals(10, heap.remove());
+        assertEquals(25, heap.remove());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void testRandomOperations() {
+        Random random = new Random(42);
+        IntHeap heap = IntHeap.indexedMinHeap(4);
+        int[] handles = new int[1000];
+
+        for (int i = 0; i < handles.length; i++)
+            handles[i] = heap.add(random.nextInt(100));
+
+        for (int i = 0; i < handles.length; i += 2)
+            heap.update(handles[i], random.nextInt(100));
+        for (int i = 1; i < handles.length; i += 4)
+            heap.remove(handles[i]);
+
+        int previous = Integer.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            int current = heap.remove();
+            assertTrue(previous <= current);
+            previous = current;
+        }
+    }
+}
@@ -1,6 +1,11 @@
+import io.github.duckysmacky.dsa.collections.list.ArrayList;
 import io.github.duckysmacky.dsa.collections.list.LinkedList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -29,7 +34,7 @@ public class LinkedListTests {
 
     @Test
     public void testAddEnd() {
-        list.addFirst("x");
+        list.addLast("x");
         assertEquals("[a -> b -> c -> x]", list.toString());
     }
 
@@ -44,4 +49,88 @@ public class LinkedListTests {
         list.reverse();
         assertEquals("[c -> b -> a]", list.toString());
     }
+
+    @Test
+    public void testIteration() {
+        StringBuilder builder = new StringBuilder();
+        for (String element : list)
+            builder.append(element);
+        assertEquals("abc", builder.toString());
+
+        assertEquals(3, list.stream().count());
+
+        Iterator<String> iterator = list.iterator();
+        list.removeFirst();
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+
+        Iterator<String> reversedIterator = list.iterator();
+        list.reverse();
+        assertThrows(ConcurrentModificationException.class, reversedIterator::next);
+    }
+
+    @Test
+    public void testAddAll() {
+        list.addAll(ArrayList.of("x", "y"));
+        assertEquals("[a -> b -> c -> x -> y]", list.toString());
+
+        list.addAll(0, ArrayList.of("p"));
+        list.addAll(3, ArrayList.of("q", "r"));
+        assertEquals("[p -> a -> b -> q -> r -> c -> x -> y]", list.toString());
+        assertEquals(8, list.size());
+
+        list.addLast("z");
+        assertEquals("z", list.getLast());
+    }
+
+    @Test
+    public void testRemoveIf() {
+        assertTrue(list.removeIf(element -> !element.equals("b")));
+        assertEquals("[b]", list.toString());
+        assertEquals(1, list.size());
+
+        list.addLast("x");
+        assertEquals("[b -> x]", list.toString());
+
+        assertTrue(list.retainAll(ArrayList.of("a", "b")));
+        assertEquals("[b]", list.toString());
+        assertEquals(0, list.find("b"));
+        assertTrue(list.contains("b"));
+
+        // the predicate runs for every element before anything is unlinked, so a failure leaves the list as it was
+        list.addFirst("a");
+        list.addLast("c");
+        Executable failingRemoveIf = () -> list.removeIf(element -> {
+            if (element.equals("c"))
+                throw new IllegalStateException();
+            return element.equals("a");
+        });
+        assertThrows(IllegalStateException.class, failingRemoveIf);
+        assertEquals("[a -> b -> c]", list.toString());
+        assertEquals(3, list.size());
+        list.addLast("d");
+        assertEquals("d", list.getLast());
+
+        LinkedList<Integer> numbers = new LinkedList<>();
+        for (int i = 0; i < 200; i++)
+            numbers.addLast(i);
+        assertTrue(numbers.removeIf(number -> number % 3 == 1 || number == 150 || number == 198));
+        assertEquals(131, numbers.size());
+        assertEquals(197, numbers.getLast());
+        for (int i = 0, expected = 0; i < numbers.size(); i++, expected++) {
+            while (expected % 3 == 1 || expected == 150)
+                expected++;
+            assertEquals(expected, numbers.get(i));
+        }
+    }
+
+    @Test
+    public void testRemoveLast() {
+        assertEquals("c", list.removeLast());
+        assertEquals("b", list.removeLast());
+        assertEquals("a", list.removeLast());
+        assertTrue(list.isEmpty());
+
+        list.addLast("x");
+        assertEquals("[x]", list.toString());
+    }
 }
@@ -83,4 +83,15 @@ public class LinkedQueueTests {
         assertThrows(NoSuchElementException.class, removeWhenEmpty);
         assertNull(queue.poll());
     }
+
+    @Test
+    public void testDrainAndRefill() {
+        while (queue.poll() != null);
+
+        queue.add("again");
+        assertEquals("[again]", queue.toString());
+        assertTrue(queue.contains("again"));
+        assertFalse(queue.contains("first"));
+        assertEquals("again", queue.remove());
+    }
 }
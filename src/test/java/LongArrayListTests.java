@@ -0,0 +1,102 @@
+import io.github.duckysmacky.dsa.collections.list.LongArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongArrayListTests {
+    private static final long BIG = 1L << 40;
+
+    LongArrayList list;
+
+    @BeforeEach
+    void initializeList() {
+        list = new LongArrayList(2);
+        list.add(1);
+        list.add(2);
+        list.add(BIG);
+        list.add(4);
+    }
+
+    @Test
+    void testInitialization() {
+        assertEquals(4, list.size());
+        assertFalse(list.isEmpty());
+        assertEquals(LongArrayList.of(1, 2, BIG, 4), list);
+        assertEquals("[1, 2, 1099511627776, 4]", list.toString());
+    }
+
+    @Test
+    void testClear() {
+        list.clear();
+        assertEquals(0, list.size());
+        assertTrue(list.isEmpty());
+        assertEquals(new LongArrayList(), list);
+    }
+
+    @Test
+    void testAddAtIndex() {
+        list.add(2, 9);
+        assertEquals(LongArrayList.of(1, 2, 9, BIG, 4), list);
+
+        list.add(0, -BIG);
+        assertEquals(LongArrayList.of(-BIG, 1, 2, 9, BIG, 4), list);
+
+        list.add(6, 7);
+        assertEquals(LongArrayList.of(-BIG, 1, 2, 9, BIG, 4, 7), list);
+    }
+
+    @Test
+    void testAddAll() {
+        list.addAll(5, 6, 7);
+        assertEquals(LongArrayList.of(1, 2, BIG, 4, 5, 6, 7), list);
+
+        list.addAll(new long[] {10, 11, 12, 13}, 1, 3);
+        assertEquals(LongArrayList.of(1, 2, BIG, 4, 5, 6, 7, 11, 12), list);
+    }
+
+    @Test
+    void testRemove() {
+        assertEquals(4, list.remove());
+        assertEquals(2, list.remove(1));
+        assertEquals(LongArrayList.of(1, BIG), list);
+
+        list.clear();
+        Executable removeWhenEmpty = () -> list.remove();
+        assertThrows(NoSuchElementException.class, removeWhenEmpty);
+    }
+
+    @Test
+    void testAccess() {
+        assertEquals(1, list.getFirst());
+        assertEquals(4, list.getLast());
+        assertEquals(2, list.find(BIG));
+        assertEquals(-1, list.find(BIG + 1));
+        assertTrue(list.contains(4));
+
+        list.set(0, 0);
+        assertEquals(0, list.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(4));
+
+        list.reverse();
+        assertArrayEquals(new long[] {4, BIG, 2, 0}, list.toArray());
+    }
+
+    @Test
+    void testIteration() {
+        long[] sum = {0};
+        list.forEach(value -> sum[0] += value);
+        assertEquals(BIG + 7, sum[0]);
+        assertEquals(BIG + 7, list.stream().sum());
+
+        PrimitiveIterator.OfLong iterator = list.iterator();
+        assertEquals(1, iterator.nextLong());
+        list.add(5);
+        assertThrows(ConcurrentModificationException.class, iterator::nextLong);
+    }
+}
@@ -0,0 +1,115 @@
+import io.github.duckysmacky.dsa.collections.heap.LongHeap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongHeapTests {
+    private static final long BIG = 1L << 40;
+
+    @Test
+    public void testMinHeap() {
+        LongHeap heap = LongHeap.minHeapify(5, BIG, 8, 1, -BIG, 2);
+        assertEquals(6, heap.size());
+        assertEquals(-BIG, heap.peek());
+
+        heap.add(-BIG - 1);
+        assertEquals(-BIG - 1, heap.peek());
+
+        long[] expected = {-BIG - 1, -BIG, 1, 2, 5, 8, BIG};
+        for (long value : expected)
+            assertEquals(value, heap.remove());
+
+        assertTrue(heap.isEmpty());
+        Executable removeWhenEmpty = heap::remove;
+        assertThrows(NoSuchElementException.class, removeWhenEmpty);
+    }
+
+    @Test
+    public void testMaxHeap() {
+        LongHeap heap = LongHeap.maxHeap();
+        for (long value : new long[] {4, BIG, 1, BIG, 3})
+            heap.add(value);
+
+        long[] expected = {BIG, BIG, 4, 3, 1};
+        for (long value : expected)
+            assertEquals(value, heap.remove());
+
+        LongHeap heapified = LongHeap.maxHeapify(3, 9, 6);
+        assertEquals(9, heapified.peek());
+        assertTrue(heapified.contains(6));
+        assertFalse(heapified.contains(7));
+    }
+
+    @Test
+    public void testDecreaseKey() {
+        LongHeap heap = LongHeap.indexedMinHeap(2);
+        int a = heap.add(10);
+        int b = heap.add(20);
+        int c = heap.add(BIG);
+
+        heap.decreaseKey(c, 5);
+        assertEquals(c, heap.peekHandle());
+        assertEquals(5, heap.get(c));
+
+        heap.increaseKey(c, 25);
+        assertEquals(a, heap.peekHandle());
+
+        Executable increaseWithDecrease = () -> heap.decreaseKey(b, 50);
+        assertThrows(IllegalArgumentException.class, increaseWithDecrease);
+
+        assertEquals(20, heap.remove(b));
+        assertFalse(heap.containsHandle(b));
+        assertThrows(IllegalArgumentException.class, () -> heap.get(b));
+
+        assertEquals(10, heap.remove());
+        assertEquals(25, heap.remove());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void testMaxHeapHandles() {
+        LongHeap heap = LongHeap.indexedMaxHeap(4);
+        int a = heap.add(10);
+        int b = heap.add(20);
+        int c = heap.add(30);
+
+        heap.increaseKey(a, BIG);
+        assertEquals(a, heap.peekHandle());
+
+        heap.update(a, 0);
+        assertEquals(c, heap.peekHandle());
+
+        assertEquals(30, heap.remove(c));
+        assertEquals(b, heap.peekHandle());
+        assertEquals(20, heap.remove());
+        assertEquals(0, heap.remove());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void testRandomOperations() {
+        Random random = new Random(42);
+        LongHeap heap = LongHeap.indexedMinHeap(4);
+        int[] handles = new int[1000];
+
+        for (int i = 0; i < handles.length; i++)
+            handles[i] = heap.add(random.nextLong());
+
+        for (int i = 0; i < handles.length; i += 2)
+            heap.update(handles[i], random.nextLong());
+        for (int i = 1; i < handles.length; i += 4)
+            heap.remove(handles[i]);
+        assertEquals(750, heap.size());
+
+        long previous = Long.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            long current = heap.remove();
+            assertTrue(previous <= current);
+            previous = current;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+import io.github.duckysmacky.dsa.collections.queue.MpscRingBuffer;
+import io.github.duckysmacky.dsa.collections.queue.SpscRingBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RingBufferTests {
+    private static final int PRODUCERS = 4;
+    private static final int ELEMENTS_PER_PRODUCER = 200_000;
+
+    SpscRingBuffer<String> buffer;
+
+    @BeforeEach
+    public void initializeBuffer() {
+        buffer = new SpscRingBuffer<>(3);
+        buffer.add("first");
+        buffer.add("middle");
+        buffer.add("last");
+    }
+
+    @Test
+    public void testGeneralBuffer() {
+        assertEquals(4, buffer.capacity());
+        assertEquals(3, buffer.size());
+        assertFalse(buffer.isFull());
+        assertEquals("[first < middle < last]", buffer.toString());
+        assertTrue(buffer.contains("middle"));
+
+        assertTrue(buffer.offer("extra"));
+        assertTrue(buffer.isFull());
+        assertFalse(buffer.offer("overflow"));
+        Executable addWhenFull = () -> buffer.add("overflow");
+        assertThrows(IllegalStateException.class, addWhenFull);
+
+        buffer.clear();
+        assertTrue(buffer.isEmpty());
+        assertEquals("[]", buffer.toString());
+        Executable removeWhenEmpty = () -> buffer.remove();
+        assertThrows(NoSuchElementException.class, removeWhenEmpty);
+        assertThrows(IllegalArgumentException.class, () -> buffer.offer(null));
+        assertThrows(IllegalArgumentException.class, () -> new MpscRingBuffer<>(0));
+    }
+
+    @Test
+    public void testWrapAround() {
+        for (int i = 0; i < 10; i++) {
+            assertEquals("first", buffer.poll());
+            buffer.add("first");
+            buffer.add(buffer.poll());
+            buffer.add(buffer.poll());
+        }
+
+        assertEquals("first", buffer.peek());
+        assertEquals("[first < middle < last]", buffer.toString());
+    }
+
+    @Test
+    public void testBatchOperations() {
+        String[] batch = {"a", "b", "c"};
+        assertEquals(1, buffer.offerAll(batch));
+        assertEquals(0, buffer.offerAll(batch));
+
+        List<String> drained = new ArrayList<>();
+        assertEquals(2, buffer.drainTo(drained::add, 2));
+        assertEquals(List.of("first", "middle"), drained);
+
+        assertEquals(2, buffer.offerAll(batch, 1, 3));
+        assertEquals(4, buffer.drainTo(drained::add));
+        assertEquals(List.of("first", "middle", "last", "a", "b", "c"), drained);
+        assertTrue(buffer.isEmpty());
+
+        assertThrows(IllegalArgumentException.class, () -> buffer.offerAll(new String[]{"x", null}));
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void testSingleProducerSingleConsumer() throws InterruptedException {
+        SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(64);
+        int count = ELEMENTS_PER_PRODUCER * PRODUCERS;
+
+        Thread producer = new Thread(() -> {
+            Integer[] batch = new Integer[8];
+            int next = 0;
+
+            while (next < count) {
+                if (next % 3 == 0) {
+                    if (buffer.offer(next))
+                        next++;
+                    else
+                        Thread.yield();
+                } else {
+                    int length = Math.min(batch.length, count - next);
+                    for (int i = 0; i < length; i++)
+                        batch[i] = next + i;
+
+                    int added = buffer.offerAll(batch, 0, length);
+                    if (added == 0)
+                        Thread.yield();
+                    next += added;
+                }
+            }
+        });
+        producer.start();
+
+        int[] expected = {0};
+        while (expected[0] < count) {
+            buffer.drainTo(element -> assertEquals(expected[0]++, element), 16);
+            Integer element = buffer.poll();
+            if (element != null)
+                assertEquals(expected[0]++, element);
+            else
+                Thread.yield();
+        }
+
+        producer.join();
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void testMultipleProducers() throws InterruptedException {
+        MpscRingBuffer<Long> buffer = new MpscRingBuffer<>(128);
+        List<Thread> producers = new ArrayList<>();
+
+        for (int p = 0; p < PRODUCERS; p++) {
+            final long producer = p;
+            producers.add(new Thread(() -> {
+                Long[] batch = new Long[4];
+                int next = 0;
+
+                while (next < ELEMENTS_PER_PRODUCER) {
+                    if (next % 2 == 0) {
+                        if (buffer.offer(producer << 32 | next))
+                            next++;
+                        else
+                            Thread.yield();
+                    } else {
+                        int length = Math.min(batch.length, ELEMENTS_PER_PRODUCER - next);
+                        for (int i = 0; i < length; i++)
+                            batch[i] = producer << 32 | (next + i);
+
+                        int added = buffer.offerAll(batch, 0, length);
+                        if (added == 0)
+                            Thread.yield();
+                        next += added;
+                    }
+                }
+            }));
+        }
+        producers.forEach(Thread::start);
+
+        int[] nextSequence = new int[PRODUCERS];
+        int consumed = 0;
+
+        while (consumed < PRODUCERS * ELEMENTS_PER_PRODUCER) {
+            Long element = buffer.poll();
+            if (element == null) {
+                Thread.yield();
+                continue;
+            }
+
+            int producer = (int) (element >>> 32);
+            assertEquals(nextSequence[producer]++, (int) (long) element);
+            consumed++;
+        }
+
+        for (Thread producer : producers)
+            producer.join();
+
+        int[] expected = new int[PRODUCERS];
+        Arrays.fill(expected, ELEMENTS_PER_PRODUCER);
+        assertArrayEquals(expected, nextSequence);
+        assertTrue(buffer.isEmpty());
+        assertNull(buffer.poll());
+    }
+}
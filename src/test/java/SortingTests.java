@@ -0,0 +1,291 @@
+import io.github.duckysmacky.dsa.algorithms.DualPivotQuickSort;
+import io.github.duckysmacky.dsa.algorithms.HeapSort;
+import io.github.duckysmacky.dsa.algorithms.IntroSort;
+import io.github.duckysmacky.dsa.algorithms.MergeSort;
+import io.github.duckysmacky.dsa.algorithms.ParallelMergeSort;
+import io.github.duckysmacky.dsa.algorithms.RadixSort;
+import io.github.duckysmacky.dsa.collections.Array;
+import io.github.duckysmacky.dsa.collections.list.ArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SortingTests {
+    private static final int[] SIZES = {0, 1, 2, 10, 47, 100, 1_000, 100_000};
+
+    Random random;
+
+    @BeforeEach
+    void initializeRandom() {
+        random = new Random(42);
+    }
+
+    /// Generates random values in `[0, bound)`, so that smaller bounds produce a lot of duplicates
+    private int[] randomInts(int size, int bound) {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++)
+            values[i] = random.nextInt(bound) - bound / 2;
+        return values;
+    }
+
+    private Integer[] boxed(int[] values) {
+        return Arrays.stream(values).boxed().toArray(Integer[]::new);
+    }
+
+    @Test
+    void testIntroSort() {
+        for (int size : SIZES) {
+            for (int bound : new int[]{10, Integer.MAX_VALUE}) {
+                Integer[] values = boxed(randomInts(size, bound));
+                Integer[] expected = values.clone();
+                Arrays.sort(expected);
+
+                IntroSort.sort(values);
+                assertArrayEquals(expected, values);
+
+                IntroSort.sort(values, Comparator.reverseOrder());
+                Arrays.sort(expected, Comparator.reverseOrder());
+                assertArrayEquals(expected, values);
+            }
+        }
+
+        Integer[] values = {5, 4, 3, 2, 1};
+        IntroSort.sort(values, 1, 4, Comparator.naturalOrder());
+        assertArrayEquals(new Integer[]{5, 2, 3, 4, 1}, values);
+        Comparator<Integer> order = Comparator.naturalOrder();
+        assertThrows(IllegalArgumentException.class, () -> IntroSort.sort(values, 3, 1, order));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> IntroSort.sort(values, 0, 6, order));
+    }
+
+    @Test
+    void testIntroSortAdversarial() {
+        // Inputs which degrade a naive quicksort to a quadratic running time
+        Integer[] sorted = new Integer[100_000];
+        Integer[] equal = new Integer[100_000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+            equal[i] = 7;
+        }
+
+        Integer[] reversed = sorted.clone();
+        IntroSort.sort(reversed, Comparator.reverseOrder());
+        IntroSort.sort(reversed);
+        assertArrayEquals(sorted, reversed);
+
+        IntroSort.sort(equal);
+        assertEquals(7, equal[equal.length - 1]);
+    }
+
+    @Test
+    void testMergeSortStability() {
+        for (int size : SIZES) {
+            int[] keys = randomInts(size, 20);
+            int[][] records = new int[size][];
+            for (int i = 0; i < size; i++)
+                records[i] = new int[]{keys[i], i};
+
+            int[][] expected = records.clone();
+            Arrays.sort(expected, Comparator.comparingInt(record -> record[0]));
+
+            MergeSort.sort(records, Comparator.comparingInt(record -> record[0]));
+            assertArrayEquals(expected, records);
+        }
+    }
+
+    @Test
+    void testMergeSortRuns() {
+        // Ascending and descending runs of different lengths, which exercise the run detection and the merges
+        Integer[] values = new Integer[10_000];
+        int index = 0;
+        while (index < values.length) {
+            int length = Math.min(1 + random.nextInt(500), values.length - index);
+            int start = random.nextInt(1_000);
+            boolean descending = random.nextBoolean();
+
+            for (int i = 0; i < length; i++)
+                values[index++] = descending ? start - i : start + i;
+        }
+
+        Integer[] expected = values.clone();
+        Arrays.sort(expected);
+
+        MergeSort.sort(values);
+        assertArrayEquals(expected, values);
+    }
+
+    @Test
+    void testCollections() {
+        ArrayList<Integer> list = ArrayList.of(5, 3, 9, 1, 7);
+        IntroSort.sort(list);
+        assertEquals(ArrayList.of(1, 3, 5, 7, 9), list);
+
+        MergeSort.sort(list, Comparator.reverseOrder());
+        assertEquals(ArrayList.of(9, 7, 5, 3, 1), list);
+
+        Array<String> array = new Array<>("d", "b", "a", "c");
+        MergeSort.sort(array);
+        assertEquals(new Array<>("a", "b", "c", "d"), array);
+
+        IntroSort.sort(array, Comparator.reverseOrder());
+        assertEquals(new Array<>("d", "c", "b", "a"), array);
+    }
+
+    @Test
+    void testDualPivotQuickSort() {
+        for (int size : SIZES) {
+            for (int bound : new int[]{3, 1_000, Integer.MAX_VALUE}) {
+                int[] values = randomInts(size, bound);
+                int[] expected = values.clone();
+                Arrays.sort(expected);
+
+                DualPivotQuickSort.sort(values);
+                assertArrayEquals(expected, values);
+
+                long[] longs = Arrays.stream(randomInts(size, bound)).asLongStream()
+                    .map(value -> value * 3_000_000_000L)
+                    .toArray();
+                long[] expectedLongs = longs.clone();
+                Arrays.sort(expectedLongs);
+
+                DualPivotQuickSort.sort(longs);
+                assertArrayEquals(expectedLongs, longs);
+            }
+        }
+    }
+
+    @Test
+    void testRadixSort() {
+        for (int size : SIZES) {
+            int[] values = randomInts(size, Integer.MAX_VALUE);
+            if (size > 0)
+                values[0] = Integer.MIN_VALUE;
+            int[] expected = values.clone();
+            Arrays.sort(expected);
+
+            RadixSort.sort(values);
+            assertArrayEquals(expected, values);
+
+            long[] longs = random.longs(size).toArray();
+            long[] expectedLongs = longs.clone();
+            Arrays.sort(expectedLongs);
+
+            RadixSort.sort(longs);
+            assertArrayEquals(expectedLongs, longs);
+        }
+
+        int[] values = {9, 8, 300, 7, -1, 0};
+        RadixSort.sort(values, 1, 5);
+        assertArrayEquals(new int[]{9, -1, 7, 8, 300, 0}, values);
+    }
+
+    @Test
+    void testHeapSort() {
+        for (int size : SIZES) {
+            int[] values = randomInts(size, 1_000);
+            int[] expected = values.clone();
+            Arrays.sort(expected);
+
+            Integer[] objects = boxed(values);
+            HeapSort.sort(objects);
+            assertArrayEquals(boxed(expected), objects);
+
+            long[] longs = Arrays.stream(values).asLongStream().toArray();
+            HeapSort.sort(longs);
+            assertArrayEquals(Arrays.stream(expected).asLongStream().toArray(), longs);
+
+            HeapSort.sort(values);
+            assertArrayEquals(expected, values);
+        }
+
+        ArrayList<String> list = ArrayList.of("c", "a", "d", "b");
+        HeapSort.sort(list, Comparator.reverseOrder());
+        assertEquals(ArrayList.of("d", "c", "b", "a"), list);
+
+        assertEquals(java.util.List.of(1, 2, 3), HeapSort.sortAscending(3, 1, 2));
+        assertEquals(java.util.List.of(3, 2, 1), HeapSort.sortDescending(3, 1, 2));
+    }
+
+    @Test
+    void testPartialSort() {
+        int[] values = randomInts(1_000, 100_000);
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+
+        for (int k : new int[]{0, 1, 10, 999, 1_000}) {
+            int[] partial = values.clone();
+            HeapSort.partialSort(partial, k);
+            assertArrayEquals(Arrays.copyOf(expected, k), Arrays.copyOf(partial, k));
+
+            int[] rest = Arrays.copyOfRange(partial, k, partial.length);
+            Arrays.sort(rest);
+            assertArrayEquals(Arrays.copyOfRange(expected, k, expected.length), rest);
+        }
+
+        Integer[] objects = boxed(values);
+        HeapSort.partialSort(objects, 3, Comparator.reverseOrder());
+        assertArrayEquals(new Integer[]{expected[999], expected[998], expected[997]}, Arrays.copyOf(objects, 3));
+
+        long[] longs = {9, 5, 7, 1, 3, 0};
+        HeapSort.partialSort(longs, 1, 5, 2);
+        assertEquals(1, longs[1]);
+        assertEquals(3, longs[2]);
+        assertEquals(9, longs[0]);
+        assertEquals(0, longs[5]);
+
+        assertThrows(IllegalArgumentException.class, () -> HeapSort.partialSort(longs, 7));
+    }
+
+    @Test
+    void testParallelMergeSort() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        ParallelMergeSort sort = new ParallelMergeSort(pool, 16);
+
+        try {
+            for (int size : new int[]{0, 10, 1_000, 300_000}) {
+                int[] values = randomInts(size, Integer.MAX_VALUE);
+                int[] expected = values.clone();
+                Arrays.sort(expected);
+
+                long[] longs = Arrays.stream(values).asLongStream().toArray();
+                sort.sort(longs);
+                assertArrayEquals(Arrays.stream(expected).asLongStream().toArray(), longs);
+
+                sort.sort(values);
+                assertArrayEquals(expected, values);
+
+                // Sorting an already sorted input copies the halves instead of merging them
+                sort.sort(values);
+                assertArrayEquals(expected, values);
+            }
+
+            int[] keys = randomInts(300_000, 50);
+            int[][] records = new int[keys.length][];
+            for (int i = 0; i < keys.length; i++)
+                records[i] = new int[]{keys[i], i};
+
+            int[][] expected = records.clone();
+            Arrays.sort(expected, Comparator.comparingInt(record -> record[0]));
+
+            sort.sort(records, Comparator.comparingInt(record -> record[0]));
+            assertArrayEquals(expected, records);
+
+            int[] range = {9, 8, 7, 6, 5, 4};
+            sort.sort(range, 1, 5);
+            assertArrayEquals(new int[]{9, 5, 6, 7, 8, 4}, range);
+        } finally {
+            pool.shutdown();
+        }
+
+        ArrayList<Integer> list = ArrayList.of(4, 2, 5, 1, 3);
+        new ParallelMergeSort().sort(list);
+        assertEquals(ArrayList.of(1, 2, 3, 4, 5), list);
+
+        assertThrows(IllegalArgumentException.class, () -> new ParallelMergeSort(ForkJoinPool.commonPool(), 0));
+    }
+}